@@ -0,0 +1,124 @@
+package com.candidex.api.benchmark;
+
+import com.candidex.api.model.Application;
+import com.candidex.api.model.ApplicationLinks;
+import com.candidex.api.model.NextAction;
+import com.candidex.api.model.enums.ApplicationSource;
+import com.candidex.api.model.enums.ApplicationStatus;
+import com.candidex.api.model.enums.EmploymentType;
+import com.candidex.api.model.enums.SalaryPeriod;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic "typical user" applications shared by the benchmarks: a few dozen companies
+ * and roles, most fields set, a location on two thirds and a next action on half of them
+ */
+public final class BenchmarkData {
+
+    public static final String USER_ID = "65f000000000000000000001";
+
+    private static final String[] COMPANIES = {
+            "Doctolib", "Alan", "Qonto", "BlaBlaCar", "Back Market", "Contentsquare", "Datadog", "Mirakl",
+            "Ledger", "Swile", "PayFit", "Algolia", "Dataiku", "Criteo", "Ubisoft", "Deezer", "Withings",
+            "ManoMano", "Malt", "Lydia", "Pennylane", "Spendesk", "Ornikar", "Vinted", "Shift Technology"
+    };
+    private static final String[] ROLES = {
+            "Développeur Backend Java", "Développeur Full Stack", "Ingénieur DevOps", "Développeur Frontend Angular",
+            "Data Engineer", "Software Engineer", "Ingénieur QA", "Tech Lead", "Site Reliability Engineer"
+    };
+    private static final String[][] CITIES = {
+            {"Paris", "France", "2.3522", "48.8566"}, {"Lyon", "France", "4.8357", "45.7640"},
+            {"Nantes", "France", "-1.5536", "47.2184"}, {"Bordeaux", "France", "-0.5792", "44.8378"},
+            {"Lille", "France", "3.0573", "50.6292"}, {"Berlin", "Germany", "13.4050", "52.5200"}
+    };
+    private static final String[] TAGS = {"remote", "hybride", "startup", "scale-up", "java", "kotlin", "cloud"};
+
+    private BenchmarkData() {
+    }
+
+    public static List<Application> applications(int count) {
+        Random random = new Random(42);
+        Instant now = Instant.parse("2026-03-01T10:00:00Z");
+        List<Application> applications = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Instant createdAt = now.minus(random.nextInt(365 * 24), ChronoUnit.HOURS).truncatedTo(ChronoUnit.MILLIS);
+            String company = COMPANIES[random.nextInt(COMPANIES.length)];
+            String[] city = random.nextInt(3) > 0 ? CITIES[random.nextInt(CITIES.length)] : null;
+            applications.add(Application.builder()
+                    .id(String.format("%08x%016x", createdAt.getEpochSecond(), i)) // stable ObjectId-like ids
+                    .userId(USER_ID)
+                    .companyName(company)
+                    .companyDomain(company.toLowerCase().replace(" ", "") + ".com")
+                    .roleTitle(ROLES[random.nextInt(ROLES.length)])
+                    .city(city != null ? city[0] : null)
+                    .country(city != null ? city[1] : null)
+                    .geo(city != null ? new GeoJsonPoint(Double.parseDouble(city[2]), Double.parseDouble(city[3])) : null)
+                    .source(pick(random, ApplicationSource.values()))
+                    .status(pick(random, ApplicationStatus.values()))
+                    .employmentType(pick(random, EmploymentType.values()))
+                    .appliedDate(LocalDate.ofInstant(createdAt, ZoneOffset.UTC).toString())
+                    .salary(random.nextInt(4) > 0 ? 38_000 + random.nextInt(40) * 1_000 : null)
+                    .salaryPeriod(SalaryPeriod.ANNUAL)
+                    .tags(List.of(TAGS[random.nextInt(TAGS.length)], TAGS[random.nextInt(TAGS.length)]))
+                    .links(ApplicationLinks.builder()
+                            .jobPostingUrl("https://jobs.example.com/" + company.toLowerCase().replace(" ", "-") + "/" + i)
+                            .companyWebsiteUrl("https://www." + company.toLowerCase().replace(" ", "") + ".com")
+                            .build())
+                    .nextAction(random.nextBoolean() ? NextAction.builder()
+                            .date(LocalDate.of(2026, 3, 1).plusDays(random.nextInt(60) - 20).toString())
+                            .note("Relancer le recruteur")
+                            .done(random.nextInt(4) == 0)
+                            .build() : null)
+                    .createdAt(createdAt)
+                    .updatedAt(createdAt.plus(random.nextInt(30 * 24), ChronoUnit.HOURS))
+                    .build());
+        }
+        return applications;
+    }
+
+    /**
+     * The documents Spring Data stores for these applications
+     */
+    public static List<Document> documents(List<Application> applications) {
+        MappingMongoConverter converter = converter();
+        List<Document> documents = new ArrayList<>(applications.size());
+        for (Application application : applications) {
+            Document document = new Document();
+            converter.write(application, document);
+            documents.add(document);
+        }
+        return documents;
+    }
+
+    /**
+     * A converter set up like Spring Boot's, without a database
+     */
+    public static MappingMongoConverter converter() {
+        MongoCustomConversions conversions = MongoCustomConversions.create(adapter -> {
+        });
+        MongoMappingContext context = new MongoMappingContext();
+        context.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        context.afterPropertiesSet();
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, context);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        return converter;
+    }
+
+    private static <E> E pick(Random random, E[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
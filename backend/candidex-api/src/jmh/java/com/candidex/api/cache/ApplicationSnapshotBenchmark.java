@@ -0,0 +1,163 @@
+package com.candidex.api.cache;
+
+import com.candidex.api.benchmark.BenchmarkData;
+import com.candidex.api.dto.GeoRadiusFilter;
+import com.candidex.api.model.Application;
+import com.candidex.api.model.enums.ApplicationStatus;
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import org.bson.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.geo.Circle;
+import org.springframework.data.geo.Point;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * ApplicationSnapshot against the Mongo path of ApplicationService for the same list page
+ * (ids of the page + total) and dashboard summary. Fetching the page's documents is the same on
+ * both paths and left out.
+ *
+ * The mongo* benchmarks need a database (docker-compose.dev.yml): -p mongoUri=mongodb://host:27017.
+ * They write to a "candidex_bench" database, dropped at the end.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ApplicationSnapshotBenchmark {
+
+    private static final Pageable PAGE = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "updatedAt"));
+    private static final GeoRadiusFilter NEAR_PARIS = new GeoRadiusFilter(48.8566, 2.3522, 50);
+    private static final double EARTH_RADIUS_KM = 6371.0;
+
+    @Param({"500", "3000"})
+    public int rows;
+
+    @Param("mongodb://localhost:27017")
+    public String mongoUri;
+
+    private ApplicationSnapshot snapshot;
+    private MongoClient client;
+    private MongoTemplate mongo;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Document> documents = BenchmarkData.documents(BenchmarkData.applications(rows));
+        snapshot = ApplicationSnapshot.build(documents);
+
+        client = MongoClients.create(MongoClientSettings.builder()
+                .applyConnectionString(new ConnectionString(mongoUri))
+                .applyToClusterSettings(cluster -> cluster.serverSelectionTimeout(2, TimeUnit.SECONDS))
+                .build());
+        try {
+            MongoTemplate template = new MongoTemplate(client, "candidex_bench");
+            template.dropCollection(Application.class);
+            IndexOperations indexes = template.indexOps(Application.class);
+            IndexResolver.create(new MongoMappingContext()).resolveIndexFor(Application.class).forEach(indexes::ensureIndex);
+            template.insert(documents, "applications");
+            mongo = template;
+        } catch (RuntimeException e) {
+            // snapshot* benchmarks still run
+            System.err.println("Mongo unreachable at " + mongoUri + ": " + e.getMessage());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (mongo != null) {
+            mongo.getDb().drop();
+        }
+        client.close();
+    }
+
+    @Benchmark
+    public ApplicationSnapshot.Page snapshotStatusPage() {
+        return snapshot.query(ApplicationStatus.APPLIED, null, null, Set.of(), null, null, PAGE);
+    }
+
+    @Benchmark
+    public List<String> mongoStatusPage() {
+        return page(new Query(Criteria.where("userId").is(BenchmarkData.USER_ID).and("status").is(ApplicationStatus.APPLIED)));
+    }
+
+    @Benchmark
+    public ApplicationSnapshot.Page snapshotTextNearPage() {
+        return snapshot.query(null, null, "data", Set.of(), null, NEAR_PARIS, PAGE);
+    }
+
+    @Benchmark
+    public List<String> mongoTextNearPage() {
+        String q = Pattern.quote("data");
+        return page(new Query(Criteria.where("userId").is(BenchmarkData.USER_ID))
+                .addCriteria(new Criteria().orOperator(
+                        Criteria.where("companyName").regex(q, "i"),
+                        Criteria.where("roleTitle").regex(q, "i")))
+                .addCriteria(Criteria.where("geo").withinSphere(new Circle(
+                        new Point(NEAR_PARIS.longitude(), NEAR_PARIS.latitude()), NEAR_PARIS.radiusKm() / EARTH_RADIUS_KM))));
+    }
+
+    @Benchmark
+    public long snapshotSummary() {
+        return snapshot.countByStatus()[0] + snapshot.countUpcomingNextActions(LocalDate.of(2026, 3, 1));
+    }
+
+    @Benchmark
+    public long mongoSummary() {
+        long total = 0;
+        for (Document row : mongo().aggregate(Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("userId").is(BenchmarkData.USER_ID)),
+                Aggregation.group("status").count().as("count")), "applications", Document.class)) {
+            total += ((Number) row.get("count")).longValue();
+        }
+        return total + mongo().count(new Query(Criteria.where("userId").is(BenchmarkData.USER_ID)
+                .and("nextAction.date").gte("2026-03-01")
+                .and("nextAction.done").ne(true)), Application.class);
+    }
+
+    /**
+     * count + ids of the page, as ApplicationService does before fetching the page
+     */
+    private List<String> page(Query query) {
+        long total = mongo().count(query, Application.class);
+        query.with(PAGE).fields().include("_id");
+        List<String> ids = new ArrayList<>(PAGE.getPageSize() + 1);
+        for (Document document : mongo().find(query, Document.class, "applications")) {
+            ids.add(document.get("_id").toString());
+        }
+        ids.add(Long.toString(total));
+        return ids;
+    }
+
+    private MongoTemplate mongo() {
+        if (mongo == null) {
+            throw new IllegalStateException("Mongo unreachable at " + mongoUri);
+        }
+        return mongo;
+    }
+}
@@ -0,0 +1,93 @@
+package com.candidex.api.config;
+
+import com.candidex.api.benchmark.BenchmarkData;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialization of a typical list page (100 applications, as returned by GET /applications)
+ * to JSON, CBOR and Smile, with mappers configured like WebConfig's. The payload sizes, raw
+ * and gzipped, are printed at setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseFormatBenchmark {
+
+    private final ObjectMapper json = mapper(new JsonFactory());
+    private final ObjectMapper cbor = mapper(new CBORFactory());
+    private final ObjectMapper smile = mapper(new SmileFactory());
+
+    private Map<String, Object> page;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        page = new LinkedHashMap<>();
+        page.put("items", BenchmarkData.applications(100));
+        page.put("page", 1);
+        page.put("size", 100);
+        page.put("totalItems", 1_240);
+        page.put("totalPages", 13);
+
+        printSize("json", json);
+        printSize("cbor", cbor);
+        printSize("smile", smile);
+    }
+
+    @Benchmark
+    public byte[] json() throws IOException {
+        return json.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] cbor() throws IOException {
+        return cbor.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] smile() throws IOException {
+        return smile.writeValueAsBytes(page);
+    }
+
+    /**
+     * Boot's defaults for the settings that matter here: ISO-8601 dates, well-known modules
+     */
+    private static ObjectMapper mapper(JsonFactory factory) {
+        return Jackson2ObjectMapperBuilder.json()
+                .factory(factory)
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    private void printSize(String format, ObjectMapper mapper) throws IOException {
+        byte[] body = mapper.writeValueAsBytes(page);
+        System.out.printf("%n%s: %d bytes, %d gzipped%n", format, body.length, gzip(body).length);
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,70 @@
+package com.candidex.api.repository.codec;
+
+import com.candidex.api.benchmark.BenchmarkData;
+import com.candidex.api.model.Application;
+import org.bson.BsonBinaryReader;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.DocumentCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decoding a page of 100 applications from the bytes the driver receives: ApplicationCodec
+ * (CodecQueryExecutor) against the default path, Document then MappingMongoConverter
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ApplicationDecodeBenchmark {
+
+    private static final DecoderContext CONTEXT = DecoderContext.builder().build();
+
+    private final ApplicationCodec codec = new ApplicationCodec();
+    private final DocumentCodec documentCodec = new DocumentCodec();
+    private final MappingMongoConverter converter = BenchmarkData.converter();
+
+    private List<RawBsonDocument> page;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        page = new ArrayList<>();
+        for (Document document : BenchmarkData.documents(BenchmarkData.applications(100))) {
+            page.add(new RawBsonDocument(document, documentCodec));
+        }
+    }
+
+    @Benchmark
+    public List<Application> codec() {
+        List<Application> applications = new ArrayList<>(page.size());
+        for (RawBsonDocument raw : page) {
+            try (BsonBinaryReader reader = new BsonBinaryReader(raw.getByteBuffer().asNIO())) {
+                applications.add(codec.decode(reader, CONTEXT));
+            }
+        }
+        return applications;
+    }
+
+    @Benchmark
+    public List<Application> converter() {
+        List<Application> applications = new ArrayList<>(page.size());
+        for (RawBsonDocument raw : page) {
+            try (BsonBinaryReader reader = new BsonBinaryReader(raw.getByteBuffer().asNIO())) {
+                applications.add(converter.read(Application.class, documentCodec.decode(reader, CONTEXT)));
+            }
+        }
+        return applications;
+    }
+}
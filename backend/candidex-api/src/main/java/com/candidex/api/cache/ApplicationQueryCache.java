@@ -0,0 +1,149 @@
+package com.candidex.api.cache;
+
+import com.candidex.api.dto.GeoRadiusFilter;
+import com.candidex.api.model.Application;
+import com.candidex.api.model.enums.ApplicationSource;
+import com.candidex.api.model.enums.ApplicationStatus;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of getAllApplications results keyed by (userId, generation, filters, page, sort).
+ *
+ * Writes bump the user's generation (see UserGenerations) instead of scanning keys, so a
+ * repeated list view is a hit with zero DB calls until the user writes again. Pages also expire
+ * after the entity cache TTL, which caps staleness if a cross-node invalidation is missed.
+ * Hit/miss/eviction metrics are published as "cache.*{cache=application.queries}".
+ */
+@Component
+@RequiredArgsConstructor
+public class ApplicationQueryCache {
+
+    private final UserGenerations generations;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${query-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${query-cache.max-bytes:67108864}")
+    private long maxBytes;
+
+    @Value("${entity-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    private Cache<Key, Page<Application>> pages;
+
+    @PostConstruct
+    void init() {
+        pages = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Key key, Page<Application> page) -> estimateBytes(page))
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, pages, "application.queries");
+    }
+
+    public Page<Application> get(
+            String userId,
+            ApplicationStatus status,
+            ApplicationSource source,
+            String q,
+            String location,
+            GeoRadiusFilter near,
+            Pageable pageable,
+            Supplier<Page<Application>> loader
+    ) {
+        if (!enabled) {
+            return loader.get();
+        }
+        Key key = new Key(
+                userId,
+                generations.current(UserGenerations.Scope.APPLICATIONS, userId),
+                status,
+                source,
+                q,
+                location,
+                near,
+                pageable.getPageNumber(),
+                pageable.getPageSize(),
+                pageable.getSort()
+        );
+        return pages.get(key, k -> loader.get());
+    }
+
+    /**
+     * O(1) invalidation of every cached list of a user
+     */
+    public void invalidate(String userId) {
+        generations.bump(UserGenerations.Scope.APPLICATIONS, userId);
+    }
+
+    public void invalidateAll() {
+        pages.invalidateAll();
+    }
+
+    /**
+     * Rough retained size of a page: object headers plus the text of each item
+     */
+    private static int estimateBytes(Page<Application> page) {
+        int bytes = 256;
+        for (Application application : page.getContent()) {
+            bytes += 400
+                    + chars(application.getCompanyName())
+                    + chars(application.getCompanyDomain())
+                    + chars(application.getRoleTitle())
+                    + chars(application.getCity())
+                    + chars(application.getCountry())
+                    + chars(application.getNotes());
+            List<String> tags = application.getTags();
+            if (tags != null) {
+                for (String tag : tags) {
+                    bytes += 48 + chars(tag);
+                }
+            }
+            if (application.getLinks() != null) {
+                bytes += 128
+                        + chars(application.getLinks().getJobPostingUrl())
+                        + chars(application.getLinks().getCompanyWebsiteUrl())
+                        + chars(application.getLinks().getResumeUrl())
+                        + chars(application.getLinks().getCoverLetterUrl());
+            }
+            if (application.getNextAction() != null) {
+                bytes += 96 + chars(application.getNextAction().getNote());
+            }
+        }
+        return bytes;
+    }
+
+    private static int chars(String value) {
+        return value == null ? 0 : 48 + value.length();
+    }
+
+    private record Key(
+            String userId,
+            long generation,
+            ApplicationStatus status,
+            ApplicationSource source,
+            String q,
+            String location,
+            GeoRadiusFilter near,
+            int page,
+            int size,
+            Sort sort
+    ) {
+    }
+}
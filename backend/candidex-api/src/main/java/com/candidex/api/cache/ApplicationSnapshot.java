@@ -0,0 +1,361 @@
+package com.candidex.api.cache;
+
+import com.candidex.api.dto.GeoRadiusFilter;
+import com.candidex.api.model.enums.ApplicationSource;
+import com.candidex.api.model.enums.ApplicationStatus;
+import org.bson.Document;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Read-only, columnar copy of one user's applications.
+ *
+ * Enums are stored as ordinals in byte arrays, strings are dictionary-encoded and dates are
+ * epoch days (ISO dates) or epoch millis (timestamps), so filters, sorts and group-bys run
+ * over primitive arrays instead of going to Mongo.
+ */
+public final class ApplicationSnapshot {
+
+    private static final byte NONE = -1;
+    private static final int NO_DAY = Integer.MIN_VALUE;
+    private static final long NO_TIME = Long.MIN_VALUE;
+    private static final int NO_SALARY = Integer.MIN_VALUE;
+
+    // Sort keys are packed as (key << INDEX_BITS) | rowIndex and sorted as a long[]
+    private static final int INDEX_BITS = 21;
+    private static final long MAX_KEY = (1L << 42) - 1;
+    static final int MAX_ROWS = 1 << INDEX_BITS;
+
+    // Mean Earth radius, as in ApplicationService ($centerSphere) so both filters agree
+    private static final double EARTH_RADIUS_KM = 6371.0;
+
+    private static final ApplicationStatus[] STATUSES = ApplicationStatus.values();
+    private static final ApplicationSource[] SOURCES = ApplicationSource.values();
+    // Mongo sorts enums stored as strings alphabetically, not by ordinal
+    private static final int[] STATUS_NAME_RANK = nameRanks(STATUSES);
+    private static final int[] SOURCE_NAME_RANK = nameRanks(SOURCES);
+
+    private final int size;
+    private final String[] ids;
+    private final byte[] status;
+    private final byte[] source;
+    private final Dictionary companies;
+    private final Dictionary roles;
+    private final Dictionary cities;
+    private final Dictionary countries;
+    private final int[] company;
+    private final int[] role;
+    private final int[] city;
+    private final int[] country;
+    private final long[] createdAt;
+    private final long[] updatedAt;
+    private final int[] appliedDay;
+    private final int[] nextActionDay;
+    private final byte[] nextActionDone;
+    private final int[] salary;
+    private final float[] latitude;
+    private final float[] longitude;
+
+    private ApplicationSnapshot(int size) {
+        this.size = size;
+        this.ids = new String[size];
+        this.status = new byte[size];
+        this.source = new byte[size];
+        this.companies = new Dictionary();
+        this.roles = new Dictionary();
+        this.cities = new Dictionary();
+        this.countries = new Dictionary();
+        this.company = new int[size];
+        this.role = new int[size];
+        this.city = new int[size];
+        this.country = new int[size];
+        this.createdAt = new long[size];
+        this.updatedAt = new long[size];
+        this.appliedDay = new int[size];
+        this.nextActionDay = new int[size];
+        this.nextActionDone = new byte[size];
+        this.salary = new int[size];
+        this.latitude = new float[size];
+        this.longitude = new float[size];
+    }
+
+    /**
+     * Build a snapshot from raw "applications" documents
+     */
+    static ApplicationSnapshot build(List<Document> documents) {
+        ApplicationSnapshot snapshot = new ApplicationSnapshot(documents.size());
+        for (int i = 0; i < documents.size(); i++) {
+            snapshot.load(i, documents.get(i));
+        }
+        snapshot.companies.seal();
+        snapshot.roles.seal();
+        snapshot.cities.seal();
+        snapshot.countries.seal();
+        return snapshot;
+    }
+
+    private void load(int i, Document doc) {
+        ids[i] = doc.get("_id").toString();
+        status[i] = ordinal(doc.getString("status"), STATUSES);
+        source[i] = ordinal(doc.getString("source"), SOURCES);
+        company[i] = companies.encode(doc.getString("companyName"));
+        role[i] = roles.encode(doc.getString("roleTitle"));
+        city[i] = cities.encode(doc.getString("city"));
+        country[i] = countries.encode(doc.getString("country"));
+        createdAt[i] = epochMillis(doc.get("createdAt"));
+        updatedAt[i] = epochMillis(doc.get("updatedAt"));
+        appliedDay[i] = epochDay(doc.getString("appliedDate"));
+        salary[i] = doc.get("salary") instanceof Number n ? n.intValue() : NO_SALARY;
+
+        Document nextAction = doc.get("nextAction", Document.class);
+        nextActionDay[i] = nextAction != null ? epochDay(nextAction.getString("date")) : NO_DAY;
+        nextActionDone[i] = (byte) (nextAction != null && Boolean.TRUE.equals(nextAction.getBoolean("done")) ? 1 : 0);
+
+        latitude[i] = Float.NaN;
+        longitude[i] = Float.NaN;
+        Document geo = doc.get("geo", Document.class);
+        if (geo != null && geo.get("coordinates") instanceof List<?> coordinates && coordinates.size() == 2) {
+            longitude[i] = ((Number) coordinates.get(0)).floatValue();
+            latitude[i] = ((Number) coordinates.get(1)).floatValue();
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Filter, sort and paginate like ApplicationService.getAllApplications.
+     *
+     * @param noteMatchIds ids whose notes match q (notes are not part of the snapshot)
+     * @return the ids of the requested page and the total, or null if the sort is not supported here
+     */
+    public Page query(
+            ApplicationStatus statusFilter,
+            ApplicationSource sourceFilter,
+            String q,
+            Set<String> noteMatchIds,
+            String location,
+            GeoRadiusFilter near,
+            Pageable pageable
+    ) {
+        SortKey sortKey = sortKey(pageable.getSort());
+        if (sortKey == null) {
+            return null;
+        }
+
+        boolean[] companyMatch = q != null ? companies.matching(q) : null;
+        boolean[] roleMatch = q != null ? roles.matching(q) : null;
+        boolean[] cityMatch = location != null ? cities.matching(location) : null;
+        boolean[] countryMatch = location != null ? countries.matching(location) : null;
+
+        long[] keys = new long[size];
+        int matches = 0;
+        for (int i = 0; i < size; i++) {
+            if (statusFilter != null && status[i] != statusFilter.ordinal()) continue;
+            if (sourceFilter != null && source[i] != sourceFilter.ordinal()) continue;
+            if (q != null && !companyMatch[company[i]] && !roleMatch[role[i]] && !noteMatchIds.contains(ids[i])) continue;
+            if (location != null && !cityMatch[city[i]] && !countryMatch[country[i]]) continue;
+            if (near != null && !within(i, near)) continue;
+            keys[matches++] = (sortKey.key(i) << INDEX_BITS) | i;
+        }
+
+        Arrays.sort(keys, 0, matches);
+
+        List<String> pageIds = new ArrayList<>(pageable.getPageSize());
+        long offset = pageable.getOffset();
+        for (long k = offset; k < matches && pageIds.size() < pageable.getPageSize(); k++) {
+            pageIds.add(ids[(int) (keys[(int) k] & (MAX_ROWS - 1))]);
+        }
+        return new Page(pageIds, matches);
+    }
+
+    /**
+     * Group-by status: counts indexed by ApplicationStatus ordinal
+     */
+    public long[] countByStatus() {
+        long[] counts = new long[STATUSES.length];
+        for (int i = 0; i < size; i++) {
+            if (status[i] != NONE) counts[status[i]]++;
+        }
+        return counts;
+    }
+
+    public long countByStatus(ApplicationStatus statusFilter) {
+        long count = 0;
+        for (int i = 0; i < size; i++) {
+            if (status[i] == statusFilter.ordinal()) count++;
+        }
+        return count;
+    }
+
+    /**
+     * Next actions not done yet, due on or after the given day
+     */
+    public long countUpcomingNextActions(LocalDate from) {
+        int fromDay = (int) from.toEpochDay();
+        long count = 0;
+        for (int i = 0; i < size; i++) {
+            if (nextActionDay[i] != NO_DAY && nextActionDay[i] >= fromDay && nextActionDone[i] == 0) count++;
+        }
+        return count;
+    }
+
+    /**
+     * Sort key for a single-field sort. Nulls sort first in ASC, like Mongo.
+     */
+    private SortKey sortKey(Sort sort) {
+        List<Sort.Order> orders = sort.toList();
+        if (orders.size() > 1) {
+            return null;
+        }
+        Sort.Order order = orders.isEmpty() ? Sort.Order.asc("_id") : orders.get(0);
+
+        SortKey ascending = switch (order.getProperty()) {
+            case "_id", "id" -> i -> i; // rows are loaded in _id order
+            case "updatedAt" -> i -> updatedAt[i] == NO_TIME ? 0 : updatedAt[i] + 1;
+            case "createdAt" -> i -> createdAt[i] == NO_TIME ? 0 : createdAt[i] + 1;
+            case "appliedDate" -> i -> appliedDay[i] == NO_DAY ? 0 : (long) appliedDay[i] - Integer.MIN_VALUE;
+            case "salary" -> i -> salary[i] == NO_SALARY ? 0 : (long) salary[i] - Integer.MIN_VALUE;
+            case "status" -> i -> status[i] == NONE ? 0 : STATUS_NAME_RANK[status[i]] + 1;
+            case "source" -> i -> source[i] == NONE ? 0 : SOURCE_NAME_RANK[source[i]] + 1;
+            case "companyName" -> i -> companies.rank(company[i]);
+            case "roleTitle" -> i -> roles.rank(role[i]);
+            case "city" -> i -> cities.rank(city[i]);
+            case "country" -> i -> countries.rank(country[i]);
+            default -> null;
+        };
+        if (ascending == null || order.isAscending()) {
+            return ascending;
+        }
+        return i -> MAX_KEY - ascending.key(i);
+    }
+
+    private boolean within(int i, GeoRadiusFilter near) {
+        if (Float.isNaN(latitude[i])) {
+            return false;
+        }
+        double lat1 = Math.toRadians(near.latitude());
+        double lat2 = Math.toRadians(latitude[i]);
+        double dLat = lat2 - lat1;
+        double dLon = Math.toRadians(longitude[i] - near.longitude());
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(lat1) * Math.cos(lat2) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.sqrt(a)) <= near.radiusKm();
+    }
+
+    private static <E extends Enum<E>> byte ordinal(String name, E[] values) {
+        if (name == null) {
+            return NONE;
+        }
+        for (E value : values) {
+            if (value.name().equals(name)) return (byte) value.ordinal();
+        }
+        return NONE;
+    }
+
+    private static <E extends Enum<E>> int[] nameRanks(E[] values) {
+        E[] byName = values.clone();
+        Arrays.sort(byName, Comparator.comparing(Enum::name));
+        int[] ranks = new int[values.length];
+        for (int rank = 0; rank < byName.length; rank++) {
+            ranks[byName[rank].ordinal()] = rank;
+        }
+        return ranks;
+    }
+
+    private static long epochMillis(Object value) {
+        return value instanceof Date date ? date.getTime() : NO_TIME;
+    }
+
+    private static int epochDay(String isoDate) {
+        if (isoDate == null || isoDate.isBlank()) {
+            return NO_DAY;
+        }
+        try {
+            return (int) LocalDate.parse(isoDate).toEpochDay();
+        } catch (DateTimeParseException e) {
+            return NO_DAY;
+        }
+    }
+
+    /**
+     * Ids of one page (in order) and the total number of matches
+     */
+    public record Page(List<String> ids, long total) {
+    }
+
+    @FunctionalInterface
+    private interface SortKey {
+        long key(int row);
+    }
+
+    /**
+     * Dictionary encoding for a string column. Code 0 is null.
+     */
+    private static final class Dictionary {
+
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<String> values = new ArrayList<>(List.of(""));
+        private String[] lowerCase;
+        private int[] ranks;
+
+        int encode(String value) {
+            if (value == null) {
+                return 0;
+            }
+            return codes.computeIfAbsent(value, v -> {
+                values.add(v);
+                return values.size() - 1;
+            });
+        }
+
+        void seal() {
+            int n = values.size();
+            lowerCase = new String[n];
+            for (int code = 1; code < n; code++) {
+                lowerCase[code] = values.get(code).toLowerCase(Locale.ROOT);
+            }
+
+            Integer[] byValue = new Integer[n - 1];
+            for (int code = 1; code < n; code++) {
+                byValue[code - 1] = code;
+            }
+            Arrays.sort(byValue, Comparator.comparing(values::get));
+            ranks = new int[n];
+            for (int rank = 0; rank < byValue.length; rank++) {
+                ranks[byValue[rank]] = rank + 1;
+            }
+            codes.clear();
+            values.clear();
+        }
+
+        /**
+         * Case-insensitive "contains", evaluated once per distinct value
+         */
+        boolean[] matching(String text) {
+            String needle = text.trim().toLowerCase(Locale.ROOT);
+            boolean[] match = new boolean[lowerCase.length];
+            for (int code = 1; code < lowerCase.length; code++) {
+                match[code] = lowerCase[code].contains(needle);
+            }
+            return match;
+        }
+
+        long rank(int code) {
+            return ranks[code];
+        }
+    }
+}
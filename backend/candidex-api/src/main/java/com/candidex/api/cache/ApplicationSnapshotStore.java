@@ -0,0 +1,98 @@
+package com.candidex.api.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Opt-in in-memory read engine: lazily loads a user's applications into an ApplicationSnapshot.
+ *
+ * Memory is bounded by the total number of rows held (snapshot.max-rows) and snapshots of
+ * idle users are evicted after snapshot.idle-minutes. Writes invalidate the user's snapshot;
+ * it is also reloaded after the entity cache TTL in case a cross-node invalidation was missed.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ApplicationSnapshotStore {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${snapshot.enabled:false}")
+    private boolean enabled;
+
+    @Value("${snapshot.max-rows:200000}")
+    private long maxRows;
+
+    @Value("${snapshot.idle-minutes:30}")
+    private long idleMinutes;
+
+    @Value("${entity-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    private Cache<String, ApplicationSnapshot> snapshots;
+
+    @PostConstruct
+    void init() {
+        snapshots = Caffeine.newBuilder()
+                .maximumWeight(maxRows)
+                .weigher((String userId, ApplicationSnapshot snapshot) -> Math.max(1, snapshot.size()))
+                .expireAfterAccess(Duration.ofMinutes(idleMinutes))
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Get (loading it if needed) the snapshot of a user's applications, or null if the user has
+     * too many applications to be served from memory
+     */
+    public ApplicationSnapshot get(String userId) {
+        ApplicationSnapshot snapshot = snapshots.get(userId, this::load);
+        return snapshot.size() < ApplicationSnapshot.MAX_ROWS ? snapshot : null;
+    }
+
+    /**
+     * Drop a user's snapshot after a write (an in-flight load is waited for, then discarded)
+     */
+    public void invalidate(String userId) {
+        if (enabled) {
+            snapshots.invalidate(userId);
+        }
+    }
+
+    public void invalidateAll() {
+        if (enabled) {
+            snapshots.invalidateAll();
+        }
+    }
+
+    private ApplicationSnapshot load(String userId) {
+        long start = System.nanoTime();
+        Query query = new Query(Criteria.where("userId").is(userId)).with(Sort.by("_id"));
+        query.fields()
+                .include("status", "source", "companyName", "roleTitle", "city", "country")
+                .include("createdAt", "updatedAt", "appliedDate", "salary", "nextAction.date", "nextAction.done", "geo");
+
+        List<Document> documents = mongoTemplate.find(query, Document.class, "applications");
+        ApplicationSnapshot snapshot = ApplicationSnapshot.build(documents);
+        log.debug("Loaded snapshot of {} applications for user {} in {} ms",
+                snapshot.size(), userId, (System.nanoTime() - start) / 1_000_000);
+        return snapshot;
+    }
+}
@@ -0,0 +1,256 @@
+package com.candidex.api.cache;
+
+import com.mongodb.CursorType;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.core.CollectionOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single entry point for "this user's data changed" notifications.
+ *
+ * Applies the invalidation to the local caches (entity cache, list cache generations,
+ * snapshots) and, when several API replicas run behind the proxy (cache.invalidation.cross-node),
+ * publishes it to the other nodes through a small capped collection that every node tails.
+ * This works on a standalone Mongo (no replica set / change streams needed). If a message is
+ * ever missed, staleness is bounded by entity-cache.ttl-seconds: the entity, list page, response,
+ * iCalendar and snapshot caches and the per-user generation stamps all expire after it.
+ * Every applied change is also published as a DataChangedEvent (e.g. for the SSE stream).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CacheInvalidationBus implements ApplicationRunner, DisposableBean {
+
+    static final String COLLECTION = "cache_invalidations";
+    private static final long CAPPED_SIZE_BYTES = 4L * 1024 * 1024;
+    // Tolerated clock skew between nodes, and ids remembered to skip what is read again
+    private static final int LOOKBACK_SECONDS = 60;
+    private static final int SEEN_CAPACITY = 10_000;
+
+    public enum Type {
+        APPLICATIONS,
+        INTERVIEWS,
+        USER,
+        NOTIFICATIONS
+    }
+
+    private final MongoTemplate mongoTemplate;
+    private final EntityCache entityCache;
+    private final ResponseBytesCache responseCache;
+    private final IcsFeedCache icsFeedCache;
+    private final ApplicationQueryCache queryCache;
+    private final ApplicationSnapshotStore snapshotStore;
+    private final UserGenerations generations;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${cache.invalidation.cross-node:false}")
+    private boolean crossNode;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private volatile boolean running;
+
+    /**
+     * Applications of a user changed
+     *
+     * @param userId owner, or null for a change spanning all users
+     * @param ids changed application ids, or null if unknown
+     */
+    public void applicationsChanged(String userId, Collection<String> ids) {
+        publish(Type.APPLICATIONS, userId, ids);
+    }
+
+    public void interviewsChanged(String userId, Collection<String> ids) {
+        publish(Type.INTERVIEWS, userId, ids);
+    }
+
+    public void userChanged(String userId) {
+        publish(Type.USER, userId, null);
+    }
+
+    /**
+     * Nothing is cached: only relayed as a DataChangedEvent (SSE stream) on every node
+     */
+    public void notificationsChanged(String userId, Collection<String> ids) {
+        publish(Type.NOTIFICATIONS, userId, ids);
+    }
+
+    private void publish(Type type, String userId, Collection<String> ids) {
+        apply(type, userId, ids);
+        if (!crossNode) {
+            return;
+        }
+        try {
+            mongoTemplate.getCollection(COLLECTION).insertOne(new Document("node", nodeId)
+                    .append("type", type.name())
+                    .append("userId", userId)
+                    .append("ids", ids != null ? List.copyOf(ids) : null)
+                    .append("at", new Date()));
+        } catch (Exception e) {
+            // Other nodes will converge when their entries expire
+            log.warn("Failed to publish cache invalidation {} for user {}", type, userId, e);
+        }
+    }
+
+    private void apply(Type type, String userId, Collection<String> ids) {
+        switch (type) {
+            case APPLICATIONS -> {
+                if (ids != null) {
+                    entityCache.evictApplications(ids);
+                    responseCache.evict(ResponseBytesCache.Kind.APPLICATION, ids);
+                } else {
+                    entityCache.evictApplicationsOfUser(userId);
+                    responseCache.evictOfUser(ResponseBytesCache.Kind.APPLICATION, userId);
+                }
+                if (userId != null) {
+                    snapshotStore.invalidate(userId);
+                    queryCache.invalidate(userId);
+                } else {
+                    snapshotStore.invalidateAll();
+                    queryCache.invalidateAll();
+                    generations.bumpAll();
+                }
+            }
+            case INTERVIEWS -> {
+                if (ids != null) {
+                    entityCache.evictInterviews(ids);
+                    responseCache.evict(ResponseBytesCache.Kind.INTERVIEW, ids);
+                } else {
+                    entityCache.evictInterviewsOfUser(userId);
+                    responseCache.evictOfUser(ResponseBytesCache.Kind.INTERVIEW, userId);
+                }
+                if (userId != null) {
+                    generations.bump(UserGenerations.Scope.INTERVIEWS, userId);
+                    icsFeedCache.evict(userId);
+                } else {
+                    generations.bumpAll();
+                    icsFeedCache.evictAll();
+                }
+            }
+            case USER -> entityCache.evictUser(userId);
+            case NOTIFICATIONS -> {
+            }
+        }
+        eventPublisher.publishEvent(new DataChangedEvent(type, userId, ids));
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!crossNode) {
+            return;
+        }
+        try {
+            if (!mongoTemplate.collectionExists(COLLECTION)) {
+                mongoTemplate.createCollection(COLLECTION, CollectionOptions.empty().capped().size(CAPPED_SIZE_BYTES));
+            }
+        } catch (Exception e) {
+            // Another node created it concurrently
+            log.debug("Capped collection {} not created: {}", COLLECTION, e.getMessage());
+        }
+
+        running = true;
+        Thread listener = new Thread(this::listen, "cache-invalidation-listener");
+        listener.setDaemon(true);
+        listener.start();
+        log.info("Cross-node cache invalidation enabled (node {})", nodeId);
+    }
+
+    /**
+     * Tail the capped collection from "now", re-opening the cursor if it dies
+     * (e.g. while the collection is still empty).
+     *
+     * Message ids come from the publishing node's clock, so the cursor reads from LOOKBACK_SECONDS
+     * before the newest id seen: a message from a node whose clock is behind is not skipped, and
+     * the ids already handled are remembered so that nothing is applied twice.
+     */
+    private void listen() {
+        Set<ObjectId> seen = Collections.newSetFromMap(new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ObjectId, Boolean> eldest) {
+                return size() > SEEN_CAPACITY;
+            }
+        });
+        int newest = new ObjectId().getTimestamp();
+        boolean started = false;
+        while (running) {
+            Bson filter = Filters.gte("_id", new ObjectId(newest - LOOKBACK_SECONDS, 0));
+            try {
+                if (!started) {
+                    // Published before this node started: nothing of it is cached here yet
+                    for (Document message : mongoTemplate.getCollection(COLLECTION).find(filter).projection(Projections.include("_id"))) {
+                        seen.add(message.getObjectId("_id"));
+                    }
+                    started = true;
+                }
+                try (MongoCursor<Document> cursor = mongoTemplate.getCollection(COLLECTION)
+                        .find(filter)
+                        .cursorType(CursorType.TailableAwait)
+                        .maxAwaitTime(1, TimeUnit.SECONDS)
+                        .iterator()) {
+                    while (running) {
+                        Document message = cursor.tryNext();
+                        if (message == null) {
+                            if (cursor.getServerCursor() == null) {
+                                break;
+                            }
+                            continue;
+                        }
+                        ObjectId id = message.getObjectId("_id");
+                        if (!seen.add(id)) {
+                            continue;
+                        }
+                        newest = Math.max(newest, id.getTimestamp());
+                        if (!nodeId.equals(message.getString("node"))) {
+                            apply(
+                                    Type.valueOf(message.getString("type")),
+                                    message.getString("userId"),
+                                    message.getList("ids", String.class)
+                            );
+                        }
+                    }
+                }
+            } catch (Exception e) {
+                if (running) {
+                    log.warn("Cache invalidation listener error, reconnecting: {}", e.getMessage());
+                }
+            }
+            sleepQuietly();
+        }
+    }
+
+    private void sleepQuietly() {
+        try {
+            Thread.sleep(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        running = false;
+    }
+}
@@ -0,0 +1,13 @@
+package com.candidex.api.cache;
+
+import java.util.Collection;
+
+/**
+ * In-process notification published by CacheInvalidationBus for every change, local or
+ * received from another node.
+ *
+ * @param userId owner, or null for a change spanning all users
+ * @param ids changed ids, or null if unknown
+ */
+public record DataChangedEvent(CacheInvalidationBus.Type type, String userId, Collection<String> ids) {
+}
@@ -0,0 +1,172 @@
+package com.candidex.api.cache;
+
+import com.candidex.api.model.Application;
+import com.candidex.api.model.Interview;
+import com.candidex.api.model.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Near-cache of single entities read by id (application/interview detail, profile, /me).
+ *
+ * Bounded by size with a TTL that also caps staleness if a cross-node invalidation is missed.
+ * Entries are stored without their @Transient text fields and handed out as copies, because
+ * services mutate the entity they load before saving it.
+ * Evicting all the entries of a user is O(1): entries are stamped when loaded, and one stamped
+ * before its owner's last eviction is reloaded on its next read.
+ * Invalidate through CacheInvalidationBus so that other replicas are notified too.
+ */
+@Component
+@RequiredArgsConstructor
+public class EntityCache {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${entity-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${entity-cache.max-entries:10000}")
+    private long maxEntries;
+
+    @Value("${entity-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private Cache<String, Stamped<Application>> applications;
+    private Cache<String, Stamped<Interview>> interviews;
+    private Cache<String, User> users;
+    // userId -> clock value of the last eviction of all the user's entries
+    private Cache<String, Long> applicationsEvictedAt;
+    private Cache<String, Long> interviewsEvictedAt;
+
+    @PostConstruct
+    void init() {
+        applications = build("entities.applications");
+        interviews = build("entities.interviews");
+        users = build("entities.users");
+        // Kept as long as the entries they apply to (beyond that, staleness is capped by the TTL)
+        applicationsEvictedAt = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+        interviewsEvictedAt = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    private <V> Cache<String, V> build(String name) {
+        Cache<String, V> cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+        return cache;
+    }
+
+    /**
+     * Cached entity, unless it was loaded before the last eviction of its owner's entries
+     *
+     * @param loader loads the entity to cache, or null
+     */
+    private <V> V get(Cache<String, Stamped<V>> cache, Cache<String, Long> evictedAt, Function<V, String> owner,
+                      String id, Function<String, V> loader) {
+        while (true) {
+            Stamped<V> cached = cache.get(id, key -> {
+                long stamp = clock.get(); // before the read: an eviction during the load makes it stale
+                V value = loader.apply(key);
+                return value != null ? new Stamped<>(value, stamp) : null;
+            });
+            if (cached == null) {
+                return null;
+            }
+            String userId = owner.apply(cached.value());
+            Long evicted = userId != null ? evictedAt.getIfPresent(userId) : null;
+            if (evicted == null || evicted <= cached.stamp()) {
+                return cached.value();
+            }
+            cache.asMap().remove(id, cached);
+        }
+    }
+
+    private void evictOfUser(Cache<String, ?> cache, Cache<String, Long> evictedAt, String userId) {
+        if (userId == null) {
+            cache.invalidateAll();
+        } else {
+            evictedAt.put(userId, clock.incrementAndGet());
+        }
+    }
+
+    public Optional<Application> getApplication(String id, Function<String, Optional<Application>> loader) {
+        if (!enabled) {
+            return loader.apply(id);
+        }
+        Application cached = get(applications, applicationsEvictedAt, Application::getUserId, id, key -> loader.apply(key)
+                .map(application -> application.toBuilder().notes(null).build())
+                .orElse(null));
+        return Optional.ofNullable(cached).map(application -> application.toBuilder().build());
+    }
+
+    public Optional<Interview> getInterview(String id, Function<String, Optional<Interview>> loader) {
+        if (!enabled) {
+            return loader.apply(id);
+        }
+        Interview cached = get(interviews, interviewsEvictedAt, Interview::getUserId, id, key -> loader.apply(key)
+                .map(interview -> interview.toBuilder()
+                        .notes(null)
+                        .feedback(null)
+                        .checklistItems(null)
+                        .questionsToAsk(null)
+                        .build())
+                .orElse(null));
+        return Optional.ofNullable(cached).map(interview -> interview.toBuilder().build());
+    }
+
+    public Optional<User> getUser(String id, Function<String, Optional<User>> loader) {
+        if (!enabled) {
+            return loader.apply(id);
+        }
+        User cached = users.get(id, key -> loader.apply(key).orElse(null));
+        return Optional.ofNullable(cached).map(user -> user.toBuilder().build());
+    }
+
+    public void evictApplications(Collection<String> ids) {
+        applications.invalidateAll(ids);
+    }
+
+    /**
+     * Evict every cached application of a user (or of all users when userId is null)
+     */
+    public void evictApplicationsOfUser(String userId) {
+        evictOfUser(applications, applicationsEvictedAt, userId);
+    }
+
+    public void evictInterviews(Collection<String> ids) {
+        interviews.invalidateAll(ids);
+    }
+
+    public void evictInterviewsOfUser(String userId) {
+        evictOfUser(interviews, interviewsEvictedAt, userId);
+    }
+
+    public void evictUser(String userId) {
+        users.invalidate(userId);
+    }
+
+    private record Stamped<V>(V value, long stamp) {
+    }
+}
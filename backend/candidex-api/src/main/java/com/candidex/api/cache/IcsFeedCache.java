@@ -0,0 +1,131 @@
+package com.candidex.api.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Rendered iCalendar feeds (GET /api/v1/interviews/calendar.ics), one per user.
+ *
+ * The feed is streamed to the client while a copy is captured; calendar clients polling an
+ * unchanged feed then get the stored bytes (or a 304) without touching Mongo. Each entry
+ * carries the data stamp it was rendered for, so a write makes it unreachable at once;
+ * CacheInvalidationBus also evicts it to free the memory. Feeds expire after the entity cache
+ * TTL, which caps staleness if a cross-node invalidation is missed.
+ */
+@Component
+@RequiredArgsConstructor
+public class IcsFeedCache {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${ics-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${ics-cache.max-bytes:16777216}")
+    private long maxBytes;
+
+    // Larger feeds are streamed every time
+    @Value("${ics-cache.max-entry-bytes:1048576}")
+    private int maxEntryBytes;
+
+    @Value("${entity-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    private Cache<String, Feed> feeds;
+
+    @PostConstruct
+    void init() {
+        feeds = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String userId, Feed feed) -> feed.body().length + 64)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, feeds, "responses.ics");
+    }
+
+    /**
+     * @return the user's feed rendered for this stamp, or null
+     */
+    public Feed get(String userId, String stamp) {
+        if (!enabled) {
+            return null;
+        }
+        Feed feed = feeds.getIfPresent(userId);
+        return feed != null && feed.stamp().equals(stamp) ? feed : null;
+    }
+
+    /**
+     * Wraps the response stream: what is written goes through to out and, once closed after
+     * a complete render, is stored as the user's feed for this stamp
+     */
+    public OutputStream capture(String userId, String stamp, Instant lastModified, OutputStream out) {
+        if (!enabled) {
+            return out;
+        }
+        return new FilterOutputStream(out) {
+            private ByteArrayOutputStream copy = new ByteArrayOutputStream(8192);
+
+            @Override
+            public void write(int b) throws IOException {
+                out.write(b);
+                if (copy != null) {
+                    copy.write(b);
+                    checkSize();
+                }
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                out.write(b, off, len);
+                if (copy != null) {
+                    copy.write(b, off, len);
+                    checkSize();
+                }
+            }
+
+            @Override
+            public void close() throws IOException {
+                super.close();
+                if (copy != null) {
+                    feeds.put(userId, new Feed(stamp, lastModified, copy.toByteArray()));
+                    copy = null;
+                }
+            }
+
+            private void checkSize() {
+                if (copy.size() > maxEntryBytes) {
+                    copy = null;
+                }
+            }
+        };
+    }
+
+    public void evict(String userId) {
+        feeds.invalidate(userId);
+    }
+
+    public void evictAll() {
+        feeds.invalidateAll();
+    }
+
+    /**
+     * @param stamp version of the user's data the body was rendered from
+     * @param lastModified start of the render (Last-Modified of the response)
+     */
+    public record Feed(String stamp, Instant lastModified, byte[] body) {
+    }
+}
@@ -0,0 +1,201 @@
+package com.candidex.api.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialized JSON of detail responses (application/interview): one entry per document, holding
+ * the body of one version (updatedAt).
+ *
+ * A repeated detail view of an unchanged document is served as-is, with no Jackson pass.
+ * Bounded by the total size of the stored bytes; each entry is a single primitive array, so
+ * the GC never has to trace into it. A new version replaces the entry; CacheInvalidationBus
+ * also drops entries eagerly (writes that don't touch updatedAt, deletes).
+ * Evicting all the entries of a user is O(1), as in EntityCache: entries are stamped when
+ * encoded, and one stamped before its owner's last eviction is re-encoded on its next read.
+ * Entries expire after the entity cache TTL, which caps staleness if an invalidation is missed.
+ * Bodies can be kept gzipped (response-cache.gzip) and sent as-is to gzip-capable clients.
+ */
+@Component
+@RequiredArgsConstructor
+public class ResponseBytesCache {
+
+    public enum Kind {
+        APPLICATION,
+        INTERVIEW
+    }
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${response-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${response-cache.max-bytes:33554432}")
+    private long maxBytes;
+
+    @Value("${response-cache.gzip:false}")
+    private boolean gzip;
+
+    @Value("${entity-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    private final AtomicLong clock = new AtomicLong();
+    // Entries stamped below this are stale: set when an eviction record below is dropped for size
+    private final AtomicLong floor = new AtomicLong();
+
+    private Cache<Key, Entry> entries;
+    // kind:userId -> clock value of the last eviction of all the user's entries of that kind
+    private Cache<String, Long> evictedAt;
+
+    @PostConstruct
+    void init() {
+        entries = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Key key, Entry entry) -> entry.body().length + 64)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, entries, "responses.detail");
+        // Kept as long as the entries they apply to; one dropped earlier for size must not make
+        // older entries fresh again
+        evictedAt = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .evictionListener((String user, Long at, RemovalCause cause) -> {
+                    if (cause == RemovalCause.SIZE) {
+                        floor.accumulateAndGet(at, Math::max);
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * @return true if detail responses should go through get()/put()
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Serialized body of a version, serializing the loaded entity on a miss
+     */
+    public Entry get(Kind kind, String userId, String id, Instant updatedAt, Supplier<?> loader) {
+        Key key = new Key(kind, id);
+        long version = updatedAt.toEpochMilli();
+        Entry cached = entries.getIfPresent(key);
+        if (cached != null && cached.version() == version && isFresh(kind, cached)) {
+            return cached;
+        }
+        long stamp = clock.get(); // before the read: an eviction during the load makes it stale
+        return store(key, encode(userId, version, stamp, loader.get()));
+    }
+
+    /**
+     * Store the version just written (e.g. the PATCH response) so the next read is a hit
+     */
+    public Entry put(Kind kind, String userId, String id, Instant updatedAt, Object body) {
+        return store(new Key(kind, id), encode(userId, updatedAt.toEpochMilli(), clock.get(), body));
+    }
+
+    public void evict(Kind kind, Collection<String> ids) {
+        for (String id : ids) {
+            entries.invalidate(new Key(kind, id));
+        }
+    }
+
+    /**
+     * Evict every cached response of a user (or of all users when userId is null)
+     */
+    public void evictOfUser(Kind kind, String userId) {
+        if (userId == null) {
+            entries.invalidateAll();
+        } else {
+            evictedAt.put(kind + ":" + userId, clock.incrementAndGet());
+        }
+    }
+
+    /**
+     * Keeps the newest version when a slow read of an older one finishes after a write
+     */
+    private Entry store(Key key, Entry entry) {
+        entries.asMap().merge(key, entry, (current, stored) -> stored.version() >= current.version() ? stored : current);
+        return entry;
+    }
+
+    private boolean isFresh(Kind kind, Entry entry) {
+        if (entry.stamp() < floor.get()) {
+            return false;
+        }
+        Long evicted = entry.userId() != null ? evictedAt.getIfPresent(kind + ":" + entry.userId()) : null;
+        return evicted == null || evicted <= entry.stamp();
+    }
+
+    private Entry encode(String userId, long version, long stamp, Object body) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            return gzip
+                    ? new Entry(userId, version, stamp, compress(json), true)
+                    : new Entry(userId, version, stamp, json, false);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to serialize response", e);
+        }
+    }
+
+    private static byte[] compress(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+            gz.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private record Key(Kind kind, String id) {
+    }
+
+    /**
+     * A serialized body, gzip-compressed when gzipped is set
+     *
+     * @param version updatedAt of the serialized document, in epoch millis
+     * @param stamp clock value when it was encoded
+     */
+    public record Entry(String userId, long version, long stamp, byte[] body, boolean gzipped) {
+
+        /**
+         * @return the uncompressed JSON, for clients that don't accept gzip
+         */
+        public byte[] json() {
+            if (!gzipped) {
+                return body;
+            }
+            try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+                return in.readAllBytes();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
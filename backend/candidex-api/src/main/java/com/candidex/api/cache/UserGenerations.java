@@ -0,0 +1,74 @@
+package com.candidex.api.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-user generation counters, bumped on every write to a user's data.
+ *
+ * Caches stamp their keys with the current generation, so invalidating everything a user
+ * has cached is a single O(1) bump: stale entries are simply never looked up again and age
+ * out of their cache. Values come from one global clock, so a counter evicted for an idle
+ * user and re-created later never repeats a previous value.
+ * The same counters are exposed as opaque stamps for collection ETags. A counter is renewed
+ * after the entity cache TTL even without writes, so a missed cross-node invalidation cannot
+ * keep serving the same stamp (and 304s) for longer than that.
+ */
+@Component
+public class UserGenerations {
+
+    public enum Scope {
+        APPLICATIONS,
+        INTERVIEWS
+    }
+
+    // Counters are per process: stamps carry the node so they never collide across replicas/restarts
+    private final String node = UUID.randomUUID().toString().substring(0, 8);
+    private final AtomicLong clock = new AtomicLong();
+
+    @Value("${entity-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    private Cache<String, Long> generations;
+
+    @PostConstruct
+    void init() {
+        generations = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    public long current(Scope scope, String userId) {
+        return generations.get(key(scope, userId), k -> clock.incrementAndGet());
+    }
+
+    public void bump(Scope scope, String userId) {
+        generations.put(key(scope, userId), clock.incrementAndGet());
+    }
+
+    /**
+     * New generation for every user (changes spanning all users)
+     */
+    public void bumpAll() {
+        generations.invalidateAll();
+    }
+
+    /**
+     * Opaque version of a user's collection, e.g. for an ETag
+     */
+    public String stamp(Scope scope, String userId) {
+        return node + "." + current(scope, userId);
+    }
+
+    private static String key(Scope scope, String userId) {
+        return scope.name() + ":" + userId;
+    }
+}
@@ -4,8 +4,10 @@ import com.candidex.api.exception.ApiErrorResponse;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.candidex.api.security.JwtAuthenticationFilter;
 import com.candidex.api.security.RateLimitingFilter;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.context.annotation.Bean;
@@ -73,9 +75,15 @@ public class SecurityConfig {
             
             // Configure authorization
             .authorizeHttpRequests(auth -> auth
+                // Async re-dispatches of an already authorized request (SSE stream completion)
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                 // Public endpoints (no authentication required)
                 .requestMatchers("/api/v1/auth/register", "/api/v1/auth/login").permitAll()
 
+                // iCalendar feed, authenticated by the secret token in its URL
+                .requestMatchers(HttpMethod.GET, "/api/v1/interviews/calendar.ics").permitAll()
+
                 // Health probe for container orchestration / load balancers
                 .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
 
@@ -136,6 +144,8 @@ public class SecurityConfig {
         configuration.setAllowedOrigins(List.of(allowedOrigins.split(",")));
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"));
         configuration.setAllowedHeaders(Arrays.asList("*"));
+        // Pagination cursor of GET /api/v1/interviews, overlaps reported on interview writes
+        configuration.setExposedHeaders(List.of("X-Next-Cursor", "X-Interview-Conflicts"));
         configuration.setAllowCredentials(true);
         
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
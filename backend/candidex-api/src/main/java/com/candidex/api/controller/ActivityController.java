@@ -0,0 +1,44 @@
+package com.candidex.api.controller;
+
+import com.candidex.api.dto.CursorPage;
+import com.candidex.api.dto.SeekCursor;
+import com.candidex.api.model.ActivityEvent;
+import com.candidex.api.service.ActivityService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST Controller for the activity feed
+ * Based on API.md section 10
+ * Base path: /api/v1/activity
+ */
+@RestController
+@RequestMapping("/api/v1/activity")
+@RequiredArgsConstructor
+@Slf4j
+public class ActivityController {
+
+    private final ActivityService activityService;
+
+    /**
+     * Status changes, next action changes and interview events, newest first (cursor-paginated)
+     * GET /api/v1/activity?limit=50&cursor=...
+     */
+    @GetMapping
+    public ResponseEntity<CursorPage<ActivityEvent>> getActivity(
+            Authentication authentication,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + ActivityService.DEFAULT_PAGE_SIZE) int limit
+    ) {
+        String userId = authentication.getName();
+        log.info("GET /api/v1/activity - userId: {}, limit: {}", userId, limit);
+
+        return ResponseEntity.ok(activityService.getActivity(userId, SeekCursor.parse(cursor), limit));
+    }
+}
@@ -0,0 +1,49 @@
+package com.candidex.api.controller;
+
+import com.candidex.api.dto.AgendaPageDto;
+import com.candidex.api.dto.SeekCursor;
+import com.candidex.api.service.AgendaService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+/**
+ * REST Controller for the agenda (next actions and interviews)
+ * Based on API.md section 6
+ * Base path: /api/v1/agenda
+ */
+@RestController
+@RequestMapping("/api/v1/agenda")
+@RequiredArgsConstructor
+@Slf4j
+public class AgendaController {
+
+    private final AgendaService agendaService;
+
+    /**
+     * Next actions and interviews in date order (cursor-paginated)
+     * GET /api/v1/agenda?from=2026-01-01&to=2026-01-31&includeDone=false&limit=50&cursor=...
+     */
+    @GetMapping
+    public ResponseEntity<AgendaPageDto> getAgenda(
+            Authentication authentication,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "false") boolean includeDone,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + AgendaService.DEFAULT_LIMIT) int limit
+    ) {
+        String userId = authentication.getName();
+        log.info("GET /api/v1/agenda - userId: {}, from: {}, to: {}, includeDone: {}, limit: {}", userId, from, to, includeDone, limit);
+
+        return ResponseEntity.ok(agendaService.getAgenda(userId, from, to, includeDone, SeekCursor.parse(cursor), limit));
+    }
+}
@@ -0,0 +1,37 @@
+package com.candidex.api.controller;
+
+import com.candidex.api.dto.FunnelDto;
+import com.candidex.api.service.FunnelService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST Controller for analytics
+ * Based on API.md section 3.3
+ * Base path: /api/v1/analytics
+ */
+@RestController
+@RequestMapping("/api/v1/analytics")
+@RequiredArgsConstructor
+@Slf4j
+public class AnalyticsController {
+
+    private final FunnelService funnelService;
+
+    /**
+     * Funnel, time in stage, and conversion by source and by week of application
+     * GET /api/v1/analytics/funnel
+     */
+    @GetMapping("/funnel")
+    public ResponseEntity<FunnelDto> getFunnel(Authentication authentication) {
+        String userId = authentication.getName();
+        log.info("GET /api/v1/analytics/funnel - userId: {}", userId);
+
+        return ResponseEntity.ok(funnelService.getFunnel(userId));
+    }
+}
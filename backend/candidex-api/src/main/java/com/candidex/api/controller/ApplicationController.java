@@ -1,12 +1,19 @@
 package com.candidex.api.controller;
 
+import com.candidex.api.cache.ResponseBytesCache;
+import com.candidex.api.dto.BatchResultDto;
 import com.candidex.api.dto.BatchUpdateApplicationStatusDto;
 import com.candidex.api.dto.CreateApplicationDto;
+import com.candidex.api.dto.GeoRadiusFilter;
+import com.candidex.api.dto.UndoGhostingDto;
 import com.candidex.api.dto.UpdateApplicationDto;
 import com.candidex.api.model.Application;
+import com.candidex.api.model.GhostingChange;
 import com.candidex.api.model.enums.ApplicationSource;
 import com.candidex.api.model.enums.ApplicationStatus;
 import com.candidex.api.service.ApplicationService;
+import com.candidex.api.service.GeoBackfillService;
+import com.candidex.api.service.GhostingService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,10 +21,14 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.HashMap;
 import java.util.List;
@@ -35,35 +46,50 @@ import java.util.Map;
 public class ApplicationController {
     
     private final ApplicationService applicationService;
+    private final ResponseBytesCache responseCache;
+    private final GeoBackfillService geoBackfillService;
+    private final GhostingService ghostingService;
     
     /**
      * List applications (paginated)
      * GET /api/v1/applications?page=1&size=20&sort=updatedAt,desc
+     * Optional "near me" filter: &near=48.85,2.35&radiusKm=25
      */
     @GetMapping
-    public ResponseEntity<Map<String, Object>> listApplications(
+    public ResponseEntity<?> listApplications(
             Authentication authentication,
             @RequestParam(required = false) ApplicationStatus status,
             @RequestParam(required = false) ApplicationSource source,
             @RequestParam(required = false) String q,
             @RequestParam(required = false) String location,
+            @RequestParam(required = false) String near,
+            @RequestParam(required = false) Double radiusKm,
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "20") int size,
-            @RequestParam(defaultValue = "updatedAt,desc") String sort
+            @RequestParam(defaultValue = "updatedAt,desc") String sort,
+            WebRequest webRequest
     ) {
         String userId = authentication.getName();
         log.info(
-            "GET /api/v1/applications - userId: {}, status: {}, source: {}, q: {}, location: {}, page: {}, size: {}, sort: {}",
+            "GET /api/v1/applications - userId: {}, status: {}, source: {}, q: {}, location: {}, near: {}, radiusKm: {}, page: {}, size: {}, sort: {}",
             userId,
             status,
             source,
             q,
             location,
+            near,
+            radiusKm,
             page,
             size,
             sort
         );
         
+        // Taken before reading, so a concurrent write can only make the ETag older than the data
+        String etag = ETags.ofCollection(webRequest, applicationService.getCollectionStamp(userId));
+        if (ETags.notModified(webRequest, etag)) {
+            return ETags.notModifiedResponse(etag);
+        }
+        
         // Parse sort parameter
         String[] sortParams = sort.split(",");
         String sortField = sortParams[0];
@@ -74,7 +100,15 @@ public class ApplicationController {
         // Create pageable (page is 1-based in API, 0-based in Spring)
         Pageable pageable = PageRequest.of(page - 1, size, Sort.by(direction, sortField));
         
-        Page<Application> pageResult = applicationService.getAllApplications(userId, status, source, q, location, pageable);
+        GeoRadiusFilter geoFilter = GeoRadiusFilter.parse(near, radiusKm);
+        
+        if (applicationService.isListPassthroughEnabled() && !ETags.binaryFormatRequested(webRequest)) {
+            StreamingResponseBody body = out -> applicationService.writeApplicationsPage(
+                    userId, status, source, q, location, geoFilter, pageable, out);
+            return ETags.okBuilder(etag).contentType(MediaType.APPLICATION_JSON).body(body);
+        }
+        
+        Page<Application> pageResult = applicationService.getAllApplications(userId, status, source, q, location, geoFilter, pageable);
         
         // Build response matching API.md section 2.2
         Map<String, Object> response = new HashMap<>();
@@ -84,7 +118,44 @@ public class ApplicationController {
         response.put("totalItems", pageResult.getTotalElements());
         response.put("totalPages", pageResult.getTotalPages());
         
-        return ResponseEntity.ok(response);
+        return ETags.ok(etag, response);
+    }
+    
+    /**
+     * Kanban board: applications grouped by status (streamed)
+     * GET /api/v1/applications/board
+     */
+    @GetMapping("/board")
+    public ResponseEntity<StreamingResponseBody> getBoard(Authentication authentication, WebRequest webRequest) {
+        String userId = authentication.getName();
+        log.info("GET /api/v1/applications/board - userId: {}", userId);
+        
+        String etag = ETags.ofCollection(webRequest, applicationService.getCollectionStamp(userId));
+        if (ETags.notModified(webRequest, etag)) {
+            return ETags.notModifiedResponse(etag);
+        }
+        
+        MediaType type = ETags.responseType(webRequest);
+        StreamingResponseBody body = out -> applicationService.writeBoard(userId, type, out);
+        return ETags.okBuilder(etag).contentType(type).body(body);
+    }
+    
+    /**
+     * Export all applications as a JSON (or CBOR/Smile, per Accept) file (streamed)
+     * GET /api/v1/applications/export
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportApplications(Authentication authentication, WebRequest webRequest) {
+        String userId = authentication.getName();
+        log.info("GET /api/v1/applications/export - userId: {}", userId);
+        
+        MediaType type = ETags.responseType(webRequest);
+        StreamingResponseBody body = out -> applicationService.writeExport(userId, type, out);
+        return ResponseEntity.ok()
+                .contentType(type)
+                .varyBy(HttpHeaders.ACCEPT)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"candidatures." + type.getSubtype().replace("x-jackson-", "") + "\"")
+                .body(body);
     }
     
     /**
@@ -92,15 +163,28 @@ public class ApplicationController {
      * GET /api/v1/applications/{id}
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Application> getApplicationById(
+    public ResponseEntity<?> getApplicationById(
             Authentication authentication,
-            @PathVariable String id
+            @PathVariable String id,
+            WebRequest webRequest
     ) {
         String userId = authentication.getName();
         log.info("GET /api/v1/applications/{} - userId: {}", id, userId);
         
-        Application application = applicationService.getApplicationById(id, userId);
-        return ResponseEntity.ok(application);
+        // Version check from the entity cache, before loading notes and serializing
+        Application current = applicationService.getApplicationById(id, userId);
+        String etag = ETags.ofResource(webRequest, id, current.getUpdatedAt());
+        if (ETags.notModified(webRequest, etag)) {
+            return ETags.notModifiedJsonResponse(etag, webRequest);
+        }
+        
+        if (useResponseCache(etag, webRequest)) {
+            ResponseBytesCache.Entry cached = responseCache.get(ResponseBytesCache.Kind.APPLICATION, userId, id,
+                    current.getUpdatedAt(), () -> applicationService.getApplicationDetail(id, userId));
+            return ETags.okJson(etag, cached, webRequest);
+        }
+        Application application = applicationService.getApplicationDetail(id, userId);
+        return ETags.ok(etag, application);
     }
     
     /**
@@ -124,15 +208,23 @@ public class ApplicationController {
      * PATCH /api/v1/applications/{id}
      */
     @PatchMapping("/{id}")
-    public ResponseEntity<Application> updateApplication(
+    public ResponseEntity<?> updateApplication(
             Authentication authentication,
             @PathVariable String id,
-            @Valid @RequestBody UpdateApplicationDto dto
+            @Valid @RequestBody UpdateApplicationDto dto,
+            WebRequest webRequest
     ) {
         String userId = authentication.getName();
         log.info("PATCH /api/v1/applications/{} - userId: {}", id, userId);
         
         Application updated = applicationService.updateApplication(id, dto, userId);
+        String etag = ETags.ofResource(webRequest, id, updated.getUpdatedAt());
+        if (useResponseCache(etag, webRequest)) {
+            // Serialized once, for this response and the next detail reads
+            ResponseBytesCache.Entry cached = responseCache.put(ResponseBytesCache.Kind.APPLICATION, userId, id,
+                    updated.getUpdatedAt(), updated);
+            return ETags.okJson(etag, cached, webRequest);
+        }
         return ResponseEntity.ok(updated);
     }
 
@@ -149,6 +241,45 @@ public class ApplicationController {
 
         return ResponseEntity.ok(applicationService.batchUpdateStatus(dto.getIds(), dto.getStatus(), userId));
     }
+
+    /**
+     * Applications marked GHOSTED automatically (last 30 days, not undone)
+     * GET /api/v1/applications/auto-ghosted
+     */
+    @GetMapping("/auto-ghosted")
+    public ResponseEntity<List<GhostingChange>> getAutoGhosted(Authentication authentication) {
+        String userId = authentication.getName();
+        log.info("GET /api/v1/applications/auto-ghosted - userId: {}", userId);
+
+        return ResponseEntity.ok(ghostingService.getChanges(userId));
+    }
+
+    /**
+     * Put automatically ghosted applications back in their previous status
+     * POST /api/v1/applications/auto-ghosted/undo
+     */
+    @PostMapping("/auto-ghosted/undo")
+    public ResponseEntity<BatchResultDto> undoAutoGhosted(
+            Authentication authentication,
+            @Valid @RequestBody(required = false) UndoGhostingDto dto
+    ) {
+        String userId = authentication.getName();
+        log.info("POST /api/v1/applications/auto-ghosted/undo - userId: {}", userId);
+
+        return ResponseEntity.ok(ghostingService.undo(userId, dto != null ? dto.getIds() : null));
+    }
+    
+    /**
+     * Geocode the current user's applications that have a city but no coordinates yet
+     * POST /api/v1/applications/geo/backfill
+     */
+    @PostMapping("/geo/backfill")
+    public ResponseEntity<Map<String, Long>> backfillGeo(Authentication authentication) {
+        String userId = authentication.getName();
+        log.info("POST /api/v1/applications/geo/backfill - userId: {}", userId);
+        
+        return ResponseEntity.ok(geoBackfillService.backfill(userId));
+    }
     
     /**
      * Delete application
@@ -165,4 +296,11 @@ public class ApplicationController {
         applicationService.deleteApplication(id, userId);
         return ResponseEntity.noContent().build();
     }
+    
+    /**
+     * Detail responses in JSON of a versioned document go through the serialized bytes cache
+     */
+    private boolean useResponseCache(String etag, WebRequest webRequest) {
+        return responseCache.isEnabled() && etag != null && !ETags.binaryFormatRequested(webRequest);
+    }
 }
@@ -0,0 +1,37 @@
+package com.candidex.api.controller;
+
+import com.candidex.api.dto.DashboardSummaryDto;
+import com.candidex.api.service.ApplicationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST Controller for dashboard metrics
+ * Based on API.md section 3
+ * Base path: /api/v1/dashboard
+ */
+@RestController
+@RequestMapping("/api/v1/dashboard")
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardController {
+
+    private final ApplicationService applicationService;
+
+    /**
+     * Summary metrics
+     * GET /api/v1/dashboard/summary
+     */
+    @GetMapping("/summary")
+    public ResponseEntity<DashboardSummaryDto> getSummary(Authentication authentication) {
+        String userId = authentication.getName();
+        log.info("GET /api/v1/dashboard/summary - userId: {}", userId);
+
+        return ResponseEntity.ok(applicationService.getSummary(userId));
+    }
+}
@@ -0,0 +1,146 @@
+package com.candidex.api.controller;
+
+import com.candidex.api.cache.ResponseBytesCache;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Strong ETags for conditional GETs (If-None-Match -> 304), weak for pre-gzipped bodies.
+ * Single resources are versioned by updatedAt, collections by the user's generation stamp.
+ *
+ * Responses are marked "private, no-cache" (instead of Spring Security's default no-store)
+ * so that browsers keep them and revalidate with If-None-Match. The value carries the
+ * negotiated format (JSON/CBOR/Smile) since each is a different representation.
+ */
+final class ETags {
+
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+    private static final MediaType SMILE = MediaType.valueOf("application/x-jackson-smile");
+
+    private ETags() {
+    }
+
+    /**
+     * @return the ETag of a resource, or null when it has no updatedAt (legacy documents)
+     */
+    static String ofResource(WebRequest request, String id, Instant updatedAt) {
+        if (updatedAt == null) {
+            return null;
+        }
+        return "\"" + id + "-" + updatedAt.toEpochMilli() + format(request) + "\"";
+    }
+
+    static String ofCollection(WebRequest request, String stamp) {
+        return "\"" + stamp + format(request) + "\"";
+    }
+
+    /**
+     * Suffix of the format the message converters will pick
+     */
+    private static String format(WebRequest request) {
+        MediaType type = responseType(request);
+        if (MediaType.APPLICATION_CBOR.equals(type)) {
+            return "-cbor";
+        }
+        return SMILE.equals(type) ? "-smile" : "";
+    }
+
+    /**
+     * The format the message converters will pick: the first acceptable type, by quality then
+     * specificity (header order on ties), that JSON, CBOR or Smile matches; JSON by default
+     */
+    static MediaType responseType(WebRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null || accept.isBlank()) {
+            return MediaType.APPLICATION_JSON;
+        }
+        List<MediaType> acceptable;
+        try {
+            acceptable = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        } catch (InvalidMediaTypeException e) {
+            return MediaType.APPLICATION_JSON;
+        }
+        MimeTypeUtils.sortBySpecificity(acceptable);
+        for (MediaType type : acceptable) {
+            if (type.getQualityValue() == 0) {
+                continue;
+            }
+            if (type.includes(MediaType.APPLICATION_JSON)) {
+                return MediaType.APPLICATION_JSON;
+            }
+            if (type.includes(MediaType.APPLICATION_CBOR)) {
+                return MediaType.APPLICATION_CBOR;
+            }
+            if (type.includes(SMILE)) {
+                return SMILE;
+            }
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+
+    /**
+     * True when the client asked for CBOR or Smile rather than JSON
+     */
+    static boolean binaryFormatRequested(WebRequest request) {
+        return !format(request).isEmpty();
+    }
+
+    /**
+     * @return true if the client already has this version
+     */
+    static boolean notModified(WebRequest request, String etag) {
+        return etag != null && request.checkNotModified(etag);
+    }
+
+    static <T> ResponseEntity<T> notModifiedResponse(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE).varyBy(HttpHeaders.ACCEPT).build();
+    }
+
+    /**
+     * 304 of a resource that may have been served by okJson(), in the form (gzip or not) the client holds
+     */
+    static <T> ResponseEntity<T> notModifiedJsonResponse(String etag, WebRequest request) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        String held = ifNoneMatch != null && ifNoneMatch.contains(weak(etag)) ? weak(etag) : etag;
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(held).cacheControl(REVALIDATE)
+                .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING).build();
+    }
+
+    static <T> ResponseEntity<T> ok(String etag, T body) {
+        return okBuilder(etag).body(body);
+    }
+
+    /**
+     * Pre-serialized JSON body; a gzipped body is sent as-is when the client accepts gzip, under the
+     * weak form of the ETag since its bytes differ (If-None-Match compares weakly, so both forms match)
+     */
+    static ResponseEntity<byte[]> okJson(String etag, ResponseBytesCache.Entry entry, WebRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        boolean sendGzipped = entry.gzipped() && acceptEncoding != null && acceptEncoding.contains("gzip");
+        ResponseEntity.BodyBuilder builder = okBuilder(sendGzipped ? weak(etag) : etag)
+                .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (sendGzipped) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(entry.body());
+        }
+        return builder.body(entry.json());
+    }
+
+    private static String weak(String etag) {
+        return "W/" + etag;
+    }
+
+    static ResponseEntity.BodyBuilder okBuilder(String etag) {
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).varyBy(HttpHeaders.ACCEPT);
+    }
+}
@@ -0,0 +1,49 @@
+package com.candidex.api.controller;
+
+import com.candidex.api.service.ChangeEventService;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * REST Controller for the change notification stream
+ * Based on API.md section 5
+ * Base path: /api/v1/events
+ */
+@RestController
+@RequestMapping("/api/v1/events")
+@RequiredArgsConstructor
+@Slf4j
+public class EventController {
+
+    private final ChangeEventService changeEventService;
+
+    /**
+     * Server-Sent Events stream of application/interview changes
+     * GET /api/v1/events
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+            @RequestParam(required = false) String lastEventId,
+            Authentication authentication,
+            HttpServletResponse response
+    ) {
+        String userId = authentication.getName();
+        log.info("GET /api/v1/events - userId: {}", userId);
+
+        // Disable response buffering in the nginx proxy
+        response.setHeader("X-Accel-Buffering", "no");
+        response.setHeader("Cache-Control", "no-cache");
+
+        return changeEventService.subscribe(userId, lastEventIdHeader != null ? lastEventIdHeader : lastEventId);
+    }
+}
@@ -1,19 +1,39 @@
 package com.candidex.api.controller;
 
+import com.candidex.api.cache.IcsFeedCache;
+import com.candidex.api.cache.ResponseBytesCache;
+import com.candidex.api.dto.BatchInterviewOperationDto;
+import com.candidex.api.dto.BatchResultDto;
 import com.candidex.api.dto.CreateInterviewDto;
+import com.candidex.api.dto.CursorPage;
+import com.candidex.api.dto.InterviewCalendarDto;
+import com.candidex.api.dto.InterviewImportReportDto;
+import com.candidex.api.dto.SeekCursor;
+import com.candidex.api.dto.TimeSlotDto;
 import com.candidex.api.dto.UpdateInterviewDto;
 import com.candidex.api.model.Interview;
 import com.candidex.api.model.enums.InterviewStatus;
+import com.candidex.api.service.InterviewFeedService;
+import com.candidex.api.service.InterviewImportService;
 import com.candidex.api.service.InterviewService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 /**
@@ -26,24 +46,124 @@ import java.util.List;
 @Slf4j
 public class InterviewController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final String CONFLICTS_HEADER = "X-Interview-Conflicts";
+    private static final MediaType TEXT_CALENDAR = MediaType.parseMediaType("text/calendar;charset=UTF-8");
+
     private final InterviewService interviewService;
+    private final ResponseBytesCache responseCache;
+    private final InterviewFeedService interviewFeedService;
+    private final InterviewImportService interviewImportService;
+    private final IcsFeedCache icsFeedCache;
 
     /**
-     * List interviews with optional filters
-     * GET /api/v1/interviews?from=...&to=...&status=...
+     * List interviews with optional filters, in startAt order
+     * GET /api/v1/interviews?from=...&to=...&status=...&limit=200&cursor=...
+     * The cursor of the next page, if any, is returned in the X-Next-Cursor header
      */
     @GetMapping
     public ResponseEntity<List<Interview>> listInterviews(
             Authentication authentication,
             @RequestParam(required = false) Instant from,
             @RequestParam(required = false) Instant to,
-            @RequestParam(required = false) InterviewStatus status
+            @RequestParam(required = false) InterviewStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + InterviewService.DEFAULT_PAGE_SIZE) int limit,
+            WebRequest webRequest
     ) {
         String userId = authentication.getName();
-        log.info("GET /api/v1/interviews - userId: {}", userId);
+        log.info("GET /api/v1/interviews - userId: {}, limit: {}", userId, limit);
+
+        String etag = ETags.ofCollection(webRequest, interviewService.getCollectionStamp(userId));
+        if (ETags.notModified(webRequest, etag)) {
+            return ETags.notModifiedResponse(etag);
+        }
 
-        List<Interview> interviews = interviewService.getInterviews(userId, from, to, status);
-        return ResponseEntity.ok(interviews);
+        CursorPage<Interview> page = interviewService.getInterviews(userId, from, to, status, SeekCursor.parse(cursor), limit);
+        ResponseEntity.BodyBuilder response = ETags.okBuilder(etag);
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(page.items());
+    }
+
+    /**
+     * Interviews of a month or ISO week grouped per day in the given timezone
+     * GET /api/v1/interviews/calendar?month=2026-10&tz=Europe/Paris
+     * GET /api/v1/interviews/calendar?week=2026-W42&tz=Europe/Paris
+     */
+    @GetMapping("/calendar")
+    public ResponseEntity<InterviewCalendarDto> getCalendar(
+            Authentication authentication,
+            @RequestParam(required = false) String month,
+            @RequestParam(required = false) String week,
+            @RequestParam(required = false) String tz,
+            WebRequest webRequest
+    ) {
+        String userId = authentication.getName();
+        log.info("GET /api/v1/interviews/calendar - userId: {}, month: {}, week: {}, tz: {}", userId, month, week, tz);
+
+        String etag = ETags.ofCollection(webRequest, interviewService.getCollectionStamp(userId));
+        if (ETags.notModified(webRequest, etag)) {
+            return ETags.notModifiedResponse(etag);
+        }
+        return ETags.ok(etag, interviewService.getCalendar(userId, month, week, tz));
+    }
+
+    /**
+     * iCalendar subscription feed, for calendar apps (authenticated by the token, no JWT)
+     * GET /api/v1/interviews/calendar.ics?token=...
+     */
+    @GetMapping("/calendar.ics")
+    public ResponseEntity<?> getCalendarFeed(@RequestParam String token, WebRequest webRequest) {
+        String userId = interviewFeedService.resolveUserId(token);
+        log.info("GET /api/v1/interviews/calendar.ics - userId: {}", userId);
+
+        // Polling clients revalidate with If-None-Match or If-Modified-Since: both are answered
+        // from the stamp and the stored render, without querying the interviews
+        String stamp = interviewFeedService.getFeedStamp(userId);
+        String etag = "\"ics-" + stamp + "\"";
+        IcsFeedCache.Feed cached = icsFeedCache.get(userId, stamp);
+        boolean notModified = cached != null
+                ? webRequest.checkNotModified(etag, cached.lastModified().toEpochMilli())
+                : ETags.notModified(webRequest, etag);
+        if (notModified) {
+            return ETags.notModifiedResponse(etag);
+        }
+
+        ResponseEntity.BodyBuilder response = ETags.okBuilder(etag).contentType(TEXT_CALENDAR);
+        if (cached != null) {
+            return response.lastModified(cached.lastModified()).body(cached.body());
+        }
+        Instant lastModified = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        StreamingResponseBody body = out -> {
+            OutputStream capture = icsFeedCache.capture(userId, stamp, lastModified, out);
+            interviewFeedService.writeFeed(userId, capture);
+            capture.close();
+        };
+        return response.lastModified(lastModified).body(body);
+    }
+
+    /**
+     * Free time between scheduled interviews
+     * GET /api/v1/interviews/free-slots?from=...&to=...&minMinutes=30
+     */
+    @GetMapping("/free-slots")
+    public ResponseEntity<List<TimeSlotDto>> getFreeSlots(
+            Authentication authentication,
+            @RequestParam Instant from,
+            @RequestParam Instant to,
+            @RequestParam(defaultValue = "" + InterviewService.DEFAULT_MIN_SLOT_MINUTES) int minMinutes,
+            WebRequest webRequest
+    ) {
+        String userId = authentication.getName();
+        log.info("GET /api/v1/interviews/free-slots - userId: {}, from: {}, to: {}, minMinutes: {}", userId, from, to, minMinutes);
+
+        String etag = ETags.ofCollection(webRequest, interviewService.getCollectionStamp(userId));
+        if (ETags.notModified(webRequest, etag)) {
+            return ETags.notModifiedResponse(etag);
+        }
+        return ETags.ok(etag, interviewService.getFreeSlots(userId, from, to, minMinutes));
     }
 
     /**
@@ -51,15 +171,27 @@ public class InterviewController {
      * GET /api/v1/interviews/{id}
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Interview> getInterviewById(
+    public ResponseEntity<?> getInterviewById(
             Authentication authentication,
-            @PathVariable String id
+            @PathVariable String id,
+            WebRequest webRequest
     ) {
         String userId = authentication.getName();
         log.info("GET /api/v1/interviews/{} - userId: {}", id, userId);
 
-        Interview interview = interviewService.getInterviewById(id, userId);
-        return ResponseEntity.ok(interview);
+        Interview current = interviewService.getInterviewById(id, userId);
+        String etag = ETags.ofResource(webRequest, id, current.getUpdatedAt());
+        if (ETags.notModified(webRequest, etag)) {
+            return ETags.notModifiedJsonResponse(etag, webRequest);
+        }
+
+        if (useResponseCache(etag, webRequest)) {
+            ResponseBytesCache.Entry cached = responseCache.get(ResponseBytesCache.Kind.INTERVIEW, userId, id,
+                    current.getUpdatedAt(), () -> interviewService.getInterviewDetail(id, userId));
+            return ETags.okJson(etag, cached, webRequest);
+        }
+        Interview interview = interviewService.getInterviewDetail(id, userId);
+        return ETags.ok(etag, interview);
     }
 
     /**
@@ -75,7 +207,30 @@ public class InterviewController {
         log.info("POST /api/v1/interviews - userId: {}, app: {}", userId, dto.getApplicationId());
 
         Interview created = interviewService.createInterview(dto, userId);
-        return ResponseEntity.status(HttpStatus.CREATED).body(created);
+        return withConflicts(ResponseEntity.status(HttpStatus.CREATED).body(created), created);
+    }
+
+    /**
+     * Create interviews from an iCalendar (.ics) file, skipping events already imported
+     * POST /api/v1/interviews/import (multipart, field "file")
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<InterviewImportReportDto> importInterviews(
+            Authentication authentication,
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) String applicationId,
+            @RequestParam(defaultValue = "true") boolean matchCompanies,
+            @RequestParam(required = false) String tz
+    ) throws IOException {
+        String userId = authentication.getName();
+        log.info("POST /api/v1/interviews/import - userId: {}, size: {}", userId, file.getSize());
+
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("Le fichier est vide.");
+        }
+        try (InputStream in = file.getInputStream()) {
+            return ResponseEntity.ok(interviewImportService.importIcs(userId, in, applicationId, matchCompanies, tz));
+        }
     }
 
     /**
@@ -83,16 +238,38 @@ public class InterviewController {
      * PATCH /api/v1/interviews/{id}
      */
     @PatchMapping("/{id}")
-    public ResponseEntity<Interview> updateInterview(
+    public ResponseEntity<?> updateInterview(
             Authentication authentication,
             @PathVariable String id,
-            @Valid @RequestBody UpdateInterviewDto dto
+            @Valid @RequestBody UpdateInterviewDto dto,
+            WebRequest webRequest
     ) {
         String userId = authentication.getName();
         log.info("PATCH /api/v1/interviews/{} - userId: {}", id, userId);
 
         Interview updated = interviewService.updateInterview(id, dto, userId);
-        return ResponseEntity.ok(updated);
+        String etag = ETags.ofResource(webRequest, id, updated.getUpdatedAt());
+        if (useResponseCache(etag, webRequest)) {
+            ResponseBytesCache.Entry cached = responseCache.put(ResponseBytesCache.Kind.INTERVIEW, userId, id,
+                    updated.getUpdatedAt(), updated);
+            return withConflicts(ETags.okJson(etag, cached, webRequest), updated);
+        }
+        return withConflicts(ResponseEntity.ok(updated), updated);
+    }
+
+    /**
+     * Set the status of, shift or delete several interviews in one write
+     * PATCH /api/v1/interviews/batch
+     */
+    @PatchMapping("/batch")
+    public ResponseEntity<BatchResultDto> batchUpdate(
+            Authentication authentication,
+            @Valid @RequestBody BatchInterviewOperationDto dto
+    ) {
+        String userId = authentication.getName();
+        log.info("PATCH /api/v1/interviews/batch - userId: {}, action: {}", userId, dto.getAction());
+
+        return ResponseEntity.ok(interviewService.batchUpdate(dto, userId));
     }
 
     /**
@@ -118,12 +295,36 @@ public class InterviewController {
     @GetMapping("/by-application/{applicationId}")
     public ResponseEntity<List<Interview>> getInterviewsByApplication(
             Authentication authentication,
-            @PathVariable String applicationId
+            @PathVariable String applicationId,
+            WebRequest webRequest
     ) {
         String userId = authentication.getName();
         log.info("GET /api/v1/interviews/by-application/{} - userId: {}", applicationId, userId);
 
+        String etag = ETags.ofCollection(webRequest, interviewService.getCollectionStamp(userId));
+        if (ETags.notModified(webRequest, etag)) {
+            return ETags.notModifiedResponse(etag);
+        }
+
         List<Interview> interviews = interviewService.getInterviewsByApplication(applicationId, userId);
-        return ResponseEntity.ok(interviews);
+        return ETags.ok(etag, interviews);
+    }
+
+    /**
+     * Overlapping scheduled interviews are not an error: their ids are returned in X-Interview-Conflicts
+     */
+    private <T> ResponseEntity<T> withConflicts(ResponseEntity<T> response, Interview interview) {
+        List<Interview> conflicts = interviewService.findConflicts(interview);
+        if (conflicts.isEmpty()) {
+            return response;
+        }
+        HttpHeaders headers = new HttpHeaders();
+        headers.addAll(response.getHeaders());
+        headers.set(CONFLICTS_HEADER, String.join(",", conflicts.stream().map(Interview::getId).toList()));
+        return new ResponseEntity<>(response.getBody(), headers, response.getStatusCode());
+    }
+
+    private boolean useResponseCache(String etag, WebRequest webRequest) {
+        return responseCache.isEnabled() && etag != null && !ETags.binaryFormatRequested(webRequest);
     }
 }
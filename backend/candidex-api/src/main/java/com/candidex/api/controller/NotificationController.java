@@ -0,0 +1,58 @@
+package com.candidex.api.controller;
+
+import com.candidex.api.dto.BatchResultDto;
+import com.candidex.api.dto.MarkNotificationsReadDto;
+import com.candidex.api.model.Notification;
+import com.candidex.api.service.NotificationService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST Controller for in-app notifications (reminders)
+ * Base path: /api/v1/notifications
+ */
+@RestController
+@RequestMapping("/api/v1/notifications")
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationController {
+
+    private final NotificationService notificationService;
+
+    /**
+     * Latest notifications first
+     * GET /api/v1/notifications?unreadOnly=false&limit=50
+     */
+    @GetMapping
+    public ResponseEntity<List<Notification>> getNotifications(
+            Authentication authentication,
+            @RequestParam(defaultValue = "false") boolean unreadOnly,
+            @RequestParam(defaultValue = "" + NotificationService.DEFAULT_LIMIT) int limit
+    ) {
+        String userId = authentication.getName();
+        log.info("GET /api/v1/notifications - userId: {}, unreadOnly: {}", userId, unreadOnly);
+
+        return ResponseEntity.ok(notificationService.getNotifications(userId, unreadOnly, limit));
+    }
+
+    /**
+     * Mark notifications as read (all of them without body or ids)
+     * POST /api/v1/notifications/read
+     */
+    @PostMapping("/read")
+    public ResponseEntity<BatchResultDto> markRead(
+            Authentication authentication,
+            @Valid @RequestBody(required = false) MarkNotificationsReadDto dto
+    ) {
+        String userId = authentication.getName();
+        log.info("POST /api/v1/notifications/read - userId: {}", userId);
+
+        return ResponseEntity.ok(notificationService.markRead(userId, dto != null ? dto.getIds() : null));
+    }
+}
@@ -2,6 +2,7 @@ package com.candidex.api.controller;
 
 import com.candidex.api.dto.UpdateProfileDto;
 import com.candidex.api.dto.UserProfileDto;
+import com.candidex.api.model.User;
 import com.candidex.api.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -12,6 +13,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
@@ -39,10 +41,15 @@ public class UserController {
      * GET /api/v1/users/profile
      */
     @GetMapping("/profile")
-    public ResponseEntity<UserProfileDto> getProfile(Authentication authentication) {
+    public ResponseEntity<UserProfileDto> getProfile(Authentication authentication, WebRequest webRequest) {
         String userId = authentication.getName();
+        User user = userService.findUser(userId);
+        String etag = ETags.ofResource(webRequest, userId, user.getUpdatedAt());
+        if (ETags.notModified(webRequest, etag)) {
+            return ETags.notModifiedResponse(etag);
+        }
         UserProfileDto profile = userService.getProfile(userId);
-        return ResponseEntity.ok(profile);
+        return ETags.ok(etag, profile);
     }
     
     /**
@@ -59,6 +66,27 @@ public class UserController {
         return ResponseEntity.ok(profile);
     }
     
+    /**
+     * Create or replace the secret of the interviews iCalendar feed
+     * POST /api/v1/users/profile/calendar-token
+     */
+    @PostMapping("/profile/calendar-token")
+    public ResponseEntity<Map<String, String>> rotateCalendarToken(Authentication authentication) {
+        String userId = authentication.getName();
+        String token = userService.rotateCalendarToken(userId);
+        return ResponseEntity.ok(Map.of("calendarToken", token));
+    }
+    
+    /**
+     * Disable the interviews iCalendar feed
+     * DELETE /api/v1/users/profile/calendar-token
+     */
+    @DeleteMapping("/profile/calendar-token")
+    public ResponseEntity<Void> revokeCalendarToken(Authentication authentication) {
+        userService.revokeCalendarToken(authentication.getName());
+        return ResponseEntity.noContent().build();
+    }
+    
     /**
      * Upload CV file
      * POST /api/v1/users/profile/cv
@@ -0,0 +1,70 @@
+package com.candidex.api.controller;
+
+import com.candidex.api.dto.CreateWebhookDto;
+import com.candidex.api.dto.WebhookEndpointDto;
+import com.candidex.api.service.WebhookService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST Controller for webhook endpoints
+ * Base path: /api/v1/webhooks
+ */
+@RestController
+@RequestMapping("/api/v1/webhooks")
+@RequiredArgsConstructor
+@Slf4j
+public class WebhookController {
+
+    private final WebhookService webhookService;
+
+    /**
+     * Get the user's webhook endpoints (without their secrets)
+     * GET /api/v1/webhooks
+     */
+    @GetMapping
+    public ResponseEntity<List<WebhookEndpointDto>> getWebhooks(Authentication authentication) {
+        String userId = authentication.getName();
+        log.info("GET /api/v1/webhooks - userId: {}", userId);
+
+        return ResponseEntity.ok(webhookService.getEndpoints(userId));
+    }
+
+    /**
+     * Register an endpoint; the response carries the signing secret, shown only once
+     * POST /api/v1/webhooks
+     */
+    @PostMapping
+    public ResponseEntity<WebhookEndpointDto> createWebhook(
+            Authentication authentication,
+            @Valid @RequestBody CreateWebhookDto dto
+    ) {
+        String userId = authentication.getName();
+        log.info("POST /api/v1/webhooks - userId: {}", userId);
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(webhookService.createEndpoint(userId, dto));
+    }
+
+    /**
+     * Delete an endpoint (events not yet delivered to it are dropped)
+     * DELETE /api/v1/webhooks/{id}
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteWebhook(
+            Authentication authentication,
+            @PathVariable String id
+    ) {
+        String userId = authentication.getName();
+        log.info("DELETE /api/v1/webhooks/{} - userId: {}", id, userId);
+
+        webhookService.deleteEndpoint(userId, id);
+        return ResponseEntity.noContent().build();
+    }
+}
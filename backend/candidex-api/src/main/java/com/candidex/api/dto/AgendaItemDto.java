@@ -0,0 +1,67 @@
+package com.candidex.api.dto;
+
+import com.candidex.api.model.enums.ApplicationStatus;
+import com.candidex.api.model.enums.InterviewMode;
+import com.candidex.api.model.enums.InterviewStatus;
+import com.candidex.api.model.enums.InterviewType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Entry of the agenda: an application's next action or an interview
+ * Based on API.md section 6.1
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AgendaItemDto {
+
+    public enum Kind {
+        NEXT_ACTION,
+        INTERVIEW
+    }
+
+    private Kind kind;
+
+    private String applicationId;
+
+    private String companyName;
+
+    private String companyDomain;
+
+    private String roleTitle;
+
+    private ApplicationStatus applicationStatus;
+
+    // Next action
+    private String date; // ISO date (YYYY-MM-DD)
+
+    private String note;
+
+    private Boolean done;
+
+    /**
+     * Next action due before today (UTC) and not done, or interview still scheduled but past
+     */
+    private boolean overdue;
+
+    // Interview
+    private String interviewId;
+
+    private String title;
+
+    private InterviewType type;
+
+    private InterviewMode mode;
+
+    private InterviewStatus status;
+
+    private Instant startAt;
+
+    private Instant endAt;
+}
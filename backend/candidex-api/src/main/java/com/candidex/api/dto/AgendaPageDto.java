@@ -0,0 +1,26 @@
+package com.candidex.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Page of the agenda
+ * Based on API.md section 6.1
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AgendaPageDto {
+
+    private List<AgendaItemDto> items;
+
+    /**
+     * Cursor of the next page, or null on the last page
+     */
+    private String nextCursor;
+}
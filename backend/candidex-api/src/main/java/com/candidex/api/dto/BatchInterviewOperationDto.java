@@ -0,0 +1,41 @@
+package com.candidex.api.dto;
+
+import com.candidex.api.model.enums.InterviewStatus;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Operation applied to several interviews at once, selected by ids or by application
+ * Based on API.md section 7.5
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchInterviewOperationDto {
+
+    public enum Action {
+        SET_STATUS,
+        SHIFT,
+        DELETE
+    }
+
+    @NotNull
+    private Action action;
+
+    @Size(max = 1000)
+    private List<String> ids;
+
+    private String applicationId; // all interviews of this application (instead of ids)
+
+    private InterviewStatus status; // SET_STATUS
+
+    private Duration shift; // SHIFT, ISO-8601 (e.g. "PT2H", "-P1D")
+}
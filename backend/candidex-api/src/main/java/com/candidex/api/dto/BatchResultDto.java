@@ -0,0 +1,20 @@
+package com.candidex.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Counts of a batch write
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchResultDto {
+
+    private long matched; // documents selected (owned by the user)
+
+    private long modified; // documents actually changed (or deleted)
+}
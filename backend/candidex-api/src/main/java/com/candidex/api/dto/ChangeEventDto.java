@@ -0,0 +1,32 @@
+package com.candidex.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.Collection;
+
+/**
+ * Compact change notification pushed on the SSE stream
+ * Based on API.md section 5.1
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChangeEventDto {
+
+    /**
+     * "applications" or "interviews"
+     */
+    private String entity;
+
+    /**
+     * Changed ids, or null when the whole collection of the user must be reloaded
+     */
+    private Collection<String> ids;
+
+    private Instant at;
+}
@@ -41,6 +41,15 @@ public class CreateApplicationDto {
     @Size(max = 100)
     private String country;
     
+    // Optional coordinates (both required to be taken into account)
+    @DecimalMin("-90.0")
+    @DecimalMax("90.0")
+    private Double latitude;
+    
+    @DecimalMin("-180.0")
+    @DecimalMax("180.0")
+    private Double longitude;
+    
     @NotNull(message = "Source is required")
     private ApplicationSource source;
     
@@ -0,0 +1,30 @@
+package com.candidex.api.dto;
+
+import com.candidex.api.model.enums.WebhookEventType;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+/**
+ * DTO for registering a webhook endpoint
+ * Based on API.md section 9
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CreateWebhookDto {
+
+    @NotBlank(message = "URL is required")
+    @Size(max = 500)
+    private String url;
+
+    @NotEmpty(message = "At least one event is required")
+    private Set<WebhookEventType> events;
+}
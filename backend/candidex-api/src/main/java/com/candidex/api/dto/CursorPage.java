@@ -0,0 +1,11 @@
+package com.candidex.api.dto;
+
+import java.util.List;
+
+/**
+ * Page of a keyset-paginated read
+ *
+ * @param nextCursor encoded SeekCursor of the next page, or null on the last page
+ */
+public record CursorPage<T>(List<T> items, String nextCursor) {
+}
@@ -0,0 +1,26 @@
+package com.candidex.api.dto;
+
+import com.candidex.api.model.enums.ApplicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * DTO for the dashboard summary
+ * Based on API.md section 3.1
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DashboardSummaryDto {
+
+    private long totalApplications;
+
+    private Map<ApplicationStatus, Long> byStatus;
+
+    private long upcomingNextActions;
+}
@@ -0,0 +1,74 @@
+package com.candidex.api.dto;
+
+import com.candidex.api.model.enums.ApplicationSource;
+import com.candidex.api.model.enums.ApplicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * DTO for the funnel and time-in-stage analytics
+ * Based on API.md section 3.3
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FunnelDto {
+
+    private long totalApplications;
+
+    private List<Stage> stages;
+
+    private List<Segment> bySource;
+
+    private List<Segment> byWeek; // latest weeks first
+
+    private Instant computedAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Stage {
+
+        private ApplicationStatus status;
+
+        private long reached; // applications that got to this stage or a later one
+
+        private Double conversion; // reached / reached of the previous stage (null for APPLIED or when 0)
+
+        private Double medianDays; // time spent in the stage before the next status (null: none left it yet)
+
+        private long exits; // stays the median is computed on
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Segment {
+
+        private ApplicationSource source; // bySource
+
+        private String weekStart; // byWeek, ISO date of the Monday
+
+        private long applications;
+
+        private long responses; // interview or rejection
+
+        private long interviews;
+
+        private long offers;
+
+        private double responseRate;
+
+        private double interviewRate;
+
+        private double offerRate;
+    }
+}
@@ -0,0 +1,47 @@
+package com.candidex.api.dto;
+
+/**
+ * "Near me" filter for the applications list
+ * Parsed from ?near=lat,lon&radiusKm=
+ */
+public record GeoRadiusFilter(double latitude, double longitude, double radiusKm) {
+
+    public static final double DEFAULT_RADIUS_KM = 25;
+    public static final double MAX_RADIUS_KM = 1000;
+
+    /**
+     * Parse the query parameters, or return null when no "near" filter is requested.
+     *
+     * @throws IllegalArgumentException if the parameters are malformed or out of range
+     */
+    public static GeoRadiusFilter parse(String near, Double radiusKm) {
+        if (near == null || near.isBlank()) {
+            return null;
+        }
+
+        String[] parts = near.split(",");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Paramètre 'near' invalide (format attendu : lat,lon).");
+        }
+
+        double latitude;
+        double longitude;
+        try {
+            latitude = Double.parseDouble(parts[0].trim());
+            longitude = Double.parseDouble(parts[1].trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Paramètre 'near' invalide (format attendu : lat,lon).");
+        }
+
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("Coordonnées hors limites.");
+        }
+
+        double radius = radiusKm != null ? radiusKm : DEFAULT_RADIUS_KM;
+        if (radius <= 0 || radius > MAX_RADIUS_KM) {
+            throw new IllegalArgumentException("Le rayon doit être compris entre 0 et " + (int) MAX_RADIUS_KM + " km.");
+        }
+
+        return new GeoRadiusFilter(latitude, longitude, radius);
+    }
+}
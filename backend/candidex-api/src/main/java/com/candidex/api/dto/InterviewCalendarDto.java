@@ -0,0 +1,75 @@
+package com.candidex.api.dto;
+
+import com.candidex.api.model.enums.InterviewMode;
+import com.candidex.api.model.enums.InterviewStatus;
+import com.candidex.api.model.enums.InterviewType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Interviews of a month or week bucketed per day in the viewer's timezone
+ * Based on API.md section 7.1
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InterviewCalendarDto {
+
+    private String from; // ISO date, first day (inclusive)
+
+    private String to; // ISO date, last day (inclusive)
+
+    private String timezone;
+
+    /**
+     * Days with at least one interview, in date order
+     */
+    private List<Day> days;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Day {
+
+        private String date; // ISO date in the requested timezone
+
+        private int count;
+
+        private List<Event> events;
+    }
+
+    /**
+     * Compact interview summary (no notes or prep lists)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Event {
+
+        private String id;
+
+        private String applicationId;
+
+        private String title;
+
+        private InterviewType type;
+
+        private InterviewMode mode;
+
+        private InterviewStatus status;
+
+        private Instant startAt;
+
+        private Instant endAt;
+
+        private String timezone; // interview's own timezone, if set
+    }
+}
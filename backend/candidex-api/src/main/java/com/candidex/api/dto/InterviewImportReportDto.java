@@ -0,0 +1,34 @@
+package com.candidex.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Result of an iCalendar import
+ * Based on API.md section 7.4
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InterviewImportReportDto {
+
+    private int events; // VEVENTs read
+
+    private int imported;
+
+    private int duplicates; // UID already imported (earlier import or repeated in the file)
+
+    private int unmatched; // no application found for the event and no default application
+
+    private int invalid; // missing UID/DTSTART, unreadable dates, too long
+
+    /**
+     * First problems found, with the line of the event
+     */
+    private List<String> errors;
+}
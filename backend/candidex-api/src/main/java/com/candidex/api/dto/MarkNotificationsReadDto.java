@@ -0,0 +1,23 @@
+package com.candidex.api.dto;
+
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Notifications to mark as read (all of them when ids is missing or empty)
+ * Based on API.md section 8
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MarkNotificationsReadDto {
+
+    @Size(max = 1000)
+    private List<String> ids;
+}
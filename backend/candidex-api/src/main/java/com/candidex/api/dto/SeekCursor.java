@@ -0,0 +1,43 @@
+package com.candidex.api.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Keyset pagination position: the (at, kind, id) of the last item returned, for feeds
+ * sorted by date then id (agenda, interview list, activity).
+ * Sent to clients as an opaque string (?cursor=).
+ *
+ * @param at epoch millis of the item (midnight UTC for an agenda next action)
+ * @param kind rank of the item type on the same instant (agenda sources), or position of the
+ *             item in its document (activity bucket); 0 otherwise
+ * @param id document id
+ */
+public record SeekCursor(long at, int kind, String id) {
+
+    public String encode() {
+        String raw = at + ":" + kind + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Parse the query parameter, or return null for the first page.
+     *
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static SeekCursor parse(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":", 3);
+            if (parts.length != 3 || parts[2].isEmpty()) {
+                throw new IllegalArgumentException("Paramètre 'cursor' invalide.");
+            }
+            return new SeekCursor(Long.parseLong(parts[0]), Integer.parseInt(parts[1]), parts[2]);
+        } catch (IllegalArgumentException e) {
+            // Also covers bad base64 and NumberFormatException
+            throw new IllegalArgumentException("Paramètre 'cursor' invalide.");
+        }
+    }
+}
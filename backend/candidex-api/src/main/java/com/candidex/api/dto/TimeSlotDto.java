@@ -0,0 +1,25 @@
+package com.candidex.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Free time between interviews
+ * Based on API.md section 7.2
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TimeSlotDto {
+
+    private Instant startAt;
+
+    private Instant endAt; // exclusive
+
+    private long minutes;
+}
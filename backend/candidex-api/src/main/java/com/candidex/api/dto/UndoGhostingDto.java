@@ -0,0 +1,23 @@
+package com.candidex.api.dto;
+
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Applications whose automatic GHOSTED status is undone (all of them when ids is missing or empty)
+ * Based on API.md section 2.9
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UndoGhostingDto {
+
+    @Size(max = 1000)
+    private List<String> ids;
+}
@@ -6,6 +6,8 @@ import com.candidex.api.model.enums.ApplicationSource;
 import com.candidex.api.model.enums.ApplicationStatus;
 import com.candidex.api.model.enums.EmploymentType;
 import com.candidex.api.model.enums.SalaryPeriod;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
@@ -41,6 +43,15 @@ public class UpdateApplicationDto {
     @Size(max = 100)
     private String country;
     
+    // Optional coordinates (both required to be taken into account)
+    @DecimalMin("-90.0")
+    @DecimalMax("90.0")
+    private Double latitude;
+    
+    @DecimalMin("-180.0")
+    @DecimalMax("180.0")
+    private Double longitude;
+    
     private ApplicationSource source;
     
     private ApplicationStatus status;
@@ -1,5 +1,7 @@
 package com.candidex.api.dto;
 
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -38,4 +40,8 @@ public class UpdateProfileDto {
     
     @Size(max = 200)
     private String portfolioUrl;
+
+    @Min(0)
+    @Max(365)
+    private Integer ghostingDays; // 0 disables automatic ghosting, otherwise at least 7
 }
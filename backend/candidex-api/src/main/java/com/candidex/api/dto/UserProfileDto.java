@@ -26,6 +26,8 @@ public class UserProfileDto {
     private String portfolioUrl;
     private String cvFilename;
     private String cvOriginalFilename;
+    private String calendarToken;
+    private Integer ghostingDays; // effective value (the default when not set)
     private String createdAt;
     private String updatedAt;
 }
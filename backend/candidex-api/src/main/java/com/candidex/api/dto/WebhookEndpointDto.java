@@ -0,0 +1,27 @@
+package com.candidex.api.dto;
+
+import com.candidex.api.model.enums.WebhookEventType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * DTO for webhook endpoint response
+ * Based on API.md section 9
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WebhookEndpointDto {
+
+    private String id;
+    private String url;
+    private Set<WebhookEventType> events;
+    private Instant createdAt;
+    private String secret; // only returned when the endpoint is created
+}
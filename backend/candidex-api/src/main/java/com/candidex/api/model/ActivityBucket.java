@@ -0,0 +1,43 @@
+package com.candidex.api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Up to ActivityService.BUCKET_SIZE activity events of a user on a day (UTC), in the order they
+ * were appended: a page of the feed reads a few documents instead of one per event.
+ * A full day continues in a new bucket, with a greater id.
+ * Based on API.md section 10
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Document(collection = "activity_buckets")
+// Open bucket lookup on append (userId, day) and feed order (day desc, _id desc)
+@CompoundIndex(name = "user_day_id_idx", def = "{'userId': 1, 'day': -1, '_id': -1}")
+public class ActivityBucket {
+
+    @Id
+    private String id;
+
+    private String userId;
+
+    private String day; // ISO date (YYYY-MM-DD), UTC
+
+    private int count;
+
+    private Instant firstAt;
+
+    private Instant lastAt;
+
+    private List<ActivityEvent> events;
+}
@@ -0,0 +1,42 @@
+package com.candidex.api.model;
+
+import com.candidex.api.model.enums.ActivityType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Entry of the activity feed, embedded in an ActivityBucket
+ * Based on API.md section 10
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ActivityEvent {
+
+    private ActivityType type;
+
+    private Instant at;
+
+    private String applicationId;
+
+    private String companyName;
+
+    private String roleTitle;
+
+    private String interviewId;
+
+    private String title; // interview title
+
+    private Instant startAt; // interview start
+
+    private String previousStatus; // APPLICATION_STATUS_CHANGED
+
+    private String status; // application or interview status
+
+    private NextAction nextAction; // NEXT_ACTION_CHANGED (null: removed)
+}
@@ -11,6 +11,8 @@ import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
 import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
@@ -26,10 +28,16 @@ import java.util.List;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 @Document(collection = "applications")
 @CompoundIndex(name = "user_updated_idx", def = "{'userId': 1, 'updatedAt': -1}")
 @CompoundIndex(name = "user_status_updated_idx", def = "{'userId': 1, 'status': 1, 'updatedAt': -1}")
+@CompoundIndex(name = "user_geo_idx", def = "{'userId': 1, 'geo': '2dsphere'}")
+@CompoundIndex(name = "user_next_action_idx", def = "{'userId': 1, 'nextAction.date': 1, '_id': 1}")
+// Reminders: next actions of all users due in the coming hours
+@CompoundIndex(name = "next_action_date_idx", def = "{'nextAction.date': 1}")
+// Cross-user scan of the ghosting detector
+@CompoundIndex(name = "status_updatedAt_idx", def = "{'status': 1, 'updatedAt': 1, '_id': 1}")
 public class Application {
     
     @Id
@@ -56,6 +64,12 @@ public class Application {
     @Size(max = 100)
     private String country;
     
+    /**
+     * Optional coordinates of city/country (GeoJSON point, [longitude, latitude]).
+     * Set from the client when known, otherwise resolved from the local gazetteer.
+     */
+    private GeoJsonPoint geo;
+    
     @NotNull(message = "Source is required")
     private ApplicationSource source;
     
@@ -79,6 +93,10 @@ public class Application {
     
     private ApplicationLinks links;
     
+    /**
+     * Stored in "application_notes" (see ApplicationNotes), only loaded by the detail endpoint.
+     */
+    @Transient
     @Size(max = 5000, message = "Notes must not exceed 5000 characters")
     private String notes;
     
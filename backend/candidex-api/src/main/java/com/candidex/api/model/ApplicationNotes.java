@@ -0,0 +1,35 @@
+package com.candidex.api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import jakarta.validation.constraints.Size;
+import java.time.Instant;
+
+/**
+ * Free-text notes of an Application, kept out of the hot "applications" documents
+ * Same id as the application it belongs to
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Document(collection = "application_notes")
+public class ApplicationNotes {
+
+    @Id
+    private String id; // = Application.id
+
+    @Indexed
+    private String userId;
+
+    @Size(max = 5000, message = "Notes must not exceed 5000 characters")
+    private String notes;
+
+    private Instant updatedAt;
+}
@@ -0,0 +1,46 @@
+package com.candidex.api.model;
+
+import com.candidex.api.model.enums.ApplicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * Application moved to GHOSTED by the ghosting detector, kept so that the user can undo it
+ * Based on API.md section 2.9
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Document(collection = "ghosting_changes")
+@CompoundIndex(name = "user_ghostedAt_idx", def = "{'userId': 1, 'ghostedAt': -1}")
+public class GhostingChange {
+
+    @Id
+    private String id;
+
+    private String userId;
+
+    private String applicationId;
+
+    private String companyName;
+
+    private String roleTitle;
+
+    private ApplicationStatus previousStatus;
+
+    private Instant lastActivityAt; // updatedAt before the change
+
+    @Indexed(name = "ghostedAt_ttl_idx", expireAfter = "30d") // undo window
+    private Instant ghostedAt;
+
+    private Instant undoneAt;
+}
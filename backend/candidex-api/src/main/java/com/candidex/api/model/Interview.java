@@ -10,6 +10,7 @@ import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.annotation.Transient;
 import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
@@ -24,10 +25,15 @@ import java.util.List;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 @Document(collection = "interviews")
 @CompoundIndex(name = "user_startAt_idx", def = "{'userId': 1, 'startAt': 1}")
 @CompoundIndex(name = "user_app_idx", def = "{'userId': 1, 'applicationId': 1}")
+@CompoundIndex(name = "user_status_startAt_idx", def = "{'userId': 1, 'status': 1, 'startAt': 1, '_id': 1}")
+// Reminders: upcoming scheduled interviews of all users
+@CompoundIndex(name = "status_startAt_idx", def = "{'status': 1, 'startAt': 1}")
+@CompoundIndex(name = "user_icalUid_idx", def = "{'userId': 1, 'icalUid': 1}", unique = true,
+        partialFilter = "{'icalUid': {'$exists': true}}")
 public class Interview {
 
     @Id
@@ -64,18 +70,28 @@ public class Interview {
     @Builder.Default
     private InterviewStatus status = InterviewStatus.SCHEDULED;
 
+    // notes, feedback, checklistItems and questionsToAsk are stored in "interview_details"
+    // (see InterviewDetails) and only loaded by the detail endpoint.
+
+    @Transient
     @Size(max = 5000)
     private String notes;
 
+    @Transient
     @Size(max = 5000)
     private String feedback;
 
+    @Transient
     private List<String> checklistItems;
 
+    @Transient
     private List<String> questionsToAsk;
 
     private List<String> links;
 
+    // UID of the iCalendar event this interview was imported from (duplicate detection)
+    private String icalUid;
+
     @CreatedDate
     private Instant createdAt;
 
@@ -0,0 +1,43 @@
+package com.candidex.api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import jakarta.validation.constraints.Size;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Large text fields of an Interview (notes, feedback, prep lists), kept out of the hot "interviews" documents
+ * Same id as the interview it belongs to
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Document(collection = "interview_details")
+public class InterviewDetails {
+
+    @Id
+    private String id; // = Interview.id
+
+    @Indexed
+    private String userId;
+
+    @Size(max = 5000)
+    private String notes;
+
+    @Size(max = 5000)
+    private String feedback;
+
+    private List<String> checklistItems;
+
+    private List<String> questionsToAsk;
+
+    private Instant updatedAt;
+}
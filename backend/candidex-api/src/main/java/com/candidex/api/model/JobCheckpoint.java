@@ -0,0 +1,45 @@
+package com.candidex.api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * Progress of a batch job run over all users (e.g. "digest:2026-02-07"), so that an
+ * interrupted run is resumed where it stopped, by this node or another one
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Document(collection = "job_checkpoints")
+public class JobCheckpoint {
+
+    @Id
+    private String id;
+
+    private String position; // where to resume: the job's scan key of the last item done
+
+    private long processed;
+
+    private long changed; // e.g. e-mails sent, documents updated
+
+    private long failed;
+
+    private String owner; // node running the job, while leaseUntil is not past
+
+    private Instant leaseUntil;
+
+    private Instant startedAt;
+
+    private Instant completedAt;
+
+    @Indexed(name = "updatedAt_ttl_idx", expireAfter = "30d")
+    private Instant updatedAt;
+}
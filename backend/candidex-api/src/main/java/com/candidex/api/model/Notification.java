@@ -0,0 +1,52 @@
+package com.candidex.api.model;
+
+import com.candidex.api.model.enums.NotificationType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * In-app notification (reminders)
+ * Based on API.md section 8
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Document(collection = "notifications")
+@CompoundIndex(name = "user_createdAt_idx", def = "{'userId': 1, 'createdAt': -1}")
+public class Notification {
+
+    /**
+     * Derived from what it is about (e.g. "interview:{id}:{startAt}"), so that a reminder fired
+     * by several API replicas is only stored, and sent, once
+     */
+    @Id
+    private String id;
+
+    private String userId;
+
+    private NotificationType type;
+
+    private String title;
+
+    private String message;
+
+    private String applicationId;
+
+    private String interviewId;
+
+    private Instant dueAt; // start of the interview, or day of the next action
+
+    private boolean read;
+
+    @Indexed(name = "createdAt_ttl_idx", expireAfter = "90d")
+    private Instant createdAt;
+}
@@ -0,0 +1,47 @@
+package com.candidex.api.model;
+
+import com.candidex.api.model.enums.ApplicationSource;
+import com.candidex.api.model.enums.ApplicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * Status an application entered, and when. source and appliedWeek are copies of the
+ * application's, kept in sync, so that the funnel groups without a join.
+ * Based on API.md section 3.3
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Document(collection = "status_transitions")
+// Funnel pipeline: $match on userId, then partitions by application in time order
+@CompoundIndex(name = "user_application_at_idx", def = "{'userId': 1, 'applicationId': 1, 'at': 1}")
+public class StatusTransition {
+
+    @Id
+    private String id; // "seed:<applicationId>" for applications created before the history existed
+
+    private String userId;
+
+    private String applicationId;
+
+    private ApplicationStatus status;
+
+    private ApplicationStatus previousStatus;
+
+    private int stage; // rank in the funnel (APPLIED 0 ... OFFER and after 3), -1 for REJECTED/GHOSTED
+
+    private Instant at;
+
+    private ApplicationSource source;
+
+    private String appliedWeek; // ISO date (YYYY-MM-DD) of the Monday of the application week
+}
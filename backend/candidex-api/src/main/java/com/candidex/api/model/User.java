@@ -22,7 +22,7 @@ import java.time.Instant;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 @Document(collection = "users")
 public class User {
     
@@ -57,6 +57,15 @@ public class User {
     private String portfolioUrl; // Personal website/portfolio
     private String cvFilename; // Uploaded CV filename (stored on disk)
     private String cvOriginalFilename; // Original CV filename (displayed to user)
+
+    // Secret of the interviews iCalendar feed URL (calendar apps can't send a JWT)
+    @Indexed(unique = true, sparse = true)
+    private String calendarToken;
+
+    // Days without activity before an application is marked GHOSTED automatically
+    // (null: default, 0: never). Indexed for the detector's smallest threshold lookup.
+    @Indexed(name = "ghostingDays_idx", sparse = true)
+    private Integer ghostingDays;
     
     @CreatedDate
     private Instant createdAt;
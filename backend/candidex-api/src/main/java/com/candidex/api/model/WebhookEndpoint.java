@@ -0,0 +1,39 @@
+package com.candidex.api.model;
+
+import com.candidex.api.model.enums.WebhookEventType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * URL registered by a user to receive events
+ * Based on API.md section 9
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Document(collection = "webhook_endpoints")
+public class WebhookEndpoint {
+
+    @Id
+    private String id;
+
+    @Indexed
+    private String userId;
+
+    private String url;
+
+    private String secret; // HMAC-SHA256 key of the X-Candidex-Signature header
+
+    private Set<WebhookEventType> events;
+
+    private Instant createdAt;
+}
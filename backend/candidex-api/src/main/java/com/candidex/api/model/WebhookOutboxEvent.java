@@ -0,0 +1,44 @@
+package com.candidex.api.model;
+
+import com.candidex.api.model.enums.WebhookEventType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Event written next to the change it describes, delivered to the user's endpoints afterwards
+ * by WebhookDispatcher (outbox pattern)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Document(collection = "webhook_outbox")
+// Only pending events carry the field: the dispatcher's scan index stays small
+@CompoundIndex(name = "pending_id_idx", def = "{'pending': 1, '_id': 1}", sparse = true)
+public class WebhookOutboxEvent {
+
+    @Id
+    private String id;
+
+    private String userId;
+
+    private WebhookEventType type;
+
+    private Map<String, Object> data;
+
+    private Boolean pending; // true until delivered to every endpoint (or given up), then removed
+
+    @Indexed(name = "createdAt_ttl_idx", expireAfter = "7d")
+    private Instant createdAt;
+
+    private Instant deliveredAt;
+}
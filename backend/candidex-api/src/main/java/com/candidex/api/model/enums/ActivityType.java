@@ -0,0 +1,14 @@
+package com.candidex.api.model.enums;
+
+/**
+ * Entries of the activity feed
+ * Based on API.md section 10
+ */
+public enum ActivityType {
+    APPLICATION_CREATED,
+    APPLICATION_STATUS_CHANGED,
+    NEXT_ACTION_CHANGED,
+    INTERVIEW_CREATED,
+    INTERVIEW_UPDATED,
+    INTERVIEW_DELETED
+}
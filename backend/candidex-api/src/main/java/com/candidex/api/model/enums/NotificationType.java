@@ -0,0 +1,9 @@
+package com.candidex.api.model.enums;
+
+/**
+ * Kind of in-app notification
+ */
+public enum NotificationType {
+    INTERVIEW_REMINDER,
+    NEXT_ACTION_DUE
+}
@@ -0,0 +1,12 @@
+package com.candidex.api.model.enums;
+
+/**
+ * Events sent to webhook endpoints
+ * Based on API.md section 9
+ */
+public enum WebhookEventType {
+    APPLICATION_STATUS_CHANGED,
+    INTERVIEW_CREATED,
+    INTERVIEW_UPDATED,
+    INTERVIEW_DELETED
+}
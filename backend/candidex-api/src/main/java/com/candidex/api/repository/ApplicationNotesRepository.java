@@ -0,0 +1,12 @@
+package com.candidex.api.repository;
+
+import com.candidex.api.model.ApplicationNotes;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for ApplicationNotes (companion of Application)
+ */
+@Repository
+public interface ApplicationNotesRepository extends MongoRepository<ApplicationNotes, String> {
+}
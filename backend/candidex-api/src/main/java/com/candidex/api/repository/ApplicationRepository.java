@@ -41,8 +41,9 @@ public interface ApplicationRepository extends MongoRepository<Application, Stri
     
     /**
      * Search by company name or role title (case-insensitive)
+     * Notes are stored in application_notes and are not searched here
      */
-    @Query("{ 'userId': ?0, $or: [ { 'companyName': { $regex: ?1, $options: 'i' } }, { 'roleTitle': { $regex: ?1, $options: 'i' } }, { 'notes': { $regex: ?1, $options: 'i' } } ] }")
+    @Query("{ 'userId': ?0, $or: [ { 'companyName': { $regex: ?1, $options: 'i' } }, { 'roleTitle': { $regex: ?1, $options: 'i' } } ] }")
     Page<Application> searchByUserIdAndQuery(String userId, String query, Pageable pageable);
     
     /**
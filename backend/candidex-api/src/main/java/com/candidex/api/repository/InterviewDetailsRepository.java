@@ -0,0 +1,12 @@
+package com.candidex.api.repository;
+
+import com.candidex.api.model.InterviewDetails;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for InterviewDetails (companion of Interview)
+ */
+@Repository
+public interface InterviewDetailsRepository extends MongoRepository<InterviewDetails, String> {
+}
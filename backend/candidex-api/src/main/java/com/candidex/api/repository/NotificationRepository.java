@@ -0,0 +1,12 @@
+package com.candidex.api.repository;
+
+import com.candidex.api.model.Notification;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for Notification entity
+ */
+@Repository
+public interface NotificationRepository extends MongoRepository<Notification, String> {
+}
@@ -0,0 +1,138 @@
+package com.candidex.api.repository;
+
+import com.candidex.api.cache.DataChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mongodb.ReadPreference;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read preference per workload on a replica set.
+ *
+ * Writes and interactive reads (detail views, ownership checks) always use the primary
+ * MongoTemplate. Heavy read-only workloads (lists/search, dashboard stats, exports) can be
+ * sent to secondaries, each with its own read preference and a shared maxStalenessSeconds.
+ *
+ * Read-your-writes: a user whose data changed less than maxStalenessSeconds ago (on this
+ * node or any other, see DataChangedEvent) is pinned to the primary, since a secondary may
+ * not have replicated the write yet. A standalone server ignores secondary preferences.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReadRouting {
+
+    public enum Workload {
+        LIST,
+        ANALYTICS,
+        EXPORT
+    }
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoDatabaseFactory mongoDatabaseFactory;
+
+    @Value("${read-routing.enabled:false}")
+    private boolean enabled;
+
+    // 90 s is the smallest value the driver accepts
+    @Value("${read-routing.max-staleness-seconds:90}")
+    private long maxStalenessSeconds;
+
+    @Value("${read-routing.list:secondaryPreferred}")
+    private String listMode;
+
+    @Value("${read-routing.analytics:secondaryPreferred}")
+    private String analyticsMode;
+
+    @Value("${read-routing.export:secondaryPreferred}")
+    private String exportMode;
+
+    private final Map<Workload, ReadPreference> preferences = new EnumMap<>(Workload.class);
+    private final Map<Workload, MongoTemplate> templates = new EnumMap<>(Workload.class);
+    private Cache<String, Boolean> recentWriters;
+    private volatile long globalWriteUntil;
+
+    @PostConstruct
+    void init() {
+        recentWriters = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(Duration.ofSeconds(maxStalenessSeconds))
+                .build();
+        if (!enabled) {
+            return;
+        }
+        preferences.put(Workload.LIST, preference(listMode));
+        preferences.put(Workload.ANALYTICS, preference(analyticsMode));
+        preferences.put(Workload.EXPORT, preference(exportMode));
+
+        // One template per distinct read preference, sharing the client and the mapping
+        Map<ReadPreference, MongoTemplate> byPreference = new HashMap<>();
+        preferences.forEach((workload, preference) -> templates.put(workload, byPreference.computeIfAbsent(preference, p -> {
+            MongoTemplate template = new MongoTemplate(mongoDatabaseFactory, mongoTemplate.getConverter());
+            template.setReadPreference(p);
+            return template;
+        })));
+        log.info("Read routing enabled: {}", preferences);
+    }
+
+    private ReadPreference preference(String mode) {
+        if ("primary".equalsIgnoreCase(mode)) {
+            return ReadPreference.primary();
+        }
+        return ReadPreference.valueOf(mode, List.of(), maxStalenessSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Template for a heavy read of a user's data: the workload's template, or the primary one
+     * when routing is off or the user wrote recently
+     */
+    public MongoTemplate template(Workload workload, String userId) {
+        return pinnedToPrimary(userId) ? mongoTemplate : templates.get(workload);
+    }
+
+    /**
+     * Template for a batch read across users (jobs), where a few seconds of staleness are fine
+     */
+    public MongoTemplate template(Workload workload) {
+        return enabled ? templates.get(workload) : mongoTemplate;
+    }
+
+    /**
+     * Same decision as template(), for reads going through the driver directly
+     */
+    public ReadPreference readPreference(Workload workload, String userId) {
+        return pinnedToPrimary(userId) ? ReadPreference.primary() : preferences.get(workload);
+    }
+
+    private boolean pinnedToPrimary(String userId) {
+        return !enabled
+                || System.currentTimeMillis() < globalWriteUntil
+                || recentWriters.getIfPresent(userId) != null;
+    }
+
+    @EventListener
+    public void onDataChanged(DataChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (event.userId() == null) {
+            globalWriteUntil = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(maxStalenessSeconds);
+        } else {
+            recentWriters.put(event.userId(), Boolean.TRUE);
+        }
+    }
+}
@@ -22,4 +22,9 @@ public interface UserRepository extends MongoRepository<User, String> {
      * Check if user exists by email
      */
     boolean existsByEmail(String email);
+
+    /**
+     * Find user by iCalendar feed token (unique, sparse)
+     */
+    Optional<User> findByCalendarToken(String calendarToken);
 }
@@ -0,0 +1,20 @@
+package com.candidex.api.repository;
+
+import com.candidex.api.model.WebhookEndpoint;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository for WebhookEndpoint entity
+ */
+@Repository
+public interface WebhookEndpointRepository extends MongoRepository<WebhookEndpoint, String> {
+
+    List<WebhookEndpoint> findByUserId(String userId);
+
+    long countByUserId(String userId);
+
+    long deleteByIdAndUserId(String id, String userId);
+}
@@ -0,0 +1,199 @@
+package com.candidex.api.repository.codec;
+
+import com.candidex.api.model.Application;
+import com.candidex.api.model.ApplicationLinks;
+import com.candidex.api.model.NextAction;
+import com.candidex.api.model.enums.ApplicationSource;
+import com.candidex.api.model.enums.ApplicationStatus;
+import com.candidex.api.model.enums.EmploymentType;
+import com.candidex.api.model.enums.SalaryPeriod;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+
+import static com.candidex.api.repository.codec.BsonFields.*;
+
+/**
+ * Direct BSON <-> Application codec for the list hot path: no reflection and no
+ * intermediate Document. Produces the same layout as the Spring Data mapping
+ * (field names, ObjectId ids, enum names, GeoJSON point); unknown and @Transient
+ * legacy fields are skipped.
+ */
+public class ApplicationCodec implements Codec<Application> {
+
+    @Override
+    public Application decode(BsonReader reader, DecoderContext decoderContext) {
+        Application application = new Application();
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            String name = reader.readName();
+            if (skipNull(reader)) {
+                continue;
+            }
+            switch (name) {
+                case "_id" -> application.setId(readId(reader));
+                case "userId" -> application.setUserId(readString(reader));
+                case "companyName" -> application.setCompanyName(readString(reader));
+                case "companyDomain" -> application.setCompanyDomain(readString(reader));
+                case "roleTitle" -> application.setRoleTitle(readString(reader));
+                case "city" -> application.setCity(readString(reader));
+                case "country" -> application.setCountry(readString(reader));
+                case "geo" -> application.setGeo(readPoint(reader));
+                case "source" -> application.setSource(readEnum(reader, ApplicationSource.class));
+                case "status" -> application.setStatus(readEnum(reader, ApplicationStatus.class));
+                case "employmentType" -> application.setEmploymentType(readEnum(reader, EmploymentType.class));
+                case "appliedDate" -> application.setAppliedDate(readString(reader));
+                case "salary" -> application.setSalary(readInteger(reader));
+                case "currency" -> application.setCurrency(readString(reader));
+                case "salaryPeriod" -> application.setSalaryPeriod(readEnum(reader, SalaryPeriod.class));
+                case "tags" -> application.setTags(readStringList(reader));
+                case "links" -> application.setLinks(readLinks(reader));
+                case "nextAction" -> application.setNextAction(readNextAction(reader));
+                case "createdAt" -> application.setCreatedAt(readInstant(reader));
+                case "updatedAt" -> application.setUpdatedAt(readInstant(reader));
+                default -> reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+        return application;
+    }
+
+    private static GeoJsonPoint readPoint(BsonReader reader) {
+        if (reader.getCurrentBsonType() != BsonType.DOCUMENT) {
+            reader.skipValue();
+            return null;
+        }
+        double x = Double.NaN;
+        double y = Double.NaN;
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            if ("coordinates".equals(reader.readName()) && reader.getCurrentBsonType() == BsonType.ARRAY) {
+                reader.readStartArray();
+                if (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                    x = readDouble(reader);
+                }
+                if (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                    y = readDouble(reader);
+                }
+                while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                    reader.skipValue();
+                }
+                reader.readEndArray();
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+        return Double.isNaN(x) || Double.isNaN(y) ? null : new GeoJsonPoint(x, y);
+    }
+
+    private static ApplicationLinks readLinks(BsonReader reader) {
+        if (reader.getCurrentBsonType() != BsonType.DOCUMENT) {
+            reader.skipValue();
+            return null;
+        }
+        ApplicationLinks links = new ApplicationLinks();
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            String name = reader.readName();
+            if (skipNull(reader)) {
+                continue;
+            }
+            switch (name) {
+                case "jobPostingUrl" -> links.setJobPostingUrl(readString(reader));
+                case "companyWebsiteUrl" -> links.setCompanyWebsiteUrl(readString(reader));
+                case "resumeUrl" -> links.setResumeUrl(readString(reader));
+                case "coverLetterUrl" -> links.setCoverLetterUrl(readString(reader));
+                default -> reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+        return links;
+    }
+
+    private static NextAction readNextAction(BsonReader reader) {
+        if (reader.getCurrentBsonType() != BsonType.DOCUMENT) {
+            reader.skipValue();
+            return null;
+        }
+        NextAction nextAction = new NextAction();
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            String name = reader.readName();
+            if (skipNull(reader)) {
+                continue;
+            }
+            switch (name) {
+                case "date" -> nextAction.setDate(readString(reader));
+                case "note" -> nextAction.setNote(readString(reader));
+                case "done" -> nextAction.setDone(readBoolean(reader));
+                default -> reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+        return nextAction;
+    }
+
+    @Override
+    public void encode(BsonWriter writer, Application application, EncoderContext encoderContext) {
+        writer.writeStartDocument();
+        writeId(writer, application.getId());
+        writeString(writer, "userId", application.getUserId());
+        writeString(writer, "companyName", application.getCompanyName());
+        writeString(writer, "companyDomain", application.getCompanyDomain());
+        writeString(writer, "roleTitle", application.getRoleTitle());
+        writeString(writer, "city", application.getCity());
+        writeString(writer, "country", application.getCountry());
+        if (application.getGeo() != null) {
+            writer.writeStartDocument("geo");
+            writer.writeString("type", "Point");
+            writer.writeStartArray("coordinates");
+            writer.writeDouble(application.getGeo().getX());
+            writer.writeDouble(application.getGeo().getY());
+            writer.writeEndArray();
+            writer.writeEndDocument();
+        }
+        writeEnum(writer, "source", application.getSource());
+        writeEnum(writer, "status", application.getStatus());
+        writeEnum(writer, "employmentType", application.getEmploymentType());
+        writeString(writer, "appliedDate", application.getAppliedDate());
+        if (application.getSalary() != null) {
+            writer.writeInt32("salary", application.getSalary());
+        }
+        writeString(writer, "currency", application.getCurrency());
+        writeEnum(writer, "salaryPeriod", application.getSalaryPeriod());
+        writeStringList(writer, "tags", application.getTags());
+        ApplicationLinks links = application.getLinks();
+        if (links != null) {
+            writer.writeStartDocument("links");
+            writeString(writer, "jobPostingUrl", links.getJobPostingUrl());
+            writeString(writer, "companyWebsiteUrl", links.getCompanyWebsiteUrl());
+            writeString(writer, "resumeUrl", links.getResumeUrl());
+            writeString(writer, "coverLetterUrl", links.getCoverLetterUrl());
+            writer.writeEndDocument();
+        }
+        NextAction nextAction = application.getNextAction();
+        if (nextAction != null) {
+            writer.writeStartDocument("nextAction");
+            writeString(writer, "date", nextAction.getDate());
+            writeString(writer, "note", nextAction.getNote());
+            if (nextAction.getDone() != null) {
+                writer.writeBoolean("done", nextAction.getDone());
+            }
+            writer.writeEndDocument();
+        }
+        writeInstant(writer, "createdAt", application.getCreatedAt());
+        writeInstant(writer, "updatedAt", application.getUpdatedAt());
+        writer.writeString("_class", Application.class.getName());
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public Class<Application> getEncoderClass() {
+        return Application.class;
+    }
+}
@@ -0,0 +1,138 @@
+package com.candidex.api.repository.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.RawBsonDocument;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * Streams a BSON document straight to a JSON generator, producing the same JSON as Jackson
+ * would for the mapped entity: "_id" -> "id" (ObjectId as hex), dates as ISO-8601 strings,
+ * GeoJSON points with their x/y accessors, null values omitted (non_null inclusion).
+ * Nothing is materialized in between (no entity, no Document).
+ */
+public final class BsonJsonTranscoder {
+
+    private final Set<String> skippedFields;
+
+    /**
+     * @param skippedFields top-level fields never written (e.g. "_class", legacy @Transient fields)
+     */
+    public BsonJsonTranscoder(Set<String> skippedFields) {
+        this.skippedFields = skippedFields;
+    }
+
+    /**
+     * Reads the raw bytes directly (RawBsonDocument.asBsonReader() wraps them in a buffer
+     * whose string reads allocate several times more per document).
+     */
+    public void writeDocument(RawBsonDocument document, JsonGenerator json) throws IOException {
+        try (BsonBinaryReader reader = new BsonBinaryReader(document.getByteBuffer().asNIO())) {
+            writeDocument(reader, json, true);
+        }
+    }
+
+    public void writeDocument(BsonReader reader, JsonGenerator json) throws IOException {
+        writeDocument(reader, json, true);
+    }
+
+    private void writeDocument(BsonReader reader, JsonGenerator json, boolean topLevel) throws IOException {
+        reader.readStartDocument();
+        json.writeStartObject();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            String name = reader.readName();
+            BsonType type = reader.getCurrentBsonType();
+            if (type == BsonType.NULL || type == BsonType.UNDEFINED || (topLevel && skippedFields.contains(name))) {
+                reader.skipValue();
+                continue;
+            }
+            if (topLevel && "_id".equals(name)) {
+                json.writeFieldName("id");
+            } else {
+                json.writeFieldName(name);
+            }
+            if (type == BsonType.DOCUMENT && "geo".equals(name)) {
+                writeGeoPoint(reader, json);
+            } else {
+                writeValue(reader, json, type);
+            }
+        }
+        reader.readEndDocument();
+        json.writeEndObject();
+    }
+
+    private void writeValue(BsonReader reader, JsonGenerator json, BsonType type) throws IOException {
+        switch (type) {
+            case STRING -> json.writeString(reader.readString());
+            case OBJECT_ID -> json.writeString(reader.readObjectId().toHexString());
+            case DATE_TIME -> json.writeString(Instant.ofEpochMilli(reader.readDateTime()).toString());
+            case INT32 -> json.writeNumber(reader.readInt32());
+            case INT64 -> json.writeNumber(reader.readInt64());
+            case DOUBLE -> json.writeNumber(reader.readDouble());
+            case DECIMAL128 -> json.writeNumber(reader.readDecimal128().bigDecimalValue());
+            case BOOLEAN -> json.writeBoolean(reader.readBoolean());
+            case DOCUMENT -> writeDocument(reader, json, false);
+            case ARRAY -> {
+                reader.readStartArray();
+                json.writeStartArray();
+                BsonType elementType;
+                while ((elementType = reader.readBsonType()) != BsonType.END_OF_DOCUMENT) {
+                    if (elementType == BsonType.NULL) {
+                        reader.readNull();
+                        json.writeNull();
+                    } else {
+                        writeValue(reader, json, elementType);
+                    }
+                }
+                reader.readEndArray();
+                json.writeEndArray();
+            }
+            default -> {
+                reader.skipValue();
+                json.writeNull();
+            }
+        }
+    }
+
+    /**
+     * {type, coordinates: [x, y]} -> same shape as Jackson's rendering of GeoJsonPoint
+     */
+    private void writeGeoPoint(BsonReader reader, JsonGenerator json) throws IOException {
+        double x = Double.NaN;
+        double y = Double.NaN;
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            if ("coordinates".equals(reader.readName()) && reader.getCurrentBsonType() == BsonType.ARRAY) {
+                reader.readStartArray();
+                if (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                    x = BsonFields.readDouble(reader);
+                }
+                if (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                    y = BsonFields.readDouble(reader);
+                }
+                while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                    reader.skipValue();
+                }
+                reader.readEndArray();
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+
+        json.writeStartObject();
+        json.writeNumberField("x", x);
+        json.writeNumberField("y", y);
+        json.writeStringField("type", "Point");
+        json.writeArrayFieldStart("coordinates");
+        json.writeNumber(x);
+        json.writeNumber(y);
+        json.writeEndArray();
+        json.writeEndObject();
+    }
+}
@@ -0,0 +1,115 @@
+package com.candidex.api.repository.codec;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.ReadPreference;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCursor;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs Spring Data Query objects on the driver with the hand-written entity codecs, so that
+ * results are decoded straight from BSON into Application/Interview.
+ *
+ * Criteria are mapped with the same QueryMapper as MongoTemplate (id -> _id, enums, geo
+ * shapes), and errors go through MongoTemplate's exception translation.
+ */
+@Component
+public class CodecQueryExecutor {
+
+    private final MongoTemplate mongoTemplate;
+    private final QueryMapper queryMapper;
+    private final CodecRegistry codecRegistry;
+
+    public CodecQueryExecutor(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+        this.queryMapper = new QueryMapper(mongoTemplate.getConverter());
+        this.codecRegistry = CodecRegistries.fromRegistries(
+                CodecRegistries.fromCodecs(new ApplicationCodec(), new InterviewCodec()),
+                MongoClientSettings.getDefaultCodecRegistry()
+        );
+    }
+
+    /**
+     * Same semantics as MongoTemplate.find(query, type) for codec-backed entities
+     */
+    public <T> List<T> find(Query query, Class<T> type) {
+        return find(query, type, ReadPreference.primary());
+    }
+
+    /**
+     * @param readPreference see ReadRouting
+     */
+    public <T> List<T> find(Query query, Class<T> type, ReadPreference readPreference) {
+        MongoPersistentEntity<?> entity = mongoTemplate.getConverter().getMappingContext().getRequiredPersistentEntity(type);
+        return mongoTemplate.execute(entity.getCollection(), collection ->
+                prepare(collection.withCodecRegistry(codecRegistry).withReadPreference(readPreference)
+                        .find(mappedFilter(query, entity), type), query, entity)
+                        .into(new ArrayList<>()));
+    }
+
+    /**
+     * Iterate the matching documents without decoding them (see BsonJsonTranscoder)
+     *
+     * @throws IOException from the handler (e.g. the client went away)
+     */
+    public void forEachRaw(Query query, Class<?> type, ReadPreference readPreference, RawDocumentHandler handler) throws IOException {
+        MongoPersistentEntity<?> entity = mongoTemplate.getConverter().getMappingContext().getRequiredPersistentEntity(type);
+        try {
+            mongoTemplate.execute(entity.getCollection(), collection -> {
+                FindIterable<RawBsonDocument> found = collection.withReadPreference(readPreference)
+                        .find(mappedFilter(query, entity), RawBsonDocument.class);
+                try (MongoCursor<RawBsonDocument> cursor = prepare(found, query, entity).iterator()) {
+                    while (cursor.hasNext()) {
+                        handler.handle(cursor.next());
+                    }
+                } catch (IOException e) {
+                    // Not a driver exception: passed through untranslated, unwrapped below
+                    throw new UncheckedIOException(e);
+                }
+                return null;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private Document mappedFilter(Query query, MongoPersistentEntity<?> entity) {
+        return queryMapper.getMappedObject(query.getQueryObject(), entity);
+    }
+
+    private <T> FindIterable<T> prepare(FindIterable<T> cursor, Query query, MongoPersistentEntity<?> entity) {
+        Document sort = queryMapper.getMappedSort(query.getSortObject(), entity);
+        Document fields = queryMapper.getMappedFields(query.getFieldsObject(), entity);
+        if (!sort.isEmpty()) {
+            cursor.sort(sort);
+        }
+        if (!fields.isEmpty()) {
+            cursor.projection(fields);
+        }
+        if (query.getSkip() > 0) {
+            cursor.skip((int) query.getSkip());
+        }
+        if (query.getLimit() > 0) {
+            cursor.limit(query.getLimit());
+        }
+        return cursor;
+    }
+
+    @FunctionalInterface
+    public interface RawDocumentHandler {
+        void handle(RawBsonDocument document) throws IOException;
+    }
+}
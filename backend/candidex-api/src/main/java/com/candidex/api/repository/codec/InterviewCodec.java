@@ -0,0 +1,83 @@
+package com.candidex.api.repository.codec;
+
+import com.candidex.api.model.Interview;
+import com.candidex.api.model.enums.InterviewMode;
+import com.candidex.api.model.enums.InterviewStatus;
+import com.candidex.api.model.enums.InterviewType;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+import static com.candidex.api.repository.codec.BsonFields.*;
+
+/**
+ * Direct BSON <-> Interview codec, same layout as the Spring Data mapping
+ * (see ApplicationCodec). The text fields living in interview_details are not read.
+ */
+public class InterviewCodec implements Codec<Interview> {
+
+    @Override
+    public Interview decode(BsonReader reader, DecoderContext decoderContext) {
+        Interview interview = new Interview();
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            String name = reader.readName();
+            if (skipNull(reader)) {
+                continue;
+            }
+            switch (name) {
+                case "_id" -> interview.setId(readId(reader));
+                case "userId" -> interview.setUserId(readString(reader));
+                case "applicationId" -> interview.setApplicationId(readString(reader));
+                case "title" -> interview.setTitle(readString(reader));
+                case "type" -> interview.setType(readEnum(reader, InterviewType.class));
+                case "startAt" -> interview.setStartAt(readInstant(reader));
+                case "endAt" -> interview.setEndAt(readInstant(reader));
+                case "timezone" -> interview.setTimezone(readString(reader));
+                case "mode" -> interview.setMode(readEnum(reader, InterviewMode.class));
+                case "location" -> interview.setLocation(readString(reader));
+                case "meetingUrl" -> interview.setMeetingUrl(readString(reader));
+                case "status" -> interview.setStatus(readEnum(reader, InterviewStatus.class));
+                case "links" -> interview.setLinks(readStringList(reader));
+                case "icalUid" -> interview.setIcalUid(readString(reader));
+                case "createdAt" -> interview.setCreatedAt(readInstant(reader));
+                case "updatedAt" -> interview.setUpdatedAt(readInstant(reader));
+                default -> reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+        return interview;
+    }
+
+    @Override
+    public void encode(BsonWriter writer, Interview interview, EncoderContext encoderContext) {
+        writer.writeStartDocument();
+        writeId(writer, interview.getId());
+        writeString(writer, "userId", interview.getUserId());
+        writeString(writer, "applicationId", interview.getApplicationId());
+        writeString(writer, "title", interview.getTitle());
+        writeEnum(writer, "type", interview.getType());
+        writeInstant(writer, "startAt", interview.getStartAt());
+        writeInstant(writer, "endAt", interview.getEndAt());
+        writeString(writer, "timezone", interview.getTimezone());
+        writeEnum(writer, "mode", interview.getMode());
+        writeString(writer, "location", interview.getLocation());
+        writeString(writer, "meetingUrl", interview.getMeetingUrl());
+        writeEnum(writer, "status", interview.getStatus());
+        writeStringList(writer, "links", interview.getLinks());
+        // Absent rather than null: the (userId, icalUid) unique index only covers existing values
+        writeString(writer, "icalUid", interview.getIcalUid());
+        writeInstant(writer, "createdAt", interview.getCreatedAt());
+        writeInstant(writer, "updatedAt", interview.getUpdatedAt());
+        writer.writeString("_class", Interview.class.getName());
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public Class<Interview> getEncoderClass() {
+        return Interview.class;
+    }
+}
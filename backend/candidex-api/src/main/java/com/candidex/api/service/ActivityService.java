@@ -0,0 +1,222 @@
+package com.candidex.api.service;
+
+import com.candidex.api.dto.CursorPage;
+import com.candidex.api.dto.SeekCursor;
+import com.candidex.api.model.ActivityBucket;
+import com.candidex.api.model.ActivityEvent;
+import com.candidex.api.model.Application;
+import com.candidex.api.model.Interview;
+import com.candidex.api.model.enums.ActivityType;
+import com.candidex.api.model.enums.ApplicationStatus;
+import com.candidex.api.repository.ReadRouting;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Activity feed: status changes, next action changes and interview events, appended on the
+ * write paths to per user-day buckets of at most BUCKET_SIZE events (an indexed read of the
+ * day's last bucket and one update per write, whatever the number of events, unless they
+ * spill into a new bucket). A page is a range read on user_day_id_idx, newest first, touching about
+ * limit / BUCKET_SIZE documents however long the history is.
+ * Based on API.md section 10
+ */
+@Service
+@RequiredArgsConstructor
+public class ActivityService {
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+    static final int BUCKET_SIZE = 100;
+
+    private final MongoTemplate mongoTemplate;
+    private final ReadRouting readRouting;
+
+    public void applicationCreated(String userId, Application application) {
+        append(userId, List.of(applicationEvent(ActivityType.APPLICATION_CREATED, application)
+                .status(name(application.getStatus()))
+                .build()));
+    }
+
+    /**
+     * @param previousStatuses status of each application before the write
+     */
+    public void applicationStatusesChanged(String userId, Collection<Application> applications,
+                                           Map<String, ApplicationStatus> previousStatuses) {
+        append(userId, applications.stream().map(application ->
+                applicationEvent(ActivityType.APPLICATION_STATUS_CHANGED, application)
+                        .previousStatus(name(previousStatuses.get(application.getId())))
+                        .status(name(application.getStatus()))
+                        .build()).toList());
+    }
+
+    public void nextActionChanged(String userId, Application application) {
+        append(userId, List.of(applicationEvent(ActivityType.NEXT_ACTION_CHANGED, application)
+                .nextAction(application.getNextAction())
+                .build()));
+    }
+
+    /**
+     * @param type INTERVIEW_CREATED, INTERVIEW_UPDATED or INTERVIEW_DELETED
+     */
+    public void interviewsChanged(String userId, ActivityType type, Collection<Interview> interviews) {
+        Instant now = Instant.now();
+        append(userId, interviews.stream().map(interview -> ActivityEvent.builder()
+                .type(type)
+                .at(now)
+                .applicationId(interview.getApplicationId())
+                .interviewId(interview.getId())
+                .title(interview.getTitle())
+                .startAt(interview.getStartAt())
+                .status(type != ActivityType.INTERVIEW_DELETED ? name(interview.getStatus()) : null)
+                .build()).toList());
+    }
+
+    /**
+     * Events of the user, newest first
+     *
+     * @param cursor position after the previous page, or null
+     */
+    public CursorPage<ActivityEvent> getActivity(String userId, SeekCursor cursor, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Le paramètre 'limit' doit être compris entre 1 et " + MAX_PAGE_SIZE + ".");
+        }
+        MongoTemplate template = readRouting.template(ReadRouting.Workload.LIST, userId);
+        Page page = new Page(limit);
+
+        // Rest of the bucket the previous page stopped in (events appended since sit after it)
+        Criteria criteria = Criteria.where("userId").is(userId);
+        if (cursor != null) {
+            ActivityBucket current = template.findOne(new Query(Criteria.where("id").is(cursor.id()).and("userId").is(userId)),
+                    ActivityBucket.class);
+            if (current != null) {
+                page.take(current, Math.min(cursor.kind(), current.getEvents().size()));
+            }
+            String day = LocalDate.ofInstant(Instant.ofEpochMilli(cursor.at()), ZoneOffset.UTC).toString();
+            criteria.orOperator(
+                    Criteria.where("day").lt(day),
+                    Criteria.where("day").is(day).and("id").lt(cursor.id()));
+        }
+
+        // Then older buckets, streamed a few at a time until the page is full
+        Query query = new Query(criteria)
+                .with(Sort.by(Sort.Order.desc("day"), Sort.Order.desc("id")))
+                .limit(limit + 1)
+                .cursorBatchSize(4);
+        try (Stream<ActivityBucket> buckets = template.stream(query, ActivityBucket.class)) {
+            Iterator<ActivityBucket> iterator = buckets.iterator();
+            while (!page.more && iterator.hasNext()) {
+                ActivityBucket bucket = iterator.next();
+                page.take(bucket, bucket.getEvents().size());
+            }
+        }
+        return new CursorPage<>(page.items, page.more ? page.nextCursor : null);
+    }
+
+    /**
+     * Push the events into the user's latest bucket of the day as far as it has room, the rest
+     * into new buckets, BUCKET_SIZE at a time
+     */
+    private void append(String userId, List<ActivityEvent> events) {
+        int start = 0;
+        while (start < events.size()) {
+            String day = LocalDate.ofInstant(events.get(start).getAt(), ZoneOffset.UTC).toString();
+            ActivityBucket latest = latestBucket(userId, day);
+            int room = latest != null ? BUCKET_SIZE - latest.getCount() : 0;
+            if (room > 0) {
+                List<ActivityEvent> chunk = events.subList(start, Math.min(start + room, events.size()));
+                // Guarded on the room: filled by a concurrent append since, the bucket is read again
+                Query query = new Query(Criteria.where("id").is(latest.getId()).and("count").lte(BUCKET_SIZE - chunk.size()));
+                Update update = new Update()
+                        .push("events").each(chunk.toArray())
+                        .inc("count", chunk.size())
+                        .min("firstAt", chunk.get(0).getAt())
+                        .max("lastAt", chunk.get(chunk.size() - 1).getAt());
+                if (mongoTemplate.updateFirst(query, update, ActivityBucket.class).getModifiedCount() > 0) {
+                    start += chunk.size();
+                }
+                continue;
+            }
+            List<ActivityEvent> chunk = events.subList(start, Math.min(start + BUCKET_SIZE, events.size()));
+            mongoTemplate.insert(ActivityBucket.builder()
+                    .userId(userId)
+                    .day(day)
+                    .count(chunk.size())
+                    .firstAt(chunk.get(0).getAt())
+                    .lastAt(chunk.get(chunk.size() - 1).getAt())
+                    .events(new ArrayList<>(chunk))
+                    .build());
+            start += chunk.size();
+        }
+    }
+
+    /**
+     * Count of the day's last bucket, the only one appended to (keeps the feed order)
+     */
+    private ActivityBucket latestBucket(String userId, String day) {
+        Query query = new Query(Criteria.where("userId").is(userId).and("day").is(day))
+                .with(Sort.by(Sort.Order.desc("id")))
+                .limit(1);
+        query.fields().include("count");
+        return mongoTemplate.findOne(query, ActivityBucket.class);
+    }
+
+    private static ActivityEvent.ActivityEventBuilder applicationEvent(ActivityType type, Application application) {
+        return ActivityEvent.builder()
+                .type(type)
+                .at(application.getUpdatedAt() != null ? application.getUpdatedAt() : Instant.now())
+                .applicationId(application.getId())
+                .companyName(application.getCompanyName())
+                .roleTitle(application.getRoleTitle());
+    }
+
+    private static String name(Enum<?> value) {
+        return value != null ? value.name() : null;
+    }
+
+    /**
+     * Events collected newest first, and the position after the last one
+     */
+    private static final class Page {
+        private final int limit;
+        private final List<ActivityEvent> items;
+        private String nextCursor; // position after the limit-th event
+        private boolean more; // an event was found after it
+
+        private Page(int limit) {
+            this.limit = limit;
+            this.items = new ArrayList<>(limit);
+        }
+
+        /**
+         * Take the bucket's events before index end, last appended first
+         */
+        private void take(ActivityBucket bucket, int end) {
+            for (int i = end - 1; i >= 0; i--) {
+                if (items.size() == limit) {
+                    more = true;
+                    return;
+                }
+                items.add(bucket.getEvents().get(i));
+                if (items.size() == limit) {
+                    long day = LocalDate.parse(bucket.getDay()).atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+                    nextCursor = new SeekCursor(day, i, bucket.getId()).encode();
+                }
+            }
+        }
+    }
+}
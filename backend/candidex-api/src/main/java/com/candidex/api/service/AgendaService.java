@@ -0,0 +1,292 @@
+package com.candidex.api.service;
+
+import com.candidex.api.dto.AgendaItemDto;
+import com.candidex.api.dto.AgendaPageDto;
+import com.candidex.api.dto.SeekCursor;
+import com.candidex.api.model.Application;
+import com.candidex.api.model.Interview;
+import com.candidex.api.model.NextAction;
+import com.candidex.api.model.enums.InterviewStatus;
+import com.candidex.api.repository.ReadRouting;
+import com.candidex.api.repository.codec.CodecQueryExecutor;
+import com.mongodb.ReadPreference;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Agenda: the user's next actions and interviews in a single date-ordered feed.
+ *
+ * Each source is read in (date, _id) order from its own index (user_next_action_idx,
+ * user_status_startAt_idx), resuming strictly after the cursor, and the sorted streams are
+ * merged k-way. Only limit + 1 documents per source are read per page, whatever the
+ * size of the history.
+ * Based on API.md section 6.1
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AgendaService {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 200;
+
+    // Order of the sources on the same instant: a day's next actions come before its interviews
+    private static final int NEXT_ACTION = 0;
+    private static final int INTERVIEW = 1;
+
+    private static final Comparator<Entry> ORDER = Comparator.comparingLong(Entry::at)
+            .thenComparingInt(Entry::kind)
+            .thenComparing(Entry::id);
+
+    private final CodecQueryExecutor codecQueryExecutor;
+    private final ReadRouting readRouting;
+
+    /**
+     * @param from first day (inclusive, UTC), or null for everything overdue
+     * @param to last day (inclusive, UTC), or null for no upper bound
+     * @param includeDone also return done next actions and interviews that are no longer scheduled
+     * @param cursor nextCursor of the previous page, or null
+     */
+    public AgendaPageDto getAgenda(
+            String userId,
+            LocalDate from,
+            LocalDate to,
+            boolean includeDone,
+            SeekCursor cursor,
+            int limit
+    ) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Le paramètre 'limit' doit être compris entre 1 et " + MAX_LIMIT + ".");
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("La date de début doit précéder la date de fin.");
+        }
+
+        ReadPreference readPreference = readRouting.readPreference(ReadRouting.Workload.LIST, userId);
+        List<Application> applications = codecQueryExecutor.find(
+                nextActionQuery(userId, from, to, includeDone, cursor, limit + 1), Application.class, readPreference);
+        List<Interview> interviews = codecQueryExecutor.find(
+                interviewQuery(userId, from, to, includeDone, cursor, limit + 1), Interview.class, readPreference);
+
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        Instant now = Instant.now();
+        List<Entry> merged = merge(limit + 1, List.of(
+                applications.stream().map(application -> nextActionEntry(application, today)).filter(Objects::nonNull).toList(),
+                interviews.stream().map(interview -> interviewEntry(interview, now)).toList()
+        ));
+
+        boolean hasMore = merged.size() > limit;
+        List<Entry> page = hasMore ? merged.subList(0, limit) : merged;
+        fillInterviewApplications(userId, page, readPreference);
+
+        Entry last = page.isEmpty() ? null : page.get(page.size() - 1);
+        return AgendaPageDto.builder()
+                .items(page.stream().map(Entry::item).toList())
+                .nextCursor(hasMore ? new SeekCursor(last.at(), last.kind(), last.id()).encode() : null)
+                .build();
+    }
+
+    private static Query nextActionQuery(
+            String userId,
+            LocalDate from,
+            LocalDate to,
+            boolean includeDone,
+            SeekCursor cursor,
+            int limit
+    ) {
+        List<Criteria> criteria = new ArrayList<>();
+        criteria.add(Criteria.where("nextAction.date").exists(true).ne(null));
+        if (from != null) {
+            criteria.add(Criteria.where("nextAction.date").gte(from.toString()));
+        }
+        if (to != null) {
+            criteria.add(Criteria.where("nextAction.date").lte(to.toString()));
+        }
+        if (!includeDone) {
+            criteria.add(Criteria.where("nextAction.done").ne(true));
+        }
+        if (cursor != null) {
+            // Dates are compared as ISO strings; a next action sits at midnight UTC of its day
+            String cursorDay = dayOf(cursor.at()).toString();
+            if (cursor.kind() == NEXT_ACTION) {
+                criteria.add(new Criteria().orOperator(
+                        Criteria.where("nextAction.date").gt(cursorDay),
+                        Criteria.where("nextAction.date").is(cursorDay).and("id").gt(cursor.id())
+                ));
+            } else {
+                criteria.add(Criteria.where("nextAction.date").gt(cursorDay));
+            }
+        }
+
+        Query query = new Query(Criteria.where("userId").is(userId).andOperator(criteria))
+                .with(Sort.by(Sort.Order.asc("nextAction.date"), Sort.Order.asc("id")))
+                .limit(limit);
+        query.fields().include("companyName").include("companyDomain").include("roleTitle").include("status").include("nextAction");
+        return query;
+    }
+
+    private static Query interviewQuery(
+            String userId,
+            LocalDate from,
+            LocalDate to,
+            boolean includeDone,
+            SeekCursor cursor,
+            int limit
+    ) {
+        List<Criteria> criteria = new ArrayList<>();
+        if (from != null) {
+            criteria.add(Criteria.where("startAt").gte(from.atStartOfDay(ZoneOffset.UTC).toInstant()));
+        }
+        if (to != null) {
+            criteria.add(Criteria.where("startAt").lt(to.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant()));
+        }
+        if (cursor != null) {
+            Instant cursorAt = Instant.ofEpochMilli(cursor.at());
+            if (cursor.kind() == INTERVIEW) {
+                criteria.add(new Criteria().orOperator(
+                        Criteria.where("startAt").gt(cursorAt),
+                        Criteria.where("startAt").is(cursorAt).and("id").gt(cursor.id())
+                ));
+            } else {
+                criteria.add(Criteria.where("startAt").gte(cursorAt));
+            }
+        }
+
+        // An explicit $in (rather than no filter) lets the planner merge-sort the index ranges
+        // of each status instead of sorting in memory
+        List<InterviewStatus> statuses = includeDone ? List.of(InterviewStatus.values()) : List.of(InterviewStatus.SCHEDULED);
+        Criteria root = Criteria.where("userId").is(userId).and("status").in(statuses);
+        if (!criteria.isEmpty()) {
+            root.andOperator(criteria);
+        }
+
+        Query query = new Query(root)
+                .with(Sort.by(Sort.Order.asc("startAt"), Sort.Order.asc("id")))
+                .limit(limit);
+        query.fields().include("applicationId").include("title").include("type").include("mode")
+                .include("status").include("startAt").include("endAt");
+        return query;
+    }
+
+    /**
+     * K-way merge of sources that are each sorted by ORDER, keeping the first limit entries
+     */
+    private static List<Entry> merge(int limit, List<List<Entry>> sources) {
+        record Head(Entry entry, Iterator<Entry> rest) {
+        }
+        PriorityQueue<Head> heads = new PriorityQueue<>(Comparator.comparing(Head::entry, ORDER));
+        for (List<Entry> source : sources) {
+            Iterator<Entry> iterator = source.iterator();
+            if (iterator.hasNext()) {
+                heads.add(new Head(iterator.next(), iterator));
+            }
+        }
+
+        List<Entry> merged = new ArrayList<>(limit);
+        while (merged.size() < limit && !heads.isEmpty()) {
+            Head head = heads.poll();
+            merged.add(head.entry());
+            if (head.rest().hasNext()) {
+                heads.add(new Head(head.rest().next(), head.rest()));
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * @return null for a date that is not YYYY-MM-DD (never validated server-side)
+     */
+    private static Entry nextActionEntry(Application application, LocalDate today) {
+        NextAction action = application.getNextAction();
+        LocalDate day;
+        try {
+            day = LocalDate.parse(action.getDate());
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+        boolean done = Boolean.TRUE.equals(action.getDone());
+        AgendaItemDto item = AgendaItemDto.builder()
+                .kind(AgendaItemDto.Kind.NEXT_ACTION)
+                .applicationId(application.getId())
+                .companyName(application.getCompanyName())
+                .companyDomain(application.getCompanyDomain())
+                .roleTitle(application.getRoleTitle())
+                .applicationStatus(application.getStatus())
+                .date(action.getDate())
+                .note(action.getNote())
+                .done(done)
+                .overdue(!done && day.isBefore(today))
+                .build();
+        return new Entry(day.atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli(), NEXT_ACTION, application.getId(), item);
+    }
+
+    private static Entry interviewEntry(Interview interview, Instant now) {
+        AgendaItemDto item = AgendaItemDto.builder()
+                .kind(AgendaItemDto.Kind.INTERVIEW)
+                .applicationId(interview.getApplicationId())
+                .interviewId(interview.getId())
+                .title(interview.getTitle())
+                .type(interview.getType())
+                .mode(interview.getMode())
+                .status(interview.getStatus())
+                .startAt(interview.getStartAt())
+                .endAt(interview.getEndAt())
+                .overdue(interview.getStatus() == InterviewStatus.SCHEDULED && interview.getStartAt().isBefore(now))
+                .build();
+        return new Entry(interview.getStartAt().toEpochMilli(), INTERVIEW, interview.getId(), item);
+    }
+
+    /**
+     * Company and role of the page's interviews, in one query
+     */
+    private void fillInterviewApplications(String userId, List<Entry> page, ReadPreference readPreference) {
+        List<String> applicationIds = page.stream()
+                .filter(entry -> entry.kind() == INTERVIEW)
+                .map(entry -> entry.item().getApplicationId())
+                .distinct()
+                .toList();
+        if (applicationIds.isEmpty()) {
+            return;
+        }
+
+        Query query = new Query(Criteria.where("userId").is(userId).and("id").in(applicationIds));
+        query.fields().include("companyName").include("companyDomain").include("roleTitle").include("status");
+        Map<String, Application> byId = codecQueryExecutor.find(query, Application.class, readPreference).stream()
+                .collect(Collectors.toMap(Application::getId, Function.identity()));
+
+        for (Entry entry : page) {
+            Application application = entry.kind() == INTERVIEW ? byId.get(entry.item().getApplicationId()) : null;
+            if (application != null) {
+                entry.item().setCompanyName(application.getCompanyName());
+                entry.item().setCompanyDomain(application.getCompanyDomain());
+                entry.item().setRoleTitle(application.getRoleTitle());
+                entry.item().setApplicationStatus(application.getStatus());
+            }
+        }
+    }
+
+    private static LocalDate dayOf(long epochMillis) {
+        return Instant.ofEpochMilli(epochMillis).atZone(ZoneOffset.UTC).toLocalDate();
+    }
+
+    private record Entry(long at, int kind, String id, AgendaItemDto item) {
+    }
+}
@@ -1,28 +1,71 @@
 package com.candidex.api.service;
 
+import com.candidex.api.cache.ApplicationQueryCache;
+import com.candidex.api.cache.ApplicationSnapshot;
+import com.candidex.api.cache.ApplicationSnapshotStore;
+import com.candidex.api.cache.CacheInvalidationBus;
+import com.candidex.api.cache.EntityCache;
+import com.candidex.api.cache.UserGenerations;
 import com.candidex.api.dto.CreateApplicationDto;
+import com.candidex.api.dto.DashboardSummaryDto;
+import com.candidex.api.dto.GeoRadiusFilter;
 import com.candidex.api.dto.UpdateApplicationDto;
 import com.candidex.api.model.Application;
+import com.candidex.api.model.ApplicationNotes;
+import com.candidex.api.model.NextAction;
 import com.candidex.api.model.enums.ApplicationSource;
 import com.candidex.api.model.enums.ApplicationStatus;
+import com.candidex.api.repository.ApplicationNotesRepository;
 import com.candidex.api.repository.ApplicationRepository;
+import com.candidex.api.repository.ReadRouting;
+import com.candidex.api.repository.codec.BsonJsonTranscoder;
+import com.candidex.api.repository.codec.CodecQueryExecutor;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.mongodb.ReadPreference;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.geo.Circle;
+import org.springframework.data.geo.Point;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.regex.Pattern;
 
 /**
@@ -35,17 +78,47 @@ import java.util.regex.Pattern;
 public class ApplicationService {
     
     private final ApplicationRepository applicationRepository;
+    private final ApplicationNotesRepository applicationNotesRepository;
     private final MongoTemplate mongoTemplate;
+    private final GazetteerService gazetteerService;
+    private final TextFieldMigrationService textFieldMigrationService;
+    private final ApplicationSnapshotStore snapshotStore;
+    private final ApplicationQueryCache queryCache;
+    private final EntityCache entityCache;
+    private final CacheInvalidationBus invalidationBus;
+    private final UserGenerations generations;
+    private final CodecQueryExecutor codecQueryExecutor;
+    private final ReadRouting readRouting;
+    private final ObjectMapper objectMapper;
+    private final WebhookService webhookService;
+    private final ActivityService activityService;
+    private final FunnelService funnelService;
+
+    @Value("${board.max-items:1000}")
+    private int boardMaxItems;
+
+    @Value("${list.passthrough.enabled:false}")
+    private boolean listPassthroughEnabled;
+
+    private final BsonJsonTranscoder transcoder = new BsonJsonTranscoder(Set.of("_class", "notes"));
+
+    private static final MediaType SMILE_TYPE = MediaType.valueOf("application/x-jackson-smile");
+    private static final JsonFactory CBOR_FACTORY = new CBORFactory();
+    private static final JsonFactory SMILE_FACTORY = new SmileFactory();
+
+    // Mean Earth radius, used to convert a radius in km to radians for $centerSphere
+    private static final double EARTH_RADIUS_KM = 6371.0;
     
     /**
      * Get all applications for a user (paginated)
      */
     public Page<Application> getAllApplications(String userId, Pageable pageable) {
-        return getAllApplications(userId, null, null, null, null, pageable);
+        return getAllApplications(userId, null, null, null, null, null, pageable);
     }
 
     /**
      * Get all applications for a user with optional server-side filters.
+     * Results are cached until the user's next write (see ApplicationQueryCache).
      */
     public Page<Application> getAllApplications(
             String userId,
@@ -53,17 +126,56 @@ public class ApplicationService {
             ApplicationSource source,
             String q,
             String location,
+            GeoRadiusFilter near,
+            Pageable pageable
+    ) {
+        return queryCache.get(userId, status, source, q, location, near, pageable,
+                () -> findApplications(userId, status, source, q, location, near, pageable));
+    }
+
+    private Page<Application> findApplications(
+            String userId,
+            ApplicationStatus status,
+            ApplicationSource source,
+            String q,
+            String location,
+            GeoRadiusFilter near,
             Pageable pageable
     ) {
         log.debug(
-                "Fetching applications for user: {} with filters [status={}, source={}, q={}, location={}]",
+                "Fetching applications for user: {} with filters [status={}, source={}, q={}, location={}, near={}]",
                 userId,
                 status,
                 source,
                 q,
-                location
+                location,
+                near
         );
 
+        if (snapshotStore.isEnabled()) {
+            Page<Application> fromSnapshot = getAllApplicationsFromSnapshot(userId, status, source, q, location, near, pageable);
+            if (fromSnapshot != null) {
+                return fromSnapshot;
+            }
+        }
+
+        Query query = buildListQuery(userId, status, source, q, location, near);
+        long total = readRouting.template(ReadRouting.Workload.LIST, userId).count(query, Application.class);
+        query.with(pageable);
+        List<Application> items = codecQueryExecutor.find(query, Application.class,
+                readRouting.readPreference(ReadRouting.Workload.LIST, userId));
+
+        return new PageImpl<>(items, pageable, total);
+    }
+
+    private Query buildListQuery(
+            String userId,
+            ApplicationStatus status,
+            ApplicationSource source,
+            String q,
+            String location,
+            GeoRadiusFilter near
+    ) {
         Query query = new Query();
         query.addCriteria(Criteria.where("userId").is(userId));
 
@@ -80,7 +192,7 @@ public class ApplicationService {
             query.addCriteria(new Criteria().orOperator(
                     Criteria.where("companyName").regex(safeQuery, "i"),
                     Criteria.where("roleTitle").regex(safeQuery, "i"),
-                    Criteria.where("notes").regex(safeQuery, "i")
+                    Criteria.where("id").in(findIdsWithMatchingNotes(userId, safeQuery))
             ));
         }
 
@@ -92,22 +204,195 @@ public class ApplicationService {
             ));
         }
 
-        long total = mongoTemplate.count(query, Application.class);
+        if (near != null) {
+            // $geoWithin/$centerSphere (unlike $near) can be counted, and is served by user_geo_idx
+            query.addCriteria(Criteria.where("geo").withinSphere(new Circle(
+                    new Point(near.longitude(), near.latitude()),
+                    near.radiusKm() / EARTH_RADIUS_KM
+            )));
+        }
+
+        return query;
+    }
+
+    /**
+     * Whether list pages are streamed from raw BSON instead of going through the query cache
+     */
+    public boolean isListPassthroughEnabled() {
+        return listPassthroughEnabled;
+    }
+
+    /**
+     * Passthrough variant of getAllApplications: the page is streamed as JSON straight from
+     * raw BSON (same body as the regular list response), without building entities
+     */
+    public void writeApplicationsPage(
+            String userId,
+            ApplicationStatus status,
+            ApplicationSource source,
+            String q,
+            String location,
+            GeoRadiusFilter near,
+            Pageable pageable,
+            OutputStream out
+    ) throws IOException {
+        Query query = buildListQuery(userId, status, source, q, location, near);
+        ReadPreference readPreference = readRouting.readPreference(ReadRouting.Workload.LIST, userId);
+        long total = readRouting.template(ReadRouting.Workload.LIST, userId).count(query, Application.class);
         query.with(pageable);
-        List<Application> items = mongoTemplate.find(query, Application.class);
+        excludeNonListFields(query);
 
-        return new PageImpl<>(items, pageable, total);
+        try (JsonGenerator json = jsonGenerator(out)) {
+            json.writeStartObject();
+            json.writeArrayFieldStart("items");
+            codecQueryExecutor.forEachRaw(query, Application.class, readPreference, raw -> transcoder.writeDocument(raw, json));
+            json.writeEndArray();
+            json.writeNumberField("page", pageable.getPageNumber() + 1);
+            json.writeNumberField("size", pageable.getPageSize());
+            json.writeNumberField("totalItems", total);
+            json.writeNumberField("totalPages", pageable.getPageSize() == 0 ? 1 : (int) Math.ceil((double) total / pageable.getPageSize()));
+            json.writeEndObject();
+        }
+    }
+
+    /**
+     * Kanban board: the user's applications grouped by status, most recently updated first,
+     * streamed from a single index-ordered query ({userId, status, updatedAt})
+     */
+    public void writeBoard(String userId, MediaType type, OutputStream out) throws IOException {
+        Query query = new Query(Criteria.where("userId").is(userId))
+                .with(Sort.by(Sort.Order.asc("status"), Sort.Order.desc("updatedAt")))
+                .limit(boardMaxItems);
+        excludeNonListFields(query);
+
+        try (JsonGenerator json = generator(type, out)) {
+            json.writeStartObject();
+            String[] currentStatus = {null};
+            codecQueryExecutor.forEachRaw(query, Application.class, readRouting.readPreference(ReadRouting.Workload.LIST, userId), raw -> {
+                String status = raw.isString("status") ? raw.getString("status").getValue() : "";
+                if (!status.equals(currentStatus[0])) {
+                    if (currentStatus[0] != null) {
+                        json.writeEndArray();
+                    }
+                    json.writeArrayFieldStart(status);
+                    currentStatus[0] = status;
+                }
+                transcoder.writeDocument(raw, json);
+            });
+            if (currentStatus[0] != null) {
+                json.writeEndArray();
+            }
+            json.writeEndObject();
+        }
+    }
+
+    /**
+     * Export of all the user's applications as an array (JSON, CBOR or Smile), oldest first
+     */
+    public void writeExport(String userId, MediaType type, OutputStream out) throws IOException {
+        Query query = new Query(Criteria.where("userId").is(userId)).with(Sort.by(Sort.Direction.ASC, "createdAt"));
+        excludeNonListFields(query);
+
+        try (JsonGenerator json = generator(type, out)) {
+            json.writeStartArray();
+            codecQueryExecutor.forEachRaw(query, Application.class, readRouting.readPreference(ReadRouting.Workload.EXPORT, userId),
+                    raw -> transcoder.writeDocument(raw, json));
+            json.writeEndArray();
+        }
+    }
+
+    private JsonGenerator jsonGenerator(OutputStream out) throws IOException {
+        return generator(MediaType.APPLICATION_JSON, out);
+    }
+
+    /**
+     * Generator for the negotiated format; the transcoder only writes tokens, so CBOR and Smile
+     * stream from the raw BSON like JSON does
+     */
+    private JsonGenerator generator(MediaType type, OutputStream out) throws IOException {
+        JsonFactory factory = MediaType.APPLICATION_CBOR.equals(type) ? CBOR_FACTORY
+                : SMILE_TYPE.equals(type) ? SMILE_FACTORY
+                : objectMapper.getFactory();
+        // The servlet container owns the response stream
+        return factory.createGenerator(out).disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    private static void excludeNonListFields(Query query) {
+        query.fields().exclude("_class").exclude("notes");
+    }
+
+    /**
+     * Same as the Mongo path, answered from the in-memory snapshot: only the page itself is
+     * fetched from Mongo (by _id). Returns null when the snapshot cannot serve the request.
+     */
+    private Page<Application> getAllApplicationsFromSnapshot(
+            String userId,
+            ApplicationStatus status,
+            ApplicationSource source,
+            String q,
+            String location,
+            GeoRadiusFilter near,
+            Pageable pageable
+    ) {
+        ApplicationSnapshot snapshot = snapshotStore.get(userId);
+        if (snapshot == null) {
+            return null;
+        }
+
+        String text = StringUtils.hasText(q) ? q.trim() : null;
+        Set<String> noteMatchIds = text != null
+                ? Set.copyOf(findIdsWithMatchingNotes(userId, Pattern.quote(text)))
+                : Set.of();
+
+        ApplicationSnapshot.Page page = snapshot.query(
+                status,
+                source,
+                text,
+                noteMatchIds,
+                StringUtils.hasText(location) ? location.trim() : null,
+                near,
+                pageable
+        );
+        if (page == null) {
+            return null;
+        }
+
+        Map<String, Application> byId = codecQueryExecutor.find(
+                new Query(Criteria.where("userId").is(userId).and("id").in(page.ids())),
+                Application.class
+        ).stream().collect(Collectors.toMap(Application::getId, Function.identity()));
+
+        List<Application> items = page.ids().stream().map(byId::get).filter(Objects::nonNull).toList();
+        return new PageImpl<>(items, pageable, page.total());
     }
     
     /**
-     * Get application by ID (with ownership check)
+     * Get application by ID (with ownership check), served from the entity cache
      */
     public Application getApplicationById(String id, String userId) {
         log.debug("Fetching application {} for user {}", id, userId);
-        return applicationRepository.findByIdAndUserId(id, userId)
+        return entityCache.getApplication(id, applicationRepository::findById)
+                .filter(application -> userId.equals(application.getUserId()))
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Candidature introuvable."));
     }
     
+    /**
+     * Version of the user's application collection, changed by every write (list ETag)
+     */
+    public String getCollectionStamp(String userId) {
+        return generations.stamp(UserGenerations.Scope.APPLICATIONS, userId);
+    }
+    
+    /**
+     * Get application by ID with its notes (detail view)
+     */
+    public Application getApplicationDetail(String id, String userId) {
+        textFieldMigrationService.ensureApplicationMigrated(id);
+        Application application = getApplicationById(id, userId);
+        application.setNotes(loadNotes(id));
+        return application;
+    }
+    
     /**
      * Create a new application
      */
@@ -123,6 +408,7 @@ public class ApplicationService {
                 .roleTitle(dto.getRoleTitle())
                 .city(dto.getCity())
                 .country(dto.getCountry())
+                .geo(resolveGeo(dto.getLatitude(), dto.getLongitude(), dto.getCity(), dto.getCountry()))
                 .source(dto.getSource())
                 .status(dto.getStatus() != null ? dto.getStatus() : ApplicationStatus.APPLIED) // Default status
                 .employmentType(dto.getEmploymentType())
@@ -138,7 +424,15 @@ public class ApplicationService {
                 .updatedAt(Instant.now())
                 .build();
         
-        return applicationRepository.save(application);
+        Application saved = applicationRepository.save(application);
+        if (dto.getNotes() != null) {
+            saveNotes(saved.getId(), userId, dto.getNotes());
+        }
+        // Before the invalidation: a funnel computed in between would be cached without it
+        funnelService.applicationCreated(userId, saved);
+        afterWrite(userId, List.of(saved.getId()));
+        activityService.applicationCreated(userId, saved);
+        return saved;
     }
     
     /**
@@ -148,8 +442,59 @@ public class ApplicationService {
     public Application updateApplication(String id, UpdateApplicationDto dto, String userId) {
         log.info("Updating application {} for user {}", id, userId);
         
+        // The replacement rewrites the whole document: move legacy notes out first
+        textFieldMigrationService.ensureApplicationMigrated(id);
         Application application = getApplicationById(id, userId);
-        
+        Instant readUpdatedAt = application.getUpdatedAt();
+        ApplicationStatus previousStatus = application.getStatus();
+        NextAction previousNextAction = application.getNextAction();
+        ApplicationSource previousSource = application.getSource();
+        String previousAppliedDate = application.getAppliedDate();
+        applyUpdate(application, dto);
+
+        // The copy may come from the entity cache: only replace the document if nobody wrote it
+        // in between, otherwise re-apply the update on a fresh read
+        Application saved = mongoTemplate.findAndReplace(
+                new Query(Criteria.where("id").is(id).and("userId").is(userId).and("updatedAt").is(readUpdatedAt)),
+                application,
+                FindAndReplaceOptions.options().returnNew()
+        );
+        if (saved == null) {
+            log.debug("Stale cached copy of application {}, retrying on a fresh read", id);
+            application = applicationRepository.findByIdAndUserId(id, userId)
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Candidature introuvable."));
+            previousStatus = application.getStatus();
+            previousNextAction = application.getNextAction();
+            previousSource = application.getSource();
+            previousAppliedDate = application.getAppliedDate();
+            applyUpdate(application, dto);
+            saved = applicationRepository.save(application);
+        }
+
+        if (dto.getNotes() != null) {
+            saveNotes(id, userId, dto.getNotes());
+            saved.setNotes(dto.getNotes());
+        } else {
+            saved.setNotes(loadNotes(id));
+        }
+        if (saved.getSource() != previousSource || !Objects.equals(saved.getAppliedDate(), previousAppliedDate)) {
+            funnelService.applicationSegmentChanged(userId, saved);
+        }
+        if (saved.getStatus() != previousStatus) {
+            funnelService.applicationStatusesChanged(userId, List.of(saved), Collections.singletonMap(id, previousStatus));
+        }
+        afterWrite(userId, List.of(id));
+        if (saved.getStatus() != previousStatus) {
+            webhookService.applicationStatusChanged(userId, saved, previousStatus);
+            activityService.applicationStatusesChanged(userId, List.of(saved), Collections.singletonMap(id, previousStatus));
+        }
+        if (!Objects.equals(saved.getNextAction(), previousNextAction)) {
+            activityService.nextActionChanged(userId, saved);
+        }
+        return saved;
+    }
+
+    private void applyUpdate(Application application, UpdateApplicationDto dto) {
         // Apply updates (only non-null fields)
         if (dto.getCompanyName() != null) application.setCompanyName(dto.getCompanyName());
         if (dto.getCompanyDomain() != null) application.setCompanyDomain(dto.getCompanyDomain());
@@ -165,12 +510,14 @@ public class ApplicationService {
         if (dto.getSalaryPeriod() != null) application.setSalaryPeriod(dto.getSalaryPeriod());
         if (dto.getTags() != null) application.setTags(dto.getTags());
         if (dto.getLinks() != null) application.setLinks(dto.getLinks());
-        if (dto.getNotes() != null) application.setNotes(dto.getNotes());
         if (dto.getNextAction() != null) application.setNextAction(dto.getNextAction());
+
+        // Re-resolve coordinates when they are provided or when the location text changed
+        if ((dto.getLatitude() != null && dto.getLongitude() != null) || dto.getCity() != null || dto.getCountry() != null) {
+            application.setGeo(resolveGeo(dto.getLatitude(), dto.getLongitude(), application.getCity(), application.getCountry()));
+        }
         
         application.setUpdatedAt(Instant.now());
-        
-        return applicationRepository.save(application);
     }
 
     @Transactional
@@ -181,21 +528,35 @@ public class ApplicationService {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "La mise à jour groupée est invalide.");
         }
 
-        Instant now = Instant.now();
-        List<Application> applicationsToUpdate = new ArrayList<>();
-
-        for (String id : ids.stream().filter(StringUtils::hasText).distinct().toList()) {
-            Application application = getApplicationById(id, userId);
-            application.setStatus(status);
-            application.setUpdatedAt(now);
-            applicationsToUpdate.add(application);
+        List<String> validIds = ids.stream().filter(StringUtils::hasText).distinct().toList();
+        if (validIds.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Aucune candidature valide à mettre à jour.");
         }
 
-        if (applicationsToUpdate.isEmpty()) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Aucune candidature valide à mettre à jour.");
+        // Single $set on the matching documents instead of a read + full save per id (the ownership
+        // check reads the previous statuses, for the webhook events)
+        Query owned = new Query(Criteria.where("userId").is(userId).and("id").in(validIds));
+        Query previous = Query.of(owned);
+        previous.fields().include("status");
+        // Not Collectors.toMap: legacy documents may have no status
+        Map<String, ApplicationStatus> previousStatuses = new HashMap<>();
+        for (Application application : mongoTemplate.find(previous, Application.class)) {
+            previousStatuses.put(application.getId(), application.getStatus());
         }
+        if (previousStatuses.size() < validIds.size()) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Candidature introuvable.");
+        }
+        mongoTemplate.updateMulti(owned, new Update().set("status", status).set("updatedAt", Instant.now()), Application.class);
 
-        return applicationRepository.saveAll(applicationsToUpdate);
+        List<Application> updated = mongoTemplate.find(owned, Application.class);
+        List<Application> changed = updated.stream()
+                .filter(application -> previousStatuses.get(application.getId()) != status)
+                .toList();
+        funnelService.applicationStatusesChanged(userId, changed, previousStatuses);
+        afterWrite(userId, validIds);
+        webhookService.applicationStatusesChanged(userId, changed, previousStatuses);
+        activityService.applicationStatusesChanged(userId, changed, previousStatuses);
+        return updated;
     }
     
     /**
@@ -209,12 +570,74 @@ public class ApplicationService {
         Application application = getApplicationById(id, userId);
         
         applicationRepository.delete(application);
+        applicationNotesRepository.deleteById(id);
+        funnelService.applicationDeleted(userId, id);
+        afterWrite(userId, List.of(id));
+    }
+
+    /**
+     * Drop everything cached from the user's applications after a write, on every node
+     */
+    public void afterWrite(String userId, Collection<String> ids) {
+        invalidationBus.applicationsChanged(userId, ids);
+    }
+    
+    private String loadNotes(String applicationId) {
+        return applicationNotesRepository.findById(applicationId)
+                .map(ApplicationNotes::getNotes)
+                .orElse(null);
+    }
+
+    private void saveNotes(String applicationId, String userId, String notes) {
+        applicationNotesRepository.save(ApplicationNotes.builder()
+                .id(applicationId)
+                .userId(userId)
+                .notes(notes)
+                .updatedAt(Instant.now())
+                .build());
+    }
+
+    /**
+     * Notes live in their own collection: resolve the matching application ids there (and in the
+     * legacy field of the applications, until the text field migration has completed)
+     */
+    private List<String> findIdsWithMatchingNotes(String userId, String safeQuery) {
+        MongoTemplate template = readRouting.template(ReadRouting.Workload.LIST, userId);
+        Query notesQuery = new Query(Criteria.where("userId").is(userId).and("notes").regex(safeQuery, "i"));
+        notesQuery.fields().include("id");
+        List<String> ids = template.find(notesQuery, ApplicationNotes.class).stream()
+                .map(ApplicationNotes::getId)
+                .toList();
+        if (textFieldMigrationService.isApplicationsMigrated()) {
+            return ids;
+        }
+        Query legacyQuery = new Query(Criteria.where("userId").is(userId).and("notes").regex(safeQuery, "i"));
+        legacyQuery.fields().include("_id");
+        List<String> all = new ArrayList<>(ids);
+        for (Document legacy : template.find(legacyQuery, Document.class, template.getCollectionName(Application.class))) {
+            all.add(legacy.get("_id").toString());
+        }
+        return all;
+    }
+
+    /**
+     * Client-provided coordinates win; otherwise fall back to the local gazetteer.
+     */
+    private GeoJsonPoint resolveGeo(Double latitude, Double longitude, String city, String country) {
+        if (latitude != null && longitude != null) {
+            return new GeoJsonPoint(longitude, latitude);
+        }
+        return gazetteerService.lookup(city, country).orElse(null);
     }
     
     /**
      * Count applications by user
      */
     public long countApplicationsByUser(String userId) {
+        ApplicationSnapshot snapshot = snapshotStore.isEnabled() ? snapshotStore.get(userId) : null;
+        if (snapshot != null) {
+            return snapshot.size();
+        }
         return applicationRepository.countByUserId(userId);
     }
     
@@ -222,6 +645,59 @@ public class ApplicationService {
      * Count applications by status for a user
      */
     public long countApplicationsByUserAndStatus(String userId, ApplicationStatus status) {
+        ApplicationSnapshot snapshot = snapshotStore.isEnabled() ? snapshotStore.get(userId) : null;
+        if (snapshot != null) {
+            return snapshot.countByStatus(status);
+        }
         return applicationRepository.countByUserIdAndStatus(userId, status);
     }
+
+    /**
+     * Dashboard summary: total, counts per status and pending next actions
+     * Based on API.md section 3.1
+     */
+    public DashboardSummaryDto getSummary(String userId) {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        Map<ApplicationStatus, Long> byStatus = new EnumMap<>(ApplicationStatus.class);
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            byStatus.put(status, 0L);
+        }
+
+        ApplicationSnapshot snapshot = snapshotStore.isEnabled() ? snapshotStore.get(userId) : null;
+        if (snapshot != null) {
+            long[] counts = snapshot.countByStatus();
+            for (ApplicationStatus status : ApplicationStatus.values()) {
+                byStatus.put(status, counts[status.ordinal()]);
+            }
+            return DashboardSummaryDto.builder()
+                    .totalApplications(snapshot.size())
+                    .byStatus(byStatus)
+                    .upcomingNextActions(snapshot.countUpcomingNextActions(today))
+                    .build();
+        }
+
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("userId").is(userId)),
+                Aggregation.group("status").count().as("count")
+        );
+        MongoTemplate analytics = readRouting.template(ReadRouting.Workload.ANALYTICS, userId);
+        long total = 0;
+        for (Document row : analytics.aggregate(aggregation, Application.class, Document.class)) {
+            long count = ((Number) row.get("count")).longValue();
+            total += count;
+            if (row.getString("_id") != null) {
+                byStatus.put(ApplicationStatus.valueOf(row.getString("_id")), count);
+            }
+        }
+
+        long upcoming = analytics.count(new Query(Criteria.where("userId").is(userId)
+                .and("nextAction.date").gte(today.toString())
+                .and("nextAction.done").ne(true)), Application.class);
+
+        return DashboardSummaryDto.builder()
+                .totalApplications(total)
+                .byStatus(byStatus)
+                .upcomingNextActions(upcoming)
+                .build();
+    }
 }
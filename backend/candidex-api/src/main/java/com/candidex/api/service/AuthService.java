@@ -1,5 +1,6 @@
 package com.candidex.api.service;
 
+import com.candidex.api.cache.EntityCache;
 import com.candidex.api.dto.AuthResponse;
 import com.candidex.api.dto.LoginDto;
 import com.candidex.api.dto.RegisterDto;
@@ -27,6 +28,7 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final EntityCache entityCache;
     
     /**
      * Register a new user
@@ -111,7 +113,7 @@ public class AuthService {
      * @return User info
      */
     public AuthResponse.UserDto getCurrentUser(String userId) {
-        User user = userRepository.findById(userId)
+        User user = entityCache.getUser(userId, userRepository::findById)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Utilisateur introuvable."));
         
         return AuthResponse.UserDto.builder()
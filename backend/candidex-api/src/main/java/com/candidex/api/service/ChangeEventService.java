@@ -0,0 +1,319 @@
+package com.candidex.api.service;
+
+import com.candidex.api.cache.DataChangedEvent;
+import com.candidex.api.dto.ChangeEventDto;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Server-Sent Events fan-out of application/interview changes, per user.
+ *
+ * Fed by DataChangedEvent, i.e. by local writes and by invalidations received from the other
+ * nodes. Connections are async servlet responses (no thread held per connection); sends and
+ * heartbeats run on a couple of shared threads. The sends of a user go through a serial queue on
+ * those threads, so its clients get the events in order, replays included.
+ *
+ * Each user keeps a small ring buffer of recent events so that a reconnecting client can
+ * resume from its Last-Event-ID. Event ids are "{node}-{seq}": when the id comes from another
+ * node or is older than the buffer, a "resync" event tells the client to reload everything.
+ */
+@Service
+@Slf4j
+public class ChangeEventService {
+
+    private static final String APPLICATIONS = "applications";
+    private static final String INTERVIEWS = "interviews";
+    private static final String NOTIFICATIONS = "notifications";
+
+    private final String nodePrefix = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<String, Channel> channels = new ConcurrentHashMap<>();
+
+    @Value("${sse.timeout-minutes:30}")
+    private long timeoutMinutes;
+
+    @Value("${sse.heartbeat-seconds:25}")
+    private long heartbeatSeconds;
+
+    @Value("${sse.replay-size:100}")
+    private int replaySize;
+
+    @Value("${sse.max-connections-per-user:10}")
+    private int maxConnectionsPerUser;
+
+    private ExecutorService sender;
+    private ScheduledExecutorService heartbeat;
+
+    @PostConstruct
+    void init() {
+        sender = Executors.newFixedThreadPool(2, daemon("sse-sender"));
+        heartbeat = Executors.newSingleThreadScheduledExecutor(daemon("sse-heartbeat"));
+        heartbeat.scheduleAtFixedRate(this::heartbeatAndSweep, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeat.shutdownNow();
+        sender.shutdownNow();
+        channels.values().forEach(channel -> channel.emitters.forEach(SseEmitter::complete));
+    }
+
+    /**
+     * Open a stream for the user, replaying what was missed since lastEventId
+     */
+    public SseEmitter subscribe(String userId, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(Duration.ofMinutes(timeoutMinutes).toMillis());
+        // Attach atomically so that the sweep cannot drop the channel in between, and queue the
+        // replay before any event recorded from now on is sent to it
+        Channel channel = channels.compute(userId, (key, existing) -> {
+            Channel target = existing != null ? existing : new Channel(sequence.get());
+            synchronized (target) {
+                target.emitters.add(emitter);
+                List<Event> missed = lastEventId != null && !lastEventId.isBlank()
+                        ? target.since(lastEventId, nodePrefix)
+                        : List.of();
+                String resumeId = currentId();
+                target.execute(() -> replay(emitter, missed, resumeId), sender);
+            }
+            return target;
+        });
+
+        if (channel.emitters.size() > maxConnectionsPerUser) {
+            // Oldest connection is most likely a closed tab the proxy has not noticed yet
+            channel.emitters.remove(0).complete();
+        }
+        emitter.onCompletion(() -> channel.emitters.remove(emitter));
+        emitter.onTimeout(() -> channel.emitters.remove(emitter));
+        emitter.onError(error -> channel.emitters.remove(emitter));
+        return emitter;
+    }
+
+    /**
+     * @param missed events after the client's Last-Event-ID, or null if they cannot be replayed
+     * @param resumeId id of the last event recorded when the client connected
+     */
+    private void replay(SseEmitter emitter, List<Event> missed, String resumeId) {
+        try {
+            if (missed == null) {
+                // Cannot replay: the client reloads its lists, then resumes from here
+                emitter.send(SseEmitter.event().id(resumeId).name("resync").data(""));
+            } else if (missed.isEmpty()) {
+                // Gives the client a resume point even if nothing changes before it disconnects
+                emitter.send(SseEmitter.event().id(resumeId).name("ready").data(""));
+            } else {
+                for (Event event : missed) {
+                    send(emitter, event);
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            emitter.completeWithError(e);
+        }
+    }
+
+    @EventListener
+    public void onDataChanged(DataChangedEvent change) {
+        if (change.userId() == null) {
+            return;
+        }
+        String entity = switch (change.type()) {
+            case APPLICATIONS -> APPLICATIONS;
+            case INTERVIEWS -> INTERVIEWS;
+            case NOTIFICATIONS -> NOTIFICATIONS;
+            case USER -> null;
+        };
+        if (entity == null) {
+            return;
+        }
+
+        Channel channel = channels.computeIfAbsent(change.userId(), key -> new Channel(sequence.get()));
+        ChangeEventDto payload = ChangeEventDto.builder()
+                .entity(entity)
+                .ids(change.ids() != null ? List.copyOf(change.ids()) : null)
+                .at(Instant.now())
+                .build();
+        // Sequence, buffer and send queue in the same order for concurrent writes of the user
+        synchronized (channel) {
+            Event event = new Event(nodePrefix, sequence.incrementAndGet(), payload);
+            channel.record(event, replaySize);
+            if (!channel.emitters.isEmpty()) {
+                // Never block the writing request on a slow client. Emitters attached later get
+                // the event from their replay.
+                List<SseEmitter> targets = List.copyOf(channel.emitters);
+                channel.execute(() -> targets.forEach(emitter -> {
+                    try {
+                        send(emitter, event);
+                    } catch (IOException | IllegalStateException e) {
+                        channel.emitters.remove(emitter);
+                    }
+                }), sender);
+            }
+        }
+    }
+
+    private String currentId() {
+        return nodePrefix + "-" + sequence.get();
+    }
+
+    private void send(SseEmitter emitter, Event event) throws IOException {
+        emitter.send(SseEmitter.event().id(event.id()).name("change").data(event.payload()));
+    }
+
+    /**
+     * Keeps idle connections alive through proxies, detects dead ones,
+     * and drops the channels of users that are gone
+     */
+    private void heartbeatAndSweep() {
+        Instant expiry = Instant.now().minus(Duration.ofMinutes(timeoutMinutes));
+        for (String userId : channels.keySet()) {
+            Channel channel = channels.get(userId);
+            if (channel == null) {
+                continue;
+            }
+            for (SseEmitter emitter : channel.emitters) {
+                try {
+                    emitter.send(SseEmitter.event().comment("ping"));
+                } catch (IOException | IllegalStateException e) {
+                    channel.emitters.remove(emitter);
+                }
+            }
+            channels.computeIfPresent(userId, (key, existing) ->
+                    existing.emitters.isEmpty() && existing.lastEventAt().isBefore(expiry) ? null : existing);
+        }
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private record Event(String nodePrefix, long seq, ChangeEventDto payload) {
+
+        String id() {
+            return nodePrefix + "-" + seq;
+        }
+    }
+
+    private static final class Channel {
+
+        private static final int TASKS_PER_TURN = 32;
+
+        private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+        private final Deque<Event> recent = new ArrayDeque<>();
+        // Sends of this user, run one at a time in order on the shared sender threads
+        private final Deque<Runnable> tasks = new ArrayDeque<>();
+        private boolean draining;
+        // Events up to this sequence cannot be replayed (evicted, or older than the channel)
+        private long evictedUpTo;
+        private Instant lastEventAt = Instant.now();
+
+        Channel(long createdAt) {
+            this.evictedUpTo = createdAt;
+        }
+
+        synchronized void record(Event event, int capacity) {
+            if (recent.size() == capacity) {
+                evictedUpTo = recent.removeFirst().seq();
+            }
+            recent.addLast(event);
+            lastEventAt = event.payload().getAt();
+        }
+
+        void execute(Runnable task, ExecutorService executor) {
+            synchronized (this) {
+                tasks.addLast(task);
+                if (draining) {
+                    return;
+                }
+                draining = true;
+            }
+            submit(executor);
+        }
+
+        private void submit(ExecutorService executor) {
+            try {
+                executor.execute(() -> drain(executor));
+            } catch (RejectedExecutionException e) {
+                // Shutting down
+            }
+        }
+
+        /**
+         * Run the queued tasks, giving the thread back after a few so that other users are not starved
+         */
+        private void drain(ExecutorService executor) {
+            for (int i = 0; i < TASKS_PER_TURN; i++) {
+                Runnable task;
+                synchronized (this) {
+                    task = tasks.pollFirst();
+                    if (task == null) {
+                        draining = false;
+                        return;
+                    }
+                }
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    log.warn("SSE send failed", e);
+                }
+            }
+            submit(executor);
+        }
+
+        synchronized Instant lastEventAt() {
+            return lastEventAt;
+        }
+
+        /**
+         * @return events after lastEventId, or null if they cannot be replayed from this node
+         */
+        synchronized List<Event> since(String lastEventId, String nodePrefix) {
+            int dash = lastEventId.lastIndexOf('-');
+            if (dash < 0 || !lastEventId.substring(0, dash).equals(nodePrefix)) {
+                return null;
+            }
+            long lastSeq;
+            try {
+                lastSeq = Long.parseLong(lastEventId.substring(dash + 1));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+
+            if (lastSeq < evictedUpTo) {
+                return null;
+            }
+            List<Event> missed = new ArrayList<>();
+            for (Event event : recent) {
+                if (event.seq() > lastSeq) {
+                    missed.add(event);
+                }
+            }
+            return missed;
+        }
+    }
+}
@@ -0,0 +1,436 @@
+package com.candidex.api.service;
+
+import com.candidex.api.model.Application;
+import com.candidex.api.model.Interview;
+import com.candidex.api.model.JobCheckpoint;
+import com.candidex.api.model.User;
+import com.candidex.api.model.enums.ApplicationStatus;
+import com.candidex.api.model.enums.InterviewStatus;
+import com.candidex.api.repository.ReadRouting;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.SelectionOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Daily e-mail digest: tomorrow's interviews, due next actions and applications without
+ * activity for stale-days.
+ *
+ * Users are read in _id order, batch-size at a time; each batch needs one indexed query per
+ * section ($in on the batch's user ids), never a query per user. Digests are rendered from a
+ * template parsed once and sent by a bounded worker pool, send-batch-size messages per SMTP
+ * connection. Progress is checkpointed after each batch in job_checkpoints, under a lease: a
+ * run interrupted by a stop, a crash or an SMTP outage is resumed from the last batch (by any
+ * node) on a later check. Sending is at-least-once: the users of an interrupted batch get their
+ * digest again on resume, under the same Message-ID.
+ * Metrics: digest.users, digest.sent, digest.failed, digest.run and digest.throughput (users per
+ * second of the last run).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DigestService implements ApplicationRunner, DisposableBean {
+
+    private static final Set<ApplicationStatus> ACTIVE_STATUSES = Set.of(
+            ApplicationStatus.APPLIED, ApplicationStatus.HR_INTERVIEW,
+            ApplicationStatus.TECH_INTERVIEW, ApplicationStatus.OFFER);
+    private static final int MAX_STALE_ITEMS = 10;
+    private static final int MAX_NEXT_ACTIONS = 10;
+    private static final DateTimeFormatter DAY = DateTimeFormatter.ofPattern("dd/MM/yyyy", Locale.FRANCE);
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HH:mm", Locale.FRANCE);
+
+    private final MongoTemplate mongoTemplate;
+    private final ReadRouting readRouting;
+    private final SmtpClient smtpClient;
+    private final JobCheckpoints checkpoints;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${digest.enabled:false}")
+    private boolean enabled;
+
+    // Hour (UTC) from which the day's digest is sent
+    @Value("${digest.hour:6}")
+    private int hour;
+
+    @Value("${digest.stale-days:14}")
+    private long staleDays;
+
+    @Value("${digest.batch-size:500}")
+    private int batchSize;
+
+    @Value("${digest.workers:4}")
+    private int workerCount;
+
+    @Value("${digest.send-batch-size:50}")
+    private int sendBatchSize;
+
+    private final AtomicLong lastThroughput = new AtomicLong();
+    private volatile boolean stopping;
+    private MailTemplate template;
+    private ScheduledExecutorService scheduler;
+    private ThreadPoolExecutor workers;
+    private Counter usersCounter;
+    private Counter sentCounter;
+    private Counter failedCounter;
+    private Timer runTimer;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        template = MailTemplate.load("mail/digest.txt");
+        usersCounter = meterRegistry.counter("digest.users");
+        sentCounter = meterRegistry.counter("digest.sent");
+        failedCounter = meterRegistry.counter("digest.failed");
+        runTimer = meterRegistry.timer("digest.run");
+        meterRegistry.gauge("digest.throughput", lastThroughput);
+
+        // Full queue: the batch loop renders and sends itself, which paces the reads
+        workers = new ThreadPoolExecutor(workerCount, workerCount, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(workerCount * 2), daemon("digest-worker"), new ThreadPoolExecutor.CallerRunsPolicy());
+        scheduler = Executors.newSingleThreadScheduledExecutor(daemon("digest"));
+        // Starts the day's run once due, and resumes an interrupted one
+        scheduler.scheduleWithFixedDelay(this::runIfDue, 1, 5, TimeUnit.MINUTES);
+        log.info("Daily digest enabled (from {}:00 UTC)", hour);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        if (scheduler == null) {
+            return;
+        }
+        stopping = true;
+        scheduler.shutdown();
+        scheduler.awaitTermination(30, TimeUnit.SECONDS);
+        workers.shutdownNow();
+    }
+
+    private void runIfDue() {
+        ZonedDateTime now = ZonedDateTime.now(ZoneOffset.UTC);
+        if (now.getHour() < hour) {
+            return;
+        }
+        String jobId = "digest:" + now.toLocalDate();
+        try {
+            run(jobId, now.toLocalDate());
+        } catch (Exception e) {
+            // Resumed from the last checkpoint on a later check
+            log.warn("Digest {} interrupted: {}", jobId, e.getMessage());
+            checkpoints.release(jobId);
+        }
+    }
+
+    private void run(String jobId, LocalDate day) {
+        JobCheckpoint checkpoint = checkpoints.acquire(jobId);
+        if (checkpoint == null) {
+            return; // done, or running on another node
+        }
+        String lastUserId = checkpoint.getPosition();
+        log.info(lastUserId == null ? "Digest {} started" : "Digest {} resumed after user {}", jobId, lastUserId);
+
+        Period period = new Period(day, staleDays);
+        long startNanos = System.nanoTime();
+        long users = 0;
+        List<User> batch;
+        while (!stopping && !(batch = nextUsers(lastUserId)).isEmpty()) {
+            long[] result = processBatch(jobId, batch, period);
+            lastUserId = batch.get(batch.size() - 1).getId();
+            if (!checkpoints.saveProgress(jobId, lastUserId, batch.size(), result[0], result[1])) {
+                log.warn("Digest {}: lease lost, stopping", jobId);
+                return;
+            }
+            users += batch.size();
+            usersCounter.increment(batch.size());
+        }
+        if (stopping) {
+            checkpoints.release(jobId);
+            return;
+        }
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+        runTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        lastThroughput.set(users * 1_000_000_000L / Math.max(1, elapsedNanos));
+        JobCheckpoint done = checkpoints.complete(jobId);
+        log.info("Digest {} done: {} users in {} s ({} users/s); total {} sent, {} failed", jobId, users,
+                TimeUnit.NANOSECONDS.toSeconds(elapsedNanos), lastThroughput.get(),
+                done != null ? done.getChanged() : "?", done != null ? done.getFailed() : "?");
+    }
+
+    private List<User> nextUsers(String lastUserId) {
+        Criteria criteria = lastUserId != null ? Criteria.where("id").gt(new ObjectId(lastUserId)) : new Criteria();
+        Query query = new Query(criteria).with(Sort.by(Sort.Order.asc("id"))).limit(batchSize);
+        query.fields().include("email").include("fullName");
+        return mongoTemplate.find(query, User.class);
+    }
+
+    /**
+     * @return {sent, failed}
+     */
+    private long[] processBatch(String jobId, List<User> users, Period period) {
+        Map<String, Digest> digests = new LinkedHashMap<>();
+        for (User user : users) {
+            if (user.getEmail() != null) {
+                digests.put(user.getId(), new Digest(user));
+            }
+        }
+        if (digests.isEmpty()) {
+            return new long[2];
+        }
+        collect(digests, period);
+
+        List<Digest> toSend = digests.values().stream().filter(Digest::hasContent).toList();
+        List<CompletableFuture<long[]>> sends = new ArrayList<>();
+        for (int i = 0; i < toSend.size(); i += sendBatchSize) {
+            List<Digest> chunk = toSend.subList(i, Math.min(toSend.size(), i + sendBatchSize));
+            sends.add(CompletableFuture.supplyAsync(() -> send(jobId, chunk, period), workers));
+        }
+        long[] total = new long[2];
+        for (CompletableFuture<long[]> send : sends) {
+            long[] result;
+            try {
+                result = send.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+            total[0] += result[0];
+            total[1] += result[1];
+        }
+        return total;
+    }
+
+    /**
+     * One query per section for the whole batch
+     */
+    private void collect(Map<String, Digest> digests, Period period) {
+        MongoTemplate reads = readRouting.template(ReadRouting.Workload.EXPORT);
+        Collection<String> userIds = digests.keySet();
+
+        Query interviewsQuery = new Query(Criteria.where("userId").in(userIds)
+                .and("status").is(InterviewStatus.SCHEDULED)
+                .and("startAt").gte(period.tomorrowStart()).lt(period.tomorrowEnd()))
+                .with(Sort.by(Sort.Order.asc("startAt")));
+        interviewsQuery.fields().include("userId").include("applicationId").include("title")
+                .include("startAt").include("timezone");
+        List<Interview> interviews = reads.find(interviewsQuery, Interview.class);
+
+        // Earliest MAX_NEXT_ACTIONS per user and a count of the rest, grouped server-side like the
+        // stale section below
+        Aggregation nextActionsAggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("userId").in(userIds)
+                        .and("nextAction.date").lte(period.today().toString())
+                        .and("nextAction.done").ne(true)),
+                Aggregation.group("userId").count().as("count")
+                        .and("earliest", SelectionOperators.Top.top(MAX_NEXT_ACTIONS)
+                                .sortBy(Sort.by(Sort.Order.asc("nextAction.date")))
+                                .output("companyName", "roleTitle", "nextAction.date", "nextAction.note")));
+        for (Document row : reads.aggregate(nextActionsAggregation, Application.class, Document.class)) {
+            Digest digest = digests.get(row.getString("_id"));
+            // $topN outputs each item as an array, in the order of output()
+            for (List<?> application : row.getList("earliest", List.class)) {
+                digest.nextActions.add(Map.of(
+                        "date", formatDate((String) application.get(2)),
+                        "company", text((String) application.get(0)),
+                        "role", text((String) application.get(1)),
+                        "note", text((String) application.get(3))));
+            }
+            digest.moreNextActions = ((Number) row.get("count")).intValue() - digest.nextActions.size();
+        }
+
+        // Oldest MAX_STALE_ITEMS per user and a count of the rest, grouped server-side: a user with
+        // thousands of stale applications doesn't have them all sent over
+        Aggregation staleAggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("userId").in(userIds)
+                        .and("status").in(ACTIVE_STATUSES)
+                        .and("updatedAt").lt(period.staleBefore())),
+                Aggregation.group("userId").count().as("count")
+                        .and("oldest", SelectionOperators.Top.top(MAX_STALE_ITEMS)
+                                .sortBy(Sort.by(Sort.Order.asc("updatedAt")))
+                                .output("companyName", "roleTitle", "status", "updatedAt")));
+        for (Document row : reads.aggregate(staleAggregation, Application.class, Document.class)) {
+            Digest digest = digests.get(row.getString("_id"));
+            // $topN outputs each item as an array, in the order of output()
+            for (List<?> application : row.getList("oldest", List.class)) {
+                digest.stale.add(Map.of(
+                        "company", text((String) application.get(0)),
+                        "role", text((String) application.get(1)),
+                        "status", (String) application.get(2),
+                        "lastActivity", DAY.format(((Date) application.get(3)).toInstant().atZone(ZoneOffset.UTC))));
+            }
+            digest.moreStale = ((Number) row.get("count")).intValue() - digest.stale.size();
+        }
+
+        Map<String, String> companies = findCompanies(reads, interviews.stream()
+                .map(Interview::getApplicationId).collect(Collectors.toSet()));
+        for (Interview interview : interviews) {
+            ZoneId zone = zoneOf(interview.getTimezone());
+            digests.get(interview.getUserId()).interviews.add(Map.of(
+                    "time", TIME.format(interview.getStartAt().atZone(zone)) + (zone.equals(ZoneOffset.UTC) ? " UTC" : ""),
+                    "title", text(interview.getTitle()),
+                    "company", companies.getOrDefault(interview.getApplicationId(), "")));
+        }
+    }
+
+    private Map<String, String> findCompanies(MongoTemplate reads, Set<String> applicationIds) {
+        if (applicationIds.isEmpty()) {
+            return Map.of();
+        }
+        Query query = new Query(Criteria.where("id").in(applicationIds));
+        query.fields().include("companyName");
+        Map<String, String> companies = new HashMap<>();
+        for (Application application : reads.find(query, Application.class)) {
+            companies.put(application.getId(), text(application.getCompanyName()));
+        }
+        return companies;
+    }
+
+    /**
+     * Render and send a chunk over one SMTP connection (worker thread)
+     *
+     * @return {sent, failed}; a connection failure aborts the run
+     */
+    private long[] send(String jobId, List<Digest> chunk, Period period) {
+        long sent = 0;
+        long failed = 0;
+        try (SmtpClient.Session session = smtpClient.open()) {
+            for (Digest digest : chunk) {
+                try {
+                    session.send(digest.email, "Candidex – votre point du " + DAY.format(period.today()),
+                            template.render(digest.model(period, staleDays)), jobId + ":" + digest.userId);
+                    sent++;
+                } catch (SmtpClient.SmtpException e) {
+                    log.debug("Digest refused for user {}: {}", digest.userId, e.getMessage());
+                    failed++;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            sentCounter.increment(sent);
+            failedCounter.increment(failed);
+        }
+        return new long[]{sent, failed};
+    }
+
+    private static String text(String value) {
+        return value != null ? value : "";
+    }
+
+    private static String formatDate(String isoDate) {
+        try {
+            return DAY.format(LocalDate.parse(isoDate));
+        } catch (DateTimeException e) {
+            return isoDate;
+        }
+    }
+
+    private static ZoneId zoneOf(String timezone) {
+        try {
+            return timezone != null ? ZoneId.of(timezone) : ZoneOffset.UTC;
+        } catch (DateTimeException e) {
+            return ZoneOffset.UTC;
+        }
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Bounds of the sections for the run's day (UTC)
+     */
+    private record Period(LocalDate today, Instant tomorrowStart, Instant tomorrowEnd, Instant staleBefore) {
+
+        Period(LocalDate today, long staleDays) {
+            this(today,
+                    today.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant(),
+                    today.plusDays(2).atStartOfDay(ZoneOffset.UTC).toInstant(),
+                    today.atStartOfDay(ZoneOffset.UTC).toInstant().minus(staleDays, ChronoUnit.DAYS));
+        }
+    }
+
+    private static final class Digest {
+        private final String userId;
+        private final String email;
+        private final String name;
+        private final List<Map<String, String>> interviews = new ArrayList<>();
+        private final List<Map<String, String>> nextActions = new ArrayList<>();
+        private int moreNextActions;
+        private final List<Map<String, String>> stale = new ArrayList<>();
+        private int moreStale;
+
+        private Digest(User user) {
+            this.userId = user.getId();
+            this.email = user.getEmail();
+            this.name = user.getFullName() != null ? user.getFullName().trim().split("\\s+")[0] : "";
+        }
+
+        private boolean hasContent() {
+            return !interviews.isEmpty() || !nextActions.isEmpty() || !stale.isEmpty();
+        }
+
+        private Map<String, Object> model(Period period, long staleDays) {
+            Map<String, Object> model = new HashMap<>();
+            model.put("name", name);
+            model.put("date", DAY.format(period.today()));
+            model.put("staleDays", staleDays);
+            model.put("hasInterviews", !interviews.isEmpty());
+            model.put("interviews", interviews);
+            model.put("hasNextActions", !nextActions.isEmpty());
+            model.put("nextActions", nextActions);
+            model.put("moreNextActions", moreNextActions > 0 ? moreNextActions : null);
+            model.put("hasStale", !stale.isEmpty());
+            model.put("stale", stale);
+            model.put("moreStale", moreStale > 0 ? moreStale : null);
+            return model;
+        }
+    }
+}
@@ -0,0 +1,462 @@
+package com.candidex.api.service;
+
+import com.candidex.api.cache.UserGenerations;
+import com.candidex.api.dto.FunnelDto;
+import com.candidex.api.model.Application;
+import com.candidex.api.model.JobCheckpoint;
+import com.candidex.api.model.StatusTransition;
+import com.candidex.api.model.enums.ApplicationSource;
+import com.candidex.api.model.enums.ApplicationStatus;
+import com.candidex.api.repository.ReadRouting;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mongodb.bulk.BulkWriteError;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AccumulatorOperators;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationExpression;
+import org.springframework.data.mongodb.core.aggregation.ArithmeticOperators;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.data.mongodb.core.aggregation.DocumentOperators;
+import org.springframework.data.mongodb.core.aggregation.GroupOperation;
+import org.springframework.data.mongodb.core.aggregation.SetWindowFieldsOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Funnel and time-in-stage analytics, from the status history of the applications
+ * (status_transitions, appended on every status write).
+ *
+ * One aggregation per computation: $setWindowFields partitions the user's transitions by
+ * application in time order, giving each one the time the application left that status ($shift)
+ * and the furthest stage the application reached; a $facet then derives the stage medians, the
+ * funnel and the per-source and per-week segments. Results are cached per user and generation:
+ * any write to the user's applications bumps it, on every node.
+ *
+ * Applications created before the history was recorded get a seed transition from a one-time
+ * backfill (funnel.seed-history), run by one node in _id order and checkpointed after each page
+ * in job_checkpoints, so that reads never have to look for applications without history.
+ * Based on API.md section 3.3
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FunnelService implements ApplicationRunner, DisposableBean {
+
+    /**
+     * Stages of the funnel, in order (OFFER_ACCEPTED and OFFER_DECLINED count as OFFER reached)
+     */
+    public static final List<ApplicationStatus> STAGES = List.of(
+            ApplicationStatus.APPLIED, ApplicationStatus.HR_INTERVIEW, ApplicationStatus.TECH_INTERVIEW, ApplicationStatus.OFFER);
+    private static final int MAX_WEEKS = 26;
+    private static final int DUPLICATE_KEY = 11000;
+    private static final double MILLIS_PER_DAY = 86_400_000d;
+    private static final String SEED_JOB_ID = "funnel-seed";
+    private static final int SEED_PAGE_SIZE = 500;
+
+    private final MongoTemplate mongoTemplate;
+    private final ReadRouting readRouting;
+    private final UserGenerations generations;
+    private final MeterRegistry meterRegistry;
+    private final JobCheckpoints checkpoints;
+
+    @Value("${funnel.seed-history:true}")
+    private boolean seedHistory;
+
+    private Cache<Key, FunnelDto> results;
+    private volatile boolean stopping;
+    private ScheduledExecutorService scheduler;
+
+    @PostConstruct
+    void init() {
+        results = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(Duration.ofHours(1))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, results, "analytics.funnel");
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!seedHistory) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "funnel-seed");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Until the backfill is done, on this node or another one; an interrupted one is resumed
+        scheduler.scheduleWithFixedDelay(this::seedIfPending, 1, 10, TimeUnit.MINUTES);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        if (scheduler == null) {
+            return;
+        }
+        stopping = true;
+        scheduler.shutdownNow();
+        scheduler.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    public void applicationCreated(String userId, Application application) {
+        try {
+            mongoTemplate.insert(seed(userId, application, application.getStatus()));
+        } catch (DuplicateKeyException e) {
+            // Seeded by the backfill in the meantime
+        }
+    }
+
+    /**
+     * @param previousStatuses status of each application before the write
+     */
+    public void applicationStatusesChanged(String userId, Collection<Application> applications,
+                                           Map<String, ApplicationStatus> previousStatuses) {
+        if (applications.isEmpty()) {
+            return;
+        }
+        // Along with the seed of applications without history yet (already there for the others),
+        // in the same round trip: the status they had before counts in the funnel
+        List<StatusTransition> transitions = new ArrayList<>(applications.size() * 2);
+        for (Application application : applications) {
+            ApplicationStatus previousStatus = previousStatuses.get(application.getId());
+            transitions.add(seed(userId, application, previousStatus != null ? previousStatus : application.getStatus()));
+            transitions.add(transition(userId, application, previousStatus));
+        }
+        insertIgnoringDuplicates(transitions);
+    }
+
+    /**
+     * Source or applied date of the application changed: move its whole history to the new segments
+     */
+    public void applicationSegmentChanged(String userId, Application application) {
+        mongoTemplate.updateMulti(
+                new Query(Criteria.where("userId").is(userId).and("applicationId").is(application.getId())),
+                new Update().set("source", application.getSource()).set("appliedWeek", appliedWeek(application)),
+                StatusTransition.class);
+    }
+
+    public void applicationDeleted(String userId, String applicationId) {
+        mongoTemplate.remove(new Query(Criteria.where("userId").is(userId).and("applicationId").is(applicationId)),
+                StatusTransition.class);
+    }
+
+    public FunnelDto getFunnel(String userId) {
+        // Generation read first: a write during the computation leaves the result under a stale key
+        Key key = new Key(userId, generations.current(UserGenerations.Scope.APPLICATIONS, userId));
+        return results.get(key, k -> compute(userId));
+    }
+
+    private FunnelDto compute(String userId) {
+        long start = System.nanoTime();
+        MongoTemplate template = readRouting.template(ReadRouting.Workload.ANALYTICS, userId);
+
+        Criteria lastOfApplication = Criteria.where("leftAt").is(null);
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("userId").is(userId)),
+                SetWindowFieldsOperation.builder()
+                        .partitionByField("applicationId")
+                        .sortBy(Sort.by(Sort.Order.asc("at")))
+                        .output(DocumentOperators.valueOf("at").shift(1)).as("leftAt")
+                        .output(AccumulatorOperators.Max.maxOf("stage"))
+                        .within(SetWindowFieldsOperation.Windows.documents().fromUnbounded().toUnbounded().build())
+                        .as("reached")
+                        .output(AccumulatorOperators.Max.maxOf(ConditionalOperators
+                                .when(Criteria.where("status").is(ApplicationStatus.REJECTED.name())).then(1).otherwise(0)))
+                        .within(SetWindowFieldsOperation.Windows.documents().fromUnbounded().toUnbounded().build())
+                        .as("rejected")
+                        .build(),
+                Aggregation.facet(
+                                Aggregation.match(Criteria.where("leftAt").ne(null)
+                                        .and("status").in(STAGES.stream().map(Enum::name).toList())),
+                                Aggregation.group("status").count().as("exits")
+                                        .and("medianMillis", AccumulatorOperators.Median.medianOf(
+                                                ArithmeticOperators.Subtract.valueOf("leftAt").subtract("at"))))
+                        .as("stays")
+                        .and(Aggregation.match(lastOfApplication), Aggregation.group("reached").count().as("applications"))
+                        .as("funnel")
+                        .and(Aggregation.match(lastOfApplication), segment("source"))
+                        .as("bySource")
+                        .and(Aggregation.match(lastOfApplication), segment("appliedWeek"),
+                                Aggregation.sort(Sort.Direction.DESC, "_id"), Aggregation.limit(MAX_WEEKS))
+                        .as("byWeek")
+        );
+        Document result = template.aggregate(aggregation, StatusTransition.class, Document.class).getUniqueMappedResult();
+
+        FunnelDto funnel = toDto(result != null ? result : new Document());
+        log.debug("Funnel of user {} computed in {} ms", userId, (System.nanoTime() - start) / 1_000_000);
+        return funnel;
+    }
+
+    /**
+     * Applications, responses (interview or rejection), interviews and offers per value of the
+     * field, one row per application
+     */
+    private static GroupOperation segment(String field) {
+        return Aggregation.group(field).count().as("applications")
+                .sum(atLeast(1, true)).as("responses")
+                .sum(atLeast(1, false)).as("interviews")
+                .sum(atLeast(STAGES.size() - 1, false)).as("offers");
+    }
+
+    private static AggregationExpression atLeast(int stage, boolean orRejected) {
+        Criteria reached = Criteria.where("reached").gte(stage);
+        return ConditionalOperators
+                .when(orRejected ? new Criteria().orOperator(reached, Criteria.where("rejected").is(1)) : reached)
+                .then(1).otherwise(0);
+    }
+
+    private static FunnelDto toDto(Document result) {
+        // Applications per furthest stage (-1: never went further than REJECTED/GHOSTED, i.e. APPLIED)
+        long[] reached = new long[STAGES.size()];
+        for (Document row : result.getList("funnel", Document.class, List.of())) {
+            int stage = Math.max(row.get("_id", Number.class) != null ? row.get("_id", Number.class).intValue() : 0, 0);
+            long applications = row.get("applications", Number.class).longValue();
+            for (int i = 0; i <= Math.min(stage, STAGES.size() - 1); i++) {
+                reached[i] += applications;
+            }
+        }
+
+        Map<String, Document> stays = new HashMap<>();
+        for (Document row : result.getList("stays", Document.class, List.of())) {
+            stays.put(row.getString("_id"), row);
+        }
+        List<FunnelDto.Stage> stages = new ArrayList<>(STAGES.size());
+        for (int i = 0; i < STAGES.size(); i++) {
+            Document stay = stays.get(STAGES.get(i).name());
+            Number median = stay != null ? stay.get("medianMillis", Number.class) : null;
+            stages.add(FunnelDto.Stage.builder()
+                    .status(STAGES.get(i))
+                    .reached(reached[i])
+                    .conversion(i > 0 && reached[i - 1] > 0 ? ratio(reached[i], reached[i - 1]) : null)
+                    .medianDays(median != null ? Math.round(median.doubleValue() / MILLIS_PER_DAY * 10) / 10d : null)
+                    .exits(stay != null ? stay.get("exits", Number.class).longValue() : 0)
+                    .build());
+        }
+
+        List<FunnelDto.Segment> bySource = result.getList("bySource", Document.class, List.of()).stream()
+                .map(row -> toSegment(row)
+                        .source(row.getString("_id") != null ? ApplicationSource.valueOf(row.getString("_id")) : null)
+                        .build())
+                .toList();
+        List<FunnelDto.Segment> byWeek = result.getList("byWeek", Document.class, List.of()).stream()
+                .map(row -> toSegment(row).weekStart(row.getString("_id")).build())
+                .toList();
+
+        return FunnelDto.builder()
+                .totalApplications(reached[0])
+                .stages(stages)
+                .bySource(bySource)
+                .byWeek(byWeek)
+                .computedAt(Instant.now())
+                .build();
+    }
+
+    private static FunnelDto.Segment.SegmentBuilder toSegment(Document row) {
+        long applications = row.get("applications", Number.class).longValue();
+        long responses = row.get("responses", Number.class).longValue();
+        long interviews = row.get("interviews", Number.class).longValue();
+        long offers = row.get("offers", Number.class).longValue();
+        return FunnelDto.Segment.builder()
+                .applications(applications)
+                .responses(responses)
+                .interviews(interviews)
+                .offers(offers)
+                .responseRate(ratio(responses, applications))
+                .interviewRate(ratio(interviews, applications))
+                .offerRate(ratio(offers, applications));
+    }
+
+    private static double ratio(long count, long total) {
+        return total > 0 ? Math.round(count * 1000d / total) / 1000d : 0;
+    }
+
+    private void seedIfPending() {
+        try {
+            if (backfillHistory()) {
+                scheduler.shutdown();
+            }
+        } catch (Exception e) {
+            // Resumed from the last checkpoint on a later check
+            log.warn("Status history backfill interrupted: {}", e.getMessage());
+            checkpoints.release(SEED_JOB_ID);
+        }
+    }
+
+    /**
+     * One transition at creation for the applications without history (created before it was
+     * recorded), so that they count in the funnel
+     *
+     * @return true once the backfill is complete
+     */
+    private boolean backfillHistory() {
+        JobCheckpoint checkpoint = checkpoints.acquire(SEED_JOB_ID);
+        if (checkpoint == null) {
+            return checkpoints.isComplete(SEED_JOB_ID); // or running on another node
+        }
+        String lastId = checkpoint.getPosition();
+        List<Application> page;
+        while (!stopping && !(page = nextApplications(lastId)).isEmpty()) {
+            long seeded = seedMissing(page);
+            lastId = page.get(page.size() - 1).getId();
+            if (!checkpoints.saveProgress(SEED_JOB_ID, lastId, page.size(), seeded, 0)) {
+                log.warn("Status history backfill: lease lost, stopping");
+                return false;
+            }
+        }
+        if (stopping) {
+            checkpoints.release(SEED_JOB_ID);
+            return false;
+        }
+        JobCheckpoint done = checkpoints.complete(SEED_JOB_ID);
+        // Results computed before the seeds (other nodes: they expire within the hour)
+        results.invalidateAll();
+        log.info("Status history backfill done: {} application(s) seeded out of {}",
+                done != null ? done.getChanged() : "?", done != null ? done.getProcessed() : "?");
+        return true;
+    }
+
+    private List<Application> nextApplications(String lastId) {
+        Criteria criteria = lastId != null ? Criteria.where("id").gt(new ObjectId(lastId)) : new Criteria();
+        Query query = new Query(criteria).with(Sort.by(Sort.Order.asc("id"))).limit(SEED_PAGE_SIZE);
+        query.fields().include("userId", "status", "source", "appliedDate", "createdAt");
+        return mongoTemplate.find(query, Application.class);
+    }
+
+    /**
+     * @return number of seeds inserted for the page's applications without history
+     */
+    private long seedMissing(List<Application> page) {
+        Set<String> userIds = new HashSet<>();
+        List<String> applicationIds = new ArrayList<>(page.size());
+        for (Application application : page) {
+            userIds.add(application.getUserId());
+            applicationIds.add(application.getId());
+        }
+        Set<String> recorded = new HashSet<>(mongoTemplate.findDistinct(
+                new Query(Criteria.where("userId").in(userIds).and("applicationId").in(applicationIds)),
+                "applicationId", StatusTransition.class, String.class));
+        List<StatusTransition> seeds = page.stream()
+                .filter(application -> !recorded.contains(application.getId()))
+                .map(application -> seed(application.getUserId(), application, application.getStatus()))
+                .toList();
+        if (!seeds.isEmpty()) {
+            insertIgnoringDuplicates(seeds);
+        }
+        return seeds.size();
+    }
+
+    private void insertIgnoringDuplicates(List<StatusTransition> transitions) {
+        BulkOperations ops = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, StatusTransition.class);
+        ops.insert(transitions);
+        try {
+            ops.execute();
+        } catch (BulkOperationException e) {
+            // Seeds already there (same ids)
+            for (BulkWriteError error : e.getErrors()) {
+                if (error.getCode() != DUPLICATE_KEY) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * First transition of the application, to the given status at its creation
+     */
+    private static StatusTransition seed(String userId, Application application, ApplicationStatus status) {
+        StatusTransition seed = transition(userId, application, null);
+        seed.setId("seed:" + application.getId());
+        seed.setStatus(status);
+        seed.setStage(stageOf(status));
+        if (application.getCreatedAt() != null) {
+            seed.setAt(application.getCreatedAt());
+        }
+        return seed;
+    }
+
+    private static StatusTransition transition(String userId, Application application, ApplicationStatus previousStatus) {
+        return StatusTransition.builder()
+                .userId(userId)
+                .applicationId(application.getId())
+                .status(application.getStatus())
+                .previousStatus(previousStatus)
+                .stage(stageOf(application.getStatus()))
+                .at(application.getUpdatedAt() != null ? application.getUpdatedAt() : Instant.now())
+                .source(application.getSource())
+                .appliedWeek(appliedWeek(application))
+                .build();
+    }
+
+    static int stageOf(ApplicationStatus status) {
+        if (status == null) {
+            return 0;
+        }
+        return switch (status) {
+            case APPLIED -> 0;
+            case HR_INTERVIEW -> 1;
+            case TECH_INTERVIEW -> 2;
+            case OFFER, OFFER_ACCEPTED, OFFER_DECLINED -> 3;
+            case REJECTED, GHOSTED -> -1;
+        };
+    }
+
+    /**
+     * Monday of the week of the applied date, or of the creation when there is none (or it is invalid)
+     */
+    private static String appliedWeek(Application application) {
+        LocalDate day = null;
+        if (application.getAppliedDate() != null) {
+            try {
+                day = LocalDate.parse(application.getAppliedDate());
+            } catch (DateTimeException e) {
+                // creation date below
+            }
+        }
+        if (day == null) {
+            Instant created = application.getCreatedAt() != null ? application.getCreatedAt() : Instant.now();
+            day = LocalDate.ofInstant(created, ZoneOffset.UTC);
+        }
+        return day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).toString();
+    }
+
+    private record Key(String userId, long generation) {
+    }
+}
@@ -0,0 +1,106 @@
+package com.candidex.api.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Offline geocoder backed by a locally cached gazetteer file (CSV: city,country,latitude,longitude).
+ * Used to resolve application locations without calling a live geocoding service.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GazetteerService {
+
+    private final ResourceLoader resourceLoader;
+
+    @Value("${geo.gazetteer-path:classpath:geo/gazetteer.csv}")
+    private String gazetteerPath;
+
+    // "city|country" -> point, and "city" -> point when the city name is unambiguous
+    private final Map<String, GeoJsonPoint> byCityAndCountry = new HashMap<>();
+    private final Map<String, GeoJsonPoint> byCity = new HashMap<>();
+
+    @PostConstruct
+    void load() {
+        Resource resource = resourceLoader.getResource(gazetteerPath);
+        if (!resource.exists()) {
+            log.warn("Gazetteer file not found at {}, geocoding disabled", gazetteerPath);
+            return;
+        }
+
+        Set<String> ambiguousCities = new HashSet<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] cols = line.split(",");
+                if (cols.length != 4) {
+                    continue;
+                }
+                String city = normalize(cols[0]);
+                String country = normalize(cols[1]);
+                GeoJsonPoint point = new GeoJsonPoint(Double.parseDouble(cols[3].trim()), Double.parseDouble(cols[2].trim()));
+
+                byCityAndCountry.put(city + "|" + country, point);
+                GeoJsonPoint previous = byCity.putIfAbsent(city, point);
+                if (previous != null && !previous.equals(point)) {
+                    ambiguousCities.add(city);
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            log.error("Failed to load gazetteer from {}", gazetteerPath, e);
+            return;
+        }
+
+        ambiguousCities.forEach(byCity::remove);
+        log.info("Gazetteer loaded: {} entries", byCityAndCountry.size());
+    }
+
+    /**
+     * Resolve a city (and optional country) to a GeoJSON point.
+     */
+    public Optional<GeoJsonPoint> lookup(String city, String country) {
+        if (!StringUtils.hasText(city)) {
+            return Optional.empty();
+        }
+        String normalizedCity = normalize(city);
+        if (StringUtils.hasText(country)) {
+            GeoJsonPoint point = byCityAndCountry.get(normalizedCity + "|" + normalize(country));
+            if (point != null) {
+                return Optional.of(point);
+            }
+        }
+        return Optional.ofNullable(byCity.get(normalizedCity));
+    }
+
+    /**
+     * Lowercase, trim and strip accents so that "Île-de-France" and "ile-de-france" match.
+     */
+    private static String normalize(String value) {
+        String decomposed = Normalizer.normalize(value.trim(), Normalizer.Form.NFD);
+        return decomposed.replaceAll("\\p{M}", "").toLowerCase(Locale.ROOT);
+    }
+}
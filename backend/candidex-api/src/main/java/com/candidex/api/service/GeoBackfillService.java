@@ -0,0 +1,109 @@
+package com.candidex.api.service;
+
+import com.candidex.api.cache.CacheInvalidationBus;
+import com.candidex.api.model.Application;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+import org.springframework.data.util.Pair;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Bulk geocoding of applications that have a city but no coordinates yet.
+ * Resolves locations from the local gazetteer and writes them with unordered bulk updates.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GeoBackfillService implements ApplicationRunner {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final MongoTemplate mongoTemplate;
+    private final GazetteerService gazetteerService;
+    private final CacheInvalidationBus invalidationBus;
+
+    @Value("${geo.backfill-on-startup:false}")
+    private boolean backfillOnStartup;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (backfillOnStartup) {
+            backfill(null);
+        }
+    }
+
+    /**
+     * Geocode applications missing coordinates.
+     *
+     * @param userId restrict to one user, or null for all users
+     * @return counters: scanned, updated, unresolved
+     */
+    public Map<String, Long> backfill(String userId) {
+        Query query = new Query(Criteria.where("geo").exists(false).and("city").exists(true).ne(""));
+        if (userId != null) {
+            query.addCriteria(Criteria.where("userId").is(userId));
+        }
+        query.fields().include("city").include("country");
+
+        long scanned = 0;
+        long resolved = 0;
+        long updated = 0;
+        // New version of the documents: detail ETags and cached responses are keyed by updatedAt
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        List<Pair<Query, UpdateDefinition>> batch = new ArrayList<>(BATCH_SIZE);
+
+        try (Stream<Document> documents = mongoTemplate.stream(query, Document.class, "applications")) {
+            for (Document doc : (Iterable<Document>) documents::iterator) {
+                scanned++;
+                Optional<GeoJsonPoint> point = gazetteerService.lookup(doc.getString("city"), doc.getString("country"));
+                if (point.isEmpty()) {
+                    continue;
+                }
+                resolved++;
+                batch.add(Pair.of(
+                        new Query(Criteria.where("_id").is(doc.get("_id"))),
+                        new Update().set("geo", point.get()).set("updatedAt", now)
+                ));
+                if (batch.size() == BATCH_SIZE) {
+                    updated += flush(batch);
+                }
+            }
+        }
+        updated += flush(batch);
+
+        invalidationBus.applicationsChanged(userId, null);
+
+        log.info("Geo backfill done (user={}): scanned={}, updated={}", userId, scanned, updated);
+        return Map.of("scanned", scanned, "updated", updated, "unresolved", scanned - resolved);
+    }
+
+    private long flush(List<Pair<Query, UpdateDefinition>> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        BulkOperations ops = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Application.class);
+        ops.updateOne(batch);
+        int modified = ops.execute().getModifiedCount();
+        batch.clear();
+        return modified;
+    }
+}
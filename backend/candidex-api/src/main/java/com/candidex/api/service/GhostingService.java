@@ -0,0 +1,395 @@
+package com.candidex.api.service;
+
+import com.candidex.api.dto.BatchResultDto;
+import com.candidex.api.model.Application;
+import com.candidex.api.model.GhostingChange;
+import com.candidex.api.model.Interview;
+import com.candidex.api.model.JobCheckpoint;
+import com.candidex.api.model.User;
+import com.candidex.api.model.enums.ApplicationStatus;
+import com.candidex.api.model.enums.InterviewStatus;
+import com.candidex.api.repository.ReadRouting;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Ghosting detector: applications still APPLIED / HR_INTERVIEW / TECH_INTERVIEW without any
+ * change for the user's ghostingDays, and without a scheduled or recent interview, are moved
+ * to GHOSTED once a day. Each change is recorded (ghosting_changes) and can be undone.
+ *
+ * The run scans status_updatedAt_idx in (updatedAt, _id) order, one status at a time, page-size
+ * applications per page, with a pause between pages: a bounded number of queries per page and
+ * one updateMulti per page, whatever the number of users. The position is checkpointed after
+ * each page (job_checkpoints), so an interrupted run resumes where it stopped.
+ * Based on API.md section 2.9
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GhostingService implements ApplicationRunner, DisposableBean {
+
+    public static final int MIN_DAYS = 7;
+    private static final List<ApplicationStatus> WAITING_STATUSES = List.of(
+            ApplicationStatus.APPLIED, ApplicationStatus.HR_INTERVIEW, ApplicationStatus.TECH_INTERVIEW);
+    private static final int MAX_CHANGES_LISTED = 200;
+
+    private final MongoTemplate mongoTemplate;
+    private final ReadRouting readRouting;
+    private final ApplicationService applicationService;
+    private final JobCheckpoints checkpoints;
+    private final WebhookService webhookService;
+    private final ActivityService activityService;
+    private final FunnelService funnelService;
+
+    @Value("${ghosting.enabled:false}")
+    private boolean enabled;
+
+    @Value("${ghosting.default-days:30}")
+    private int defaultDays;
+
+    // Hour (UTC) from which the day's run starts
+    @Value("${ghosting.hour:3}")
+    private int hour;
+
+    @Value("${ghosting.page-size:500}")
+    private int pageSize;
+
+    @Value("${ghosting.page-pause-millis:200}")
+    private long pagePauseMillis;
+
+    private volatile boolean stopping;
+    private ScheduledExecutorService scheduler;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ghosting");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Starts the day's run once due, and resumes an interrupted one
+        scheduler.scheduleWithFixedDelay(this::runIfDue, 2, 10, TimeUnit.MINUTES);
+        log.info("Ghosting detector enabled (from {}:00 UTC, default {} days)", hour, defaultDays);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        if (scheduler == null) {
+            return;
+        }
+        stopping = true;
+        scheduler.shutdownNow();
+        scheduler.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Automatic changes not undone yet, latest first
+     */
+    public List<GhostingChange> getChanges(String userId) {
+        Query query = new Query(Criteria.where("userId").is(userId).and("undoneAt").is(null))
+                .with(Sort.by(Sort.Direction.DESC, "ghostedAt"))
+                .limit(MAX_CHANGES_LISTED);
+        return mongoTemplate.find(query, GhostingChange.class);
+    }
+
+    /**
+     * Put the applications back in their previous status (all automatic changes when ids is
+     * null/empty). Applications changed by the user since are left alone.
+     */
+    public BatchResultDto undo(String userId, List<String> applicationIds) {
+        Criteria criteria = Criteria.where("userId").is(userId).and("undoneAt").is(null);
+        if (applicationIds != null && !applicationIds.isEmpty()) {
+            criteria.and("applicationId").in(applicationIds);
+        }
+        List<GhostingChange> changes = mongoTemplate.find(new Query(criteria), GhostingChange.class);
+        if (changes.isEmpty()) {
+            return new BatchResultDto(0, 0);
+        }
+        // An application ghosted again has several changes: only the latest holds its previous status
+        Map<String, GhostingChange> latest = changes.stream().collect(Collectors.toMap(GhostingChange::getApplicationId,
+                change -> change, (a, b) -> a.getGhostedAt().isAfter(b.getGhostedAt()) ? a : b));
+
+        // One updateMulti per previous status (at most three)
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        long modified = 0;
+        Map<ApplicationStatus, List<String>> byStatus = latest.values().stream().collect(Collectors.groupingBy(
+                GhostingChange::getPreviousStatus, Collectors.mapping(GhostingChange::getApplicationId, Collectors.toList())));
+        for (Map.Entry<ApplicationStatus, List<String>> entry : byStatus.entrySet()) {
+            Query query = new Query(Criteria.where("userId").is(userId).and("id").in(entry.getValue())
+                    .and("status").is(ApplicationStatus.GHOSTED));
+            // A fresh updatedAt: the application is not ghosted again before another full delay
+            modified += mongoTemplate.updateMulti(query, new Update().set("status", entry.getKey()).set("updatedAt", now),
+                    Application.class).getModifiedCount();
+        }
+        List<String> changeIds = changes.stream().map(GhostingChange::getId).toList();
+        mongoTemplate.updateMulti(new Query(Criteria.where("id").in(changeIds)), new Update().set("undoneAt", now), GhostingChange.class);
+
+        if (modified > 0) {
+            List<String> ids = List.copyOf(latest.keySet());
+            // Those put back by this undo carry its timestamp
+            Query restoredQuery = new Query(Criteria.where("userId").is(userId).and("id").in(ids).and("updatedAt").is(now));
+            restoredQuery.fields().include("companyName", "roleTitle", "status", "updatedAt", "source", "appliedDate", "createdAt");
+            List<Application> restored = mongoTemplate.find(restoredQuery, Application.class);
+            Map<String, ApplicationStatus> previousStatuses = restored.stream()
+                    .collect(Collectors.toMap(Application::getId, application -> ApplicationStatus.GHOSTED));
+            funnelService.applicationStatusesChanged(userId, restored, previousStatuses);
+            applicationService.afterWrite(userId, ids);
+            webhookService.applicationStatusesChanged(userId, restored, previousStatuses);
+            activityService.applicationStatusesChanged(userId, restored, previousStatuses);
+        }
+        log.info("Undid {} automatic GHOSTED change(s) for user {}", modified, userId);
+        return new BatchResultDto(latest.size(), modified);
+    }
+
+    private void runIfDue() {
+        ZonedDateTime now = ZonedDateTime.now(ZoneOffset.UTC);
+        if (now.getHour() < hour) {
+            return;
+        }
+        String jobId = "ghosting:" + now.toLocalDate();
+        try {
+            run(jobId);
+        } catch (Exception e) {
+            // Resumed from the last checkpoint on a later check
+            log.warn("Ghosting run {} interrupted: {}", jobId, e.getMessage());
+            checkpoints.release(jobId);
+        }
+    }
+
+    private void run(String jobId) throws InterruptedException {
+        JobCheckpoint checkpoint = checkpoints.acquire(jobId);
+        if (checkpoint == null) {
+            return; // done, or running on another node
+        }
+        Instant now = Instant.now();
+        // Nothing can be ghosted before the smallest threshold in use
+        Instant scanBefore = now.minus(smallestThreshold(), ChronoUnit.DAYS);
+        ScanPosition position = ScanPosition.parse(checkpoint.getPosition());
+        log.info(position == null ? "Ghosting run {} started" : "Ghosting run {} resumed at {}", jobId, checkpoint.getPosition());
+
+        Map<String, Integer> thresholds = new HashMap<>();
+        long scanned = 0;
+        long ghosted = 0;
+        int first = position != null ? WAITING_STATUSES.indexOf(position.status()) : 0;
+        for (int i = first; i < WAITING_STATUSES.size(); i++) {
+            ApplicationStatus status = WAITING_STATUSES.get(i);
+            ScanPosition after = position != null && position.status() == status ? position : null;
+            List<Application> page;
+            while (!stopping && !(page = nextPage(status, scanBefore, after)).isEmpty()) {
+                long changed = ghost(page, status, now, scanBefore, thresholds);
+                Application last = page.get(page.size() - 1);
+                after = new ScanPosition(status, last.getUpdatedAt(), last.getId());
+                if (!checkpoints.saveProgress(jobId, after.toString(), page.size(), changed, 0)) {
+                    log.warn("Ghosting run {}: lease lost, stopping", jobId);
+                    return;
+                }
+                scanned += page.size();
+                ghosted += changed;
+                Thread.sleep(pagePauseMillis);
+            }
+            if (stopping) {
+                checkpoints.release(jobId);
+                return;
+            }
+        }
+        checkpoints.complete(jobId);
+        log.info("Ghosting run {} done: {} candidates scanned, {} application(s) marked GHOSTED", jobId, scanned, ghosted);
+    }
+
+    private int smallestThreshold() {
+        Query query = new Query(Criteria.where("ghostingDays").gt(0))
+                .with(Sort.by(Sort.Order.asc("ghostingDays"))).limit(1);
+        query.fields().include("ghostingDays");
+        User user = mongoTemplate.findOne(query, User.class);
+        return user != null ? Math.min(user.getGhostingDays(), defaultDays) : defaultDays;
+    }
+
+    /**
+     * Next applications of the status not changed since scanBefore, in index order
+     */
+    private List<Application> nextPage(ApplicationStatus status, Instant scanBefore, ScanPosition after) {
+        Criteria criteria = Criteria.where("status").is(status);
+        if (after == null) {
+            criteria.and("updatedAt").lt(scanBefore);
+        } else {
+            criteria.orOperator(
+                    Criteria.where("updatedAt").gt(after.updatedAt()).lt(scanBefore),
+                    Criteria.where("updatedAt").is(after.updatedAt()).and("id").gt(new ObjectId(after.id())));
+        }
+        Query query = new Query(criteria)
+                .with(Sort.by(Sort.Order.asc("updatedAt"), Sort.Order.asc("id")))
+                .limit(pageSize);
+        query.fields().include("userId").include("updatedAt").include("companyName").include("roleTitle")
+                .include("source").include("appliedDate").include("createdAt");
+        return readRouting.template(ReadRouting.Workload.EXPORT).find(query, Application.class);
+    }
+
+    /**
+     * Move the page's applications that are past their user's threshold and have no interview
+     * keeping them alive to GHOSTED, in one updateMulti
+     *
+     * @return number of applications changed
+     */
+    private long ghost(List<Application> page, ApplicationStatus status, Instant now, Instant scanBefore,
+                       Map<String, Integer> thresholds) {
+        loadThresholds(page, thresholds);
+        Map<String, Application> candidates = new LinkedHashMap<>();
+        for (Application application : page) {
+            int days = thresholds.getOrDefault(application.getUserId(), defaultDays);
+            if (days > 0 && application.getUpdatedAt().isBefore(now.minus(days, ChronoUnit.DAYS))) {
+                candidates.put(application.getId(), application);
+            }
+        }
+        removeWithInterviews(candidates, now, thresholds);
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+
+        // Conditions re-checked on the primary: a write since the scan moved updatedAt past scanBefore
+        Instant at = Instant.now().truncatedTo(ChronoUnit.MILLIS); // stored with millisecond precision
+        Query query = new Query(Criteria.where("id").in(candidates.keySet())
+                .and("status").is(status)
+                .and("updatedAt").lt(scanBefore));
+        long modified = mongoTemplate.updateMulti(query,
+                new Update().set("status", ApplicationStatus.GHOSTED).set("updatedAt", at), Application.class).getModifiedCount();
+        if (modified == 0) {
+            return 0;
+        }
+
+        // The documents changed by this update are exactly those now carrying its timestamp
+        Query changedQuery = new Query(Criteria.where("id").in(candidates.keySet())
+                .and("status").is(ApplicationStatus.GHOSTED).and("updatedAt").is(at));
+        changedQuery.fields().include("id");
+        List<GhostingChange> changes = new ArrayList<>();
+        for (Application changed : mongoTemplate.find(changedQuery, Application.class)) {
+            Application before = candidates.get(changed.getId());
+            changes.add(GhostingChange.builder()
+                    .userId(before.getUserId())
+                    .applicationId(before.getId())
+                    .companyName(before.getCompanyName())
+                    .roleTitle(before.getRoleTitle())
+                    .previousStatus(status)
+                    .lastActivityAt(before.getUpdatedAt())
+                    .ghostedAt(at)
+                    .build());
+        }
+        // Earlier changes of a re-ghosted application (changed back by the user since) can no longer be undone
+        Query supersededQuery = new Query(Criteria.where("userId").in(changes.stream().map(GhostingChange::getUserId).collect(Collectors.toSet()))
+                .and("applicationId").in(changes.stream().map(GhostingChange::getApplicationId).toList())
+                .and("undoneAt").is(null).and("ghostedAt").lt(at));
+        mongoTemplate.updateMulti(supersededQuery, new Update().set("undoneAt", at), GhostingChange.class);
+        mongoTemplate.insert(changes, GhostingChange.class);
+        changes.stream()
+                .collect(Collectors.groupingBy(GhostingChange::getUserId,
+                        Collectors.mapping(GhostingChange::getApplicationId, Collectors.toList())))
+                .forEach((userId, ids) -> {
+                    List<Application> ghosted = ids.stream().map(id -> {
+                        Application before = candidates.get(id);
+                        return Application.builder().id(id).companyName(before.getCompanyName())
+                                .roleTitle(before.getRoleTitle()).source(before.getSource())
+                                .appliedDate(before.getAppliedDate()).createdAt(before.getCreatedAt())
+                                .status(ApplicationStatus.GHOSTED).updatedAt(at).build();
+                    }).toList();
+                    Map<String, ApplicationStatus> previousStatuses = ids.stream().collect(Collectors.toMap(id -> id, id -> status));
+                    funnelService.applicationStatusesChanged(userId, ghosted, previousStatuses);
+                    applicationService.afterWrite(userId, ids);
+                    webhookService.applicationStatusesChanged(userId, ghosted, previousStatuses);
+                    activityService.applicationStatusesChanged(userId, ghosted, previousStatuses);
+                });
+        return changes.size();
+    }
+
+    /**
+     * ghostingDays of the page's users not seen yet in this run (null: default)
+     */
+    private void loadThresholds(List<Application> page, Map<String, Integer> thresholds) {
+        Set<String> missing = page.stream().map(Application::getUserId)
+                .filter(userId -> !thresholds.containsKey(userId))
+                .collect(Collectors.toSet());
+        if (missing.isEmpty()) {
+            return;
+        }
+        Query query = new Query(Criteria.where("id").in(missing));
+        query.fields().include("ghostingDays");
+        for (User user : mongoTemplate.find(query, User.class)) {
+            thresholds.put(user.getId(), user.getGhostingDays() != null ? user.getGhostingDays() : defaultDays);
+        }
+        missing.forEach(userId -> thresholds.putIfAbsent(userId, 0)); // deleted users
+    }
+
+    /**
+     * Drop candidates with a SCHEDULED interview, or an interview within their threshold
+     */
+    private void removeWithInterviews(Map<String, Application> candidates, Instant now, Map<String, Integer> thresholds) {
+        if (candidates.isEmpty()) {
+            return;
+        }
+        Set<String> userIds = new HashSet<>();
+        int maxDays = 0;
+        for (Application application : candidates.values()) {
+            userIds.add(application.getUserId());
+            maxDays = Math.max(maxDays, thresholds.get(application.getUserId()));
+        }
+        Query query = new Query(Criteria.where("userId").in(userIds)
+                .and("applicationId").in(candidates.keySet())
+                .orOperator(Criteria.where("status").is(InterviewStatus.SCHEDULED),
+                        Criteria.where("startAt").gte(now.minus(maxDays, ChronoUnit.DAYS))));
+        query.fields().include("userId").include("applicationId").include("status").include("startAt");
+        for (Interview interview : readRouting.template(ReadRouting.Workload.EXPORT).find(query, Interview.class)) {
+            Instant cutoff = now.minus(thresholds.get(interview.getUserId()), ChronoUnit.DAYS);
+            if (interview.getStatus() == InterviewStatus.SCHEDULED
+                    || (interview.getStartAt() != null && !interview.getStartAt().isBefore(cutoff))) {
+                candidates.remove(interview.getApplicationId());
+            }
+        }
+    }
+
+    /**
+     * Resume point of a run: "STATUS|updatedAt millis|_id"
+     */
+    private record ScanPosition(ApplicationStatus status, Instant updatedAt, String id) {
+
+        static ScanPosition parse(String value) {
+            if (value == null) {
+                return null;
+            }
+            String[] parts = value.split("\\|");
+            return new ScanPosition(ApplicationStatus.valueOf(parts[0]), Instant.ofEpochMilli(Long.parseLong(parts[1])), parts[2]);
+        }
+
+        @Override
+        public String toString() {
+            return status + "|" + updatedAt.toEpochMilli() + "|" + id;
+        }
+    }
+}
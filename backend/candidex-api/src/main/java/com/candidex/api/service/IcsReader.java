@@ -0,0 +1,147 @@
+package com.candidex.api.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Streaming reader of the VEVENTs of an iCalendar (RFC 5545) file.
+ *
+ * Lines are unfolded on the fly and only the properties of the current event are held, so
+ * memory does not depend on the size of the file. Nested components (VALARM) are skipped.
+ */
+class IcsReader {
+
+    // Longer (unfolded) lines are truncated: huge inline attachments are of no use here
+    private static final int MAX_LINE_LENGTH = 16 * 1024;
+
+    private final BufferedReader reader;
+    private String lookahead;
+    private int lineNumber;
+    private int eventLine;
+
+    IcsReader(Reader reader) {
+        this.reader = new BufferedReader(reader, 16 * 1024);
+    }
+
+    /**
+     * @return the properties of the next VEVENT by upper-case name (first occurrence), or null at the end
+     */
+    Map<String, Property> nextEvent() throws IOException {
+        Map<String, Property> event = null;
+        int nestedDepth = 0;
+        String line;
+        while ((line = nextLine()) != null) {
+            Property property = parse(line);
+            if (property == null) {
+                continue;
+            }
+            if (event == null) {
+                if (property.name().equals("BEGIN") && property.value().equalsIgnoreCase("VEVENT")) {
+                    event = new HashMap<>();
+                    eventLine = lineNumber;
+                }
+                continue;
+            }
+            if (property.name().equals("BEGIN")) {
+                nestedDepth++;
+            } else if (property.name().equals("END")) {
+                if (nestedDepth == 0) {
+                    return event;
+                }
+                nestedDepth--;
+            } else if (nestedDepth == 0) {
+                event.putIfAbsent(property.name(), property);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Line of the BEGIN:VEVENT of the last event returned (for error reports)
+     */
+    int eventLine() {
+        return eventLine;
+    }
+
+    private String nextLine() throws IOException {
+        String line = lookahead != null ? lookahead : reader.readLine();
+        lookahead = null;
+        if (line == null) {
+            return null;
+        }
+        lineNumber++;
+        StringBuilder unfolded = null;
+        String next;
+        while ((next = reader.readLine()) != null && !next.isEmpty()
+                && (next.charAt(0) == ' ' || next.charAt(0) == '\t')) {
+            lineNumber++;
+            if (unfolded == null) {
+                unfolded = new StringBuilder(line);
+            }
+            if (unfolded.length() < MAX_LINE_LENGTH) {
+                unfolded.append(next, 1, next.length());
+            }
+        }
+        lookahead = next;
+        String result = unfolded != null ? unfolded.toString() : line;
+        return result.length() > MAX_LINE_LENGTH ? result.substring(0, MAX_LINE_LENGTH) : result;
+    }
+
+    /**
+     * "NAME;PARAM=a;PARAM2="b:c":value", or null for a line that is not a content line
+     */
+    private static Property parse(String line) {
+        int colon = -1;
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (c == ':' && !quoted) {
+                colon = i;
+                break;
+            }
+        }
+        if (colon <= 0) {
+            return null;
+        }
+
+        String[] head = line.substring(0, colon).split(";(?=(?:[^\"]*\"[^\"]*\")*[^\"]*$)");
+        Map<String, String> params = new HashMap<>();
+        for (int i = 1; i < head.length; i++) {
+            int equals = head[i].indexOf('=');
+            if (equals > 0) {
+                params.put(head[i].substring(0, equals).toUpperCase(Locale.ROOT),
+                        head[i].substring(equals + 1).replace("\"", ""));
+            }
+        }
+        return new Property(head[0].trim().toUpperCase(Locale.ROOT), params, line.substring(colon + 1));
+    }
+
+    /**
+     * TEXT value with its escapes removed (RFC 5545 3.3.11)
+     */
+    static String unescape(String value) {
+        if (value.indexOf('\\') < 0) {
+            return value;
+        }
+        StringBuilder text = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                char escaped = value.charAt(++i);
+                text.append(escaped == 'n' || escaped == 'N' ? '\n' : escaped);
+            } else {
+                text.append(c);
+            }
+        }
+        return text.toString();
+    }
+
+    record Property(String name, Map<String, String> params, String value) {
+    }
+}
@@ -0,0 +1,194 @@
+package com.candidex.api.service;
+
+import com.candidex.api.cache.UserGenerations;
+import com.candidex.api.model.Application;
+import com.candidex.api.model.Interview;
+import com.candidex.api.repository.ReadRouting;
+import com.candidex.api.repository.codec.CodecQueryExecutor;
+import com.mongodb.ReadPreference;
+import lombok.RequiredArgsConstructor;
+import org.bson.RawBsonDocument;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * iCalendar (RFC 5545) subscription feed of a user's interviews.
+ *
+ * The feed is written event by event while iterating the interviews cursor (raw BSON, no
+ * entity mapping), so memory stays flat whatever the number of interviews.
+ * Based on API.md section 7.3
+ */
+@Service
+@RequiredArgsConstructor
+public class InterviewFeedService {
+
+    private static final DateTimeFormatter UTC_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'")
+            .withZone(ZoneOffset.UTC);
+    private static final int MAX_LINE_OCTETS = 75;
+
+    private final CodecQueryExecutor codecQueryExecutor;
+    private final ReadRouting readRouting;
+    private final UserGenerations generations;
+    private final UserService userService;
+
+    // Older interviews are left out of the feed
+    @Value("${ics.past-days:90}")
+    private long pastDays;
+
+    @Value("${interviews.default-duration-minutes:60}")
+    private long defaultDurationMinutes;
+
+    /**
+     * @throws org.springframework.web.server.ResponseStatusException 404 if no user has this feed token
+     */
+    public String resolveUserId(String token) {
+        return userService.findUserIdByCalendarToken(token);
+    }
+
+    /**
+     * Version of everything the feed shows (interviews, and the company/role of their applications)
+     */
+    public String getFeedStamp(String userId) {
+        return generations.stamp(UserGenerations.Scope.INTERVIEWS, userId)
+                + "." + generations.current(UserGenerations.Scope.APPLICATIONS, userId);
+    }
+
+    /**
+     * Write the feed to out (flushed, not closed)
+     */
+    public void writeFeed(String userId, OutputStream out) throws IOException {
+        ReadPreference readPreference = readRouting.readPreference(ReadRouting.Workload.EXPORT, userId);
+        Map<String, Application> applications = findApplications(userId, readPreference);
+
+        Query query = new Query(Criteria.where("userId").is(userId)
+                .and("startAt").gte(Instant.now().minus(pastDays, ChronoUnit.DAYS)))
+                .with(Sort.by(Sort.Order.asc("startAt")));
+        query.fields().include("applicationId").include("title").include("status").include("startAt")
+                .include("endAt").include("location").include("meetingUrl").include("updatedAt");
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 16 * 1024);
+        writeLine(writer, "BEGIN:VCALENDAR");
+        writeLine(writer, "VERSION:2.0");
+        writeLine(writer, "PRODID:-//Candidex//Entretiens//FR");
+        writeLine(writer, "CALSCALE:GREGORIAN");
+        writeLine(writer, "METHOD:PUBLISH");
+        writeLine(writer, "X-WR-CALNAME:" + escape("Candidex – Entretiens"));
+        writeLine(writer, "REFRESH-INTERVAL;VALUE=DURATION:PT15M");
+        writeLine(writer, "X-PUBLISHED-TTL:PT15M");
+        codecQueryExecutor.forEachRaw(query, Interview.class, readPreference,
+                raw -> writeEvent(writer, raw, applications));
+        writeLine(writer, "END:VCALENDAR");
+        writer.flush();
+    }
+
+    private Map<String, Application> findApplications(String userId, ReadPreference readPreference) {
+        Query query = new Query(Criteria.where("userId").is(userId));
+        query.fields().include("companyName").include("roleTitle");
+        Map<String, Application> byId = new HashMap<>();
+        for (Application application : codecQueryExecutor.find(query, Application.class, readPreference)) {
+            byId.put(application.getId(), application);
+        }
+        return byId;
+    }
+
+    private void writeEvent(Writer writer, RawBsonDocument raw, Map<String, Application> applications) throws IOException {
+        Instant startAt = instant(raw, "startAt");
+        if (startAt == null) {
+            return;
+        }
+        Instant endAt = instant(raw, "endAt");
+        if (endAt == null || !endAt.isAfter(startAt)) {
+            endAt = startAt.plus(defaultDurationMinutes, ChronoUnit.MINUTES);
+        }
+        Instant updatedAt = instant(raw, "updatedAt");
+        if (updatedAt == null) {
+            updatedAt = startAt;
+        }
+
+        String title = string(raw, "title");
+        Application application = applications.get(string(raw, "applicationId"));
+        String summary = title != null ? title : "Entretien";
+        if (application != null && application.getCompanyName() != null) {
+            summary += " – " + application.getCompanyName();
+        }
+        String location = string(raw, "location");
+        String meetingUrl = string(raw, "meetingUrl");
+
+        writeLine(writer, "BEGIN:VEVENT");
+        writeLine(writer, "UID:" + raw.getObjectId("_id").getValue().toHexString() + "@candidex");
+        writeLine(writer, "DTSTAMP:" + UTC_DATE_TIME.format(updatedAt));
+        writeLine(writer, "LAST-MODIFIED:" + UTC_DATE_TIME.format(updatedAt));
+        writeLine(writer, "DTSTART:" + UTC_DATE_TIME.format(startAt));
+        writeLine(writer, "DTEND:" + UTC_DATE_TIME.format(endAt));
+        writeLine(writer, "SUMMARY:" + escape(summary));
+        if (application != null && application.getRoleTitle() != null) {
+            writeLine(writer, "DESCRIPTION:" + escape("Poste : " + application.getRoleTitle()));
+        }
+        if (location != null && !location.isBlank()) {
+            writeLine(writer, "LOCATION:" + escape(location));
+        } else if (meetingUrl != null && !meetingUrl.isBlank()) {
+            writeLine(writer, "LOCATION:" + escape(meetingUrl));
+        }
+        if (meetingUrl != null && !meetingUrl.isBlank()) {
+            writeLine(writer, "URL:" + meetingUrl.replaceAll("[\\r\\n]", ""));
+        }
+        writeLine(writer, "STATUS:" + ("CANCELED".equals(string(raw, "status")) ? "CANCELLED" : "CONFIRMED"));
+        writeLine(writer, "END:VEVENT");
+    }
+
+    /**
+     * Content line terminated by CRLF, folded so that no line exceeds 75 octets (RFC 5545 3.1)
+     */
+    private static void writeLine(Writer writer, String line) throws IOException {
+        int octets = 0;
+        for (int i = 0; i < line.length(); ) {
+            int codePoint = line.codePointAt(i);
+            int chars = Character.charCount(codePoint);
+            int size = codePoint < 0x80 ? 1 : codePoint < 0x800 ? 2 : codePoint < 0x10000 ? 3 : 4;
+            if (octets + size > MAX_LINE_OCTETS) {
+                writer.write("\r\n ");
+                octets = 1;
+            }
+            writer.write(line, i, chars);
+            octets += size;
+            i += chars;
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * TEXT value escaping (RFC 5545 3.3.11)
+     */
+    private static String escape(String text) {
+        return text.replace("\\", "\\\\")
+                .replace(";", "\\;")
+                .replace(",", "\\,")
+                .replace("\r\n", "\\n")
+                .replace("\n", "\\n")
+                .replace("\r", "");
+    }
+
+    private static String string(RawBsonDocument raw, String key) {
+        return raw.isString(key) ? raw.getString(key).getValue() : null;
+    }
+
+    private static Instant instant(RawBsonDocument raw, String key) {
+        return raw.isDateTime(key) ? Instant.ofEpochMilli(raw.getDateTime(key).getValue()) : null;
+    }
+}
@@ -0,0 +1,378 @@
+package com.candidex.api.service;
+
+import com.candidex.api.cache.CacheInvalidationBus;
+import com.candidex.api.dto.InterviewImportReportDto;
+import com.candidex.api.model.Application;
+import com.candidex.api.model.Interview;
+import com.candidex.api.model.enums.ActivityType;
+import com.candidex.api.model.enums.InterviewMode;
+import com.candidex.api.model.enums.InterviewStatus;
+import com.candidex.api.model.enums.InterviewType;
+import com.candidex.api.model.enums.WebhookEventType;
+import com.candidex.api.repository.codec.CodecQueryExecutor;
+import com.mongodb.bulk.BulkWriteError;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Bulk creation of interviews from an uploaded iCalendar file.
+ *
+ * The file is read one VEVENT at a time (IcsReader) and interviews are inserted in unordered
+ * bulk writes of BATCH_SIZE, so memory stays constant whatever the size of the file.
+ * Duplicates are detected by the unique index on (userId, icalUid): a re-import or a UID
+ * repeated in the file only costs a duplicate key error in its batch.
+ * Based on API.md section 7.4
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class InterviewImportService {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_ERRORS = 20;
+    private static final int MAX_TITLE_LENGTH = 200;
+    private static final int MAX_COMPANY_WORDS = 4;
+    private static final int DUPLICATE_KEY = 11000;
+
+    private static final DateTimeFormatter LOCAL_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final DateTimeFormatter LOCAL_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final Pattern MEETING_URL = Pattern.compile(
+            "https://[^\\s\"<>]*(zoom\\.us|meet\\.google\\.com|teams\\.microsoft\\.com|teams\\.live\\.com|webex\\.com|whereby\\.com)[^\\s\"<>]*");
+    private static final Pattern WEEKS = Pattern.compile("([+-]?)P(\\d+)W");
+
+    private final MongoTemplate mongoTemplate;
+    private final CodecQueryExecutor codecQueryExecutor;
+    private final CacheInvalidationBus invalidationBus;
+    private final WebhookService webhookService;
+    private final ActivityService activityService;
+
+    @Value("${interviews.max-duration-minutes:720}")
+    private long maxDurationMinutes;
+
+    @Value("${interviews.default-duration-minutes:60}")
+    private long defaultDurationMinutes;
+
+    /**
+     * @param defaultApplicationId application of the events whose company is not recognized, or null to skip them
+     * @param matchCompanies look for the company name of an application in each event's summary
+     * @param tz timezone of the floating dates (no TZID, no trailing Z), UTC if null
+     * @throws IllegalArgumentException if the timezone is invalid
+     */
+    public InterviewImportReportDto importIcs(
+            String userId,
+            InputStream in,
+            String defaultApplicationId,
+            boolean matchCompanies,
+            String tz
+    ) throws IOException {
+        ZoneId zone;
+        try {
+            zone = tz != null && !tz.isBlank() ? ZoneId.of(tz.trim()) : ZoneOffset.UTC;
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("Fuseau horaire invalide.");
+        }
+        if (defaultApplicationId != null && !mongoTemplate.exists(
+                new Query(Criteria.where("id").is(defaultApplicationId).and("userId").is(userId)), Application.class)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Candidature introuvable.");
+        }
+        Map<String, String> companies = matchCompanies ? companyIndex(userId) : Map.of();
+
+        Import state = new Import();
+        IcsReader reader = new IcsReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        Map<String, IcsReader.Property> event;
+        Instant now = Instant.now();
+        while ((event = reader.nextEvent()) != null) {
+            state.events++;
+            try {
+                Interview interview = toInterview(userId, event, zone, now);
+                String applicationId = matchCompany(companies, interview.getTitle());
+                if (applicationId == null) {
+                    applicationId = defaultApplicationId;
+                }
+                if (applicationId == null) {
+                    state.unmatched++;
+                    continue;
+                }
+                interview.setApplicationId(applicationId);
+                state.batch.add(interview);
+                if (state.batch.size() == BATCH_SIZE) {
+                    flush(state);
+                }
+            } catch (IllegalArgumentException | DateTimeException e) {
+                state.invalid++;
+                state.error("Ligne " + reader.eventLine() + " : " + e.getMessage());
+            }
+        }
+        flush(state);
+
+        if (state.imported > 0) {
+            invalidationBus.interviewsChanged(userId, null);
+        }
+        log.info("ICS import for user {}: events={}, imported={}, duplicates={}, unmatched={}, invalid={}",
+                userId, state.events, state.imported, state.duplicates, state.unmatched, state.invalid);
+        return InterviewImportReportDto.builder()
+                .events(state.events)
+                .imported(state.imported)
+                .duplicates(state.duplicates)
+                .unmatched(state.unmatched)
+                .invalid(state.invalid)
+                .errors(state.errors)
+                .build();
+    }
+
+    private Interview toInterview(String userId, Map<String, IcsReader.Property> event, ZoneId zone, Instant now) {
+        IcsReader.Property uid = event.get("UID");
+        if (uid == null || uid.value().isBlank()) {
+            throw new IllegalArgumentException("événement sans UID.");
+        }
+        IcsReader.Property dtStart = event.get("DTSTART");
+        if (dtStart == null) {
+            throw new IllegalArgumentException("événement sans DTSTART.");
+        }
+
+        Instant startAt = instant(dtStart, zone);
+        Instant endAt = null;
+        if (event.containsKey("DTEND")) {
+            endAt = instant(event.get("DTEND"), zone);
+        } else if (event.containsKey("DURATION")) {
+            endAt = startAt.plus(duration(event.get("DURATION").value()));
+        }
+        if (endAt != null && endAt.isBefore(startAt)) {
+            throw new IllegalArgumentException("la fin précède le début.");
+        }
+        if (endAt != null && Duration.between(startAt, endAt).toMinutes() > maxDurationMinutes) {
+            throw new IllegalArgumentException("dure plus de " + maxDurationMinutes + " minutes.");
+        }
+
+        String title = text(event.get("SUMMARY"));
+        if (title == null || title.isBlank()) {
+            title = "Entretien";
+        }
+        title = title.strip();
+        if (title.length() > MAX_TITLE_LENGTH) {
+            title = title.substring(0, MAX_TITLE_LENGTH);
+        }
+
+        String location = text(event.get("LOCATION"));
+        String meetingUrl = text(event.get("URL"));
+        if (meetingUrl == null || !meetingUrl.startsWith("http")) {
+            meetingUrl = null;
+            if (location != null && location.startsWith("http")) {
+                meetingUrl = location;
+                location = null;
+            } else {
+                meetingUrl = findMeetingUrl(text(event.get("DESCRIPTION")));
+            }
+        }
+
+        Instant end = endAt != null ? endAt : startAt.plus(Duration.ofMinutes(defaultDurationMinutes));
+        IcsReader.Property status = event.get("STATUS");
+        InterviewStatus interviewStatus = status != null && status.value().equalsIgnoreCase("CANCELLED")
+                ? InterviewStatus.CANCELED
+                : end.isBefore(now) ? InterviewStatus.DONE : InterviewStatus.SCHEDULED;
+
+        return Interview.builder()
+                .userId(userId)
+                .title(title)
+                .type(InterviewType.OTHER)
+                .startAt(startAt)
+                .endAt(endAt)
+                .timezone(validZone(dtStart.params().get("TZID")))
+                .mode(meetingUrl == null && location != null ? InterviewMode.ONSITE : InterviewMode.VIDEO)
+                .location(location)
+                .meetingUrl(meetingUrl)
+                .status(interviewStatus)
+                .icalUid(uid.value().strip())
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    /**
+     * DATE-TIME in UTC ("...Z"), with a TZID, or floating; or DATE (start of the day)
+     */
+    private static Instant instant(IcsReader.Property property, ZoneId zone) {
+        String value = property.value().strip();
+        String tzid = property.params().get("TZID");
+        ZoneId eventZone = zone;
+        if (tzid != null && validZone(tzid) != null) {
+            eventZone = ZoneId.of(tzid);
+        }
+        if ("DATE".equalsIgnoreCase(property.params().get("VALUE")) || value.length() == 8) {
+            return LocalDate.parse(value, LOCAL_DATE).atStartOfDay(eventZone).toInstant();
+        }
+        if (value.endsWith("Z")) {
+            return LocalDateTime.parse(value.substring(0, value.length() - 1), LOCAL_DATE_TIME).toInstant(ZoneOffset.UTC);
+        }
+        return LocalDateTime.parse(value, LOCAL_DATE_TIME).atZone(eventZone).toInstant();
+    }
+
+    /**
+     * ISO 8601 duration as used by iCalendar (also "P2W", which java.time.Duration rejects)
+     */
+    private static Duration duration(String value) {
+        Matcher weeks = WEEKS.matcher(value.strip());
+        if (weeks.matches()) {
+            Duration duration = Duration.ofDays(7 * Long.parseLong(weeks.group(2)));
+            return weeks.group(1).equals("-") ? duration.negated() : duration;
+        }
+        return Duration.parse(value.strip());
+    }
+
+    /**
+     * IANA zone id, or null (Outlook exports Windows zone names such as "Romance Standard Time")
+     */
+    private static String validZone(String tzid) {
+        if (tzid == null) {
+            return null;
+        }
+        try {
+            return ZoneId.of(tzid).getId();
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    private static String text(IcsReader.Property property) {
+        return property != null ? IcsReader.unescape(property.value()) : null;
+    }
+
+    private static String findMeetingUrl(String description) {
+        if (description == null) {
+            return null;
+        }
+        Matcher matcher = MEETING_URL.matcher(description);
+        return matcher.find() ? matcher.group() : null;
+    }
+
+    /**
+     * Normalized company name -> most recently updated application of that company
+     */
+    private Map<String, String> companyIndex(String userId) {
+        Query query = new Query(Criteria.where("userId").is(userId)).with(Sort.by(Sort.Direction.DESC, "updatedAt"));
+        query.fields().include("companyName");
+        Map<String, String> companies = new HashMap<>();
+        for (Application application : codecQueryExecutor.find(query, Application.class)) {
+            if (application.getCompanyName() != null) {
+                String name = normalize(application.getCompanyName());
+                if (!name.isEmpty()) {
+                    companies.putIfAbsent(name, application.getId());
+                }
+            }
+        }
+        return companies;
+    }
+
+    /**
+     * Longest run of up to MAX_COMPANY_WORDS words of the summary that is a known company name
+     */
+    private static String matchCompany(Map<String, String> companies, String summary) {
+        if (companies.isEmpty()) {
+            return null;
+        }
+        List<String> words = Arrays.asList(normalize(summary).split(" "));
+        for (int length = Math.min(MAX_COMPANY_WORDS, words.size()); length > 0; length--) {
+            for (int start = 0; start + length <= words.size(); start++) {
+                String applicationId = companies.get(String.join(" ", words.subList(start, start + length)));
+                if (applicationId != null) {
+                    return applicationId;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Lowercase words without accents or punctuation, separated by single spaces
+     */
+    private static String normalize(String value) {
+        String decomposed = Normalizer.normalize(value, Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+        return decomposed.toLowerCase(Locale.ROOT).replaceAll("[^\\p{Alnum}]+", " ").strip();
+    }
+
+    private void flush(Import state) {
+        if (state.batch.isEmpty()) {
+            return;
+        }
+        // Ids assigned here: the bulk insert does not set them back on the entities
+        state.batch.forEach(interview -> interview.setId(new ObjectId().toHexString()));
+        BulkOperations ops = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Interview.class);
+        ops.insert(state.batch);
+        Set<Integer> failed = new HashSet<>();
+        try {
+            state.imported += ops.execute().getInsertedCount();
+        } catch (BulkOperationException e) {
+            state.imported += e.getResult().getInsertedCount();
+            for (BulkWriteError error : e.getErrors()) {
+                failed.add(error.getIndex());
+                if (error.getCode() == DUPLICATE_KEY) {
+                    state.duplicates++;
+                } else {
+                    state.invalid++;
+                    state.error("Entretien « " + state.batch.get(error.getIndex()).getTitle() + " » : " + error.getMessage());
+                }
+            }
+        }
+        List<Interview> inserted = new ArrayList<>(state.batch.size());
+        for (int i = 0; i < state.batch.size(); i++) {
+            if (!failed.contains(i)) {
+                inserted.add(state.batch.get(i));
+            }
+        }
+        String userId = state.batch.get(0).getUserId();
+        webhookService.interviewsChanged(userId, WebhookEventType.INTERVIEW_CREATED, inserted);
+        activityService.interviewsChanged(userId, ActivityType.INTERVIEW_CREATED, inserted);
+        state.batch.clear();
+    }
+
+    private static final class Import {
+        final List<Interview> batch = new ArrayList<>(BATCH_SIZE);
+        final List<String> errors = new ArrayList<>();
+        int events;
+        int imported;
+        int duplicates;
+        int unmatched;
+        int invalid;
+
+        void error(String message) {
+            if (errors.size() < MAX_ERRORS) {
+                errors.add(message);
+            }
+        }
+    }
+}
@@ -1,19 +1,62 @@
 package com.candidex.api.service;
 
+import com.candidex.api.cache.CacheInvalidationBus;
+import com.candidex.api.cache.EntityCache;
+import com.candidex.api.cache.UserGenerations;
+import com.candidex.api.dto.BatchInterviewOperationDto;
+import com.candidex.api.dto.BatchResultDto;
 import com.candidex.api.dto.CreateInterviewDto;
+import com.candidex.api.dto.CursorPage;
+import com.candidex.api.dto.InterviewCalendarDto;
+import com.candidex.api.dto.SeekCursor;
+import com.candidex.api.dto.TimeSlotDto;
 import com.candidex.api.dto.UpdateInterviewDto;
 import com.candidex.api.model.Interview;
+import com.candidex.api.model.InterviewDetails;
+import com.candidex.api.model.enums.ActivityType;
+import com.candidex.api.model.enums.InterviewMode;
 import com.candidex.api.model.enums.InterviewStatus;
+import com.candidex.api.model.enums.InterviewType;
+import com.candidex.api.model.enums.WebhookEventType;
+import com.candidex.api.repository.InterviewDetailsRepository;
 import com.candidex.api.repository.InterviewRepository;
+import com.candidex.api.repository.ReadRouting;
+import com.candidex.api.repository.codec.CodecQueryExecutor;
+import com.mongodb.client.result.UpdateResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.ArithmeticOperators;
+import org.springframework.data.mongodb.core.aggregation.ComparisonOperators;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.data.mongodb.core.aggregation.DateOperators;
+import org.springframework.data.mongodb.core.aggregation.SystemVariable;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.DateTimeException;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -24,43 +67,203 @@ import java.util.List;
 @Slf4j
 public class InterviewService {
 
+    public static final int DEFAULT_PAGE_SIZE = 200;
+    public static final int MAX_PAGE_SIZE = 500;
+    public static final int DEFAULT_MIN_SLOT_MINUTES = 30;
+    public static final int MAX_FREE_SLOT_DAYS = 92;
+
     private final InterviewRepository interviewRepository;
+    private final InterviewDetailsRepository interviewDetailsRepository;
+    private final TextFieldMigrationService textFieldMigrationService;
+    private final MongoTemplate mongoTemplate;
+    private final EntityCache entityCache;
+    private final CacheInvalidationBus invalidationBus;
+    private final UserGenerations generations;
+    private final CodecQueryExecutor codecQueryExecutor;
+    private final ReadRouting readRouting;
+    private final WebhookService webhookService;
+    private final ActivityService activityService;
+
+    // Upper bound on endAt - startAt, enforced on writes: lower bound of the overlap range queries
+    @Value("${interviews.max-duration-minutes:720}")
+    private long maxDurationMinutes;
+
+    // Duration assumed for interviews without an end
+    @Value("${interviews.default-duration-minutes:60}")
+    private long defaultDurationMinutes;
 
     /**
-     * Get all interviews for a user with optional filters
+     * Interviews of a user in (startAt, id) order, one keyset page at a time.
+     * Every filter is part of the query; served by user_status_startAt_idx
+     *
+     * @param from optional lower bound on startAt (inclusive), usable without "to"
+     * @param to optional upper bound on startAt (inclusive)
+     * @param cursor position after the previous page, or null
      */
-    public List<Interview> getInterviews(String userId, Instant from, Instant to, InterviewStatus status) {
-        Sort sort = Sort.by(Sort.Direction.ASC, "startAt");
-
-        if (from != null && to != null) {
-            List<Interview> interviews = interviewRepository.findByUserIdAndDateRange(userId, from, to, sort);
-            if (status != null) {
-                return interviews.stream().filter(i -> i.getStatus() == status).toList();
-            }
-            return interviews;
+    public CursorPage<Interview> getInterviews(
+            String userId,
+            Instant from,
+            Instant to,
+            InterviewStatus status,
+            SeekCursor cursor,
+            int limit
+    ) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Le paramètre 'limit' doit être compris entre 1 et " + MAX_PAGE_SIZE + ".");
         }
 
+        // Without a status, all of them (and legacy documents without one) as an explicit $in:
+        // the planner then merge-sorts the per-status ranges of the index instead of sorting
+        List<InterviewStatus> statuses;
         if (status != null) {
-            return interviewRepository.findByUserIdAndStatus(userId, status, sort);
+            statuses = List.of(status);
+        } else {
+            statuses = new ArrayList<>(Arrays.asList(InterviewStatus.values()));
+            statuses.add(null);
+        }
+        Criteria root = Criteria.where("userId").is(userId).and("status").in(statuses);
+
+        List<Criteria> criteria = new ArrayList<>();
+        if (from != null) {
+            criteria.add(Criteria.where("startAt").gte(from));
+        }
+        if (to != null) {
+            criteria.add(Criteria.where("startAt").lte(to));
+        }
+        if (cursor != null) {
+            Instant cursorAt = Instant.ofEpochMilli(cursor.at());
+            criteria.add(new Criteria().orOperator(
+                    Criteria.where("startAt").gt(cursorAt),
+                    Criteria.where("startAt").is(cursorAt).and("id").gt(cursor.id())
+            ));
         }
+        if (!criteria.isEmpty()) {
+            root.andOperator(criteria);
+        }
+
+        Query query = new Query(root)
+                .with(Sort.by(Sort.Order.asc("startAt"), Sort.Order.asc("id")))
+                .limit(limit + 1);
+        List<Interview> items = codecQueryExecutor.find(query, Interview.class, readRouting.readPreference(ReadRouting.Workload.LIST, userId));
 
-        return interviewRepository.findByUserId(userId, sort);
+        if (items.size() <= limit) {
+            return new CursorPage<>(items, null);
+        }
+        Interview last = items.get(limit - 1);
+        return new CursorPage<>(items.subList(0, limit), new SeekCursor(last.getStartAt().toEpochMilli(), 0, last.getId()).encode());
     }
 
     /**
-     * Get interview by ID (with ownership check)
+     * Get interview by ID (with ownership check), served from the entity cache
      */
     public Interview getInterviewById(String id, String userId) {
-        return interviewRepository.findByIdAndUserId(id, userId)
+        return entityCache.getInterview(id, interviewRepository::findById)
+                .filter(interview -> userId.equals(interview.getUserId()))
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Entretien introuvable."));
     }
 
+    /**
+     * Interviews of a month ("2026-10") or ISO week ("2026-W42") grouped per day of the given
+     * timezone, in a single aggregation: range match on user_startAt_idx, then $group on the
+     * $dateTrunc of startAt to the day in that timezone
+     *
+     * @throws IllegalArgumentException if the period or the timezone is invalid
+     */
+    public InterviewCalendarDto getCalendar(String userId, String month, String week, String tz) {
+        ZoneId zone;
+        try {
+            zone = tz != null && !tz.isBlank() ? ZoneId.of(tz.trim()) : ZoneId.of("UTC");
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("Fuseau horaire invalide.");
+        }
+
+        LocalDate first;
+        LocalDate next;
+        try {
+            if (month != null && week == null) {
+                first = YearMonth.parse(month.trim()).atDay(1);
+                next = first.plusMonths(1);
+            } else if (week != null && month == null) {
+                first = LocalDate.parse(week.trim() + "-1", DateTimeFormatter.ISO_WEEK_DATE);
+                next = first.plusWeeks(1);
+            } else {
+                throw new IllegalArgumentException("Indiquer soit 'month' (AAAA-MM), soit 'week' (AAAA-Www).");
+            }
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Période invalide (formats attendus : AAAA-MM ou AAAA-Www).");
+        }
+
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("userId").is(userId)
+                        .and("startAt").gte(first.atStartOfDay(zone).toInstant()).lt(next.atStartOfDay(zone).toInstant())),
+                Aggregation.sort(Sort.Direction.ASC, "startAt"),
+                Aggregation.project("applicationId", "title", "type", "mode", "status", "startAt", "endAt", "timezone")
+                        .and(DateOperators.DateTrunc.truncateValueOf("startAt").to("day")
+                                .withTimezone(DateOperators.Timezone.valueOf(zone.equals(ZoneOffset.UTC) ? "UTC" : zone.getId())))
+                        .as("day"),
+                Aggregation.group("day").count().as("count").push(Aggregation.ROOT).as("events"),
+                Aggregation.sort(Sort.Direction.ASC, "_id")
+        );
+
+        List<InterviewCalendarDto.Day> days = new ArrayList<>();
+        MongoTemplate template = readRouting.template(ReadRouting.Workload.LIST, userId);
+        for (Document bucket : template.aggregate(aggregation, Interview.class, Document.class)) {
+            List<InterviewCalendarDto.Event> events = bucket.getList("events", Document.class).stream()
+                    .map(InterviewService::toCalendarEvent)
+                    .toList();
+            days.add(InterviewCalendarDto.Day.builder()
+                    .date(bucket.getDate("_id").toInstant().atZone(zone).toLocalDate().toString())
+                    .count(((Number) bucket.get("count")).intValue())
+                    .events(events)
+                    .build());
+        }
+
+        return InterviewCalendarDto.builder()
+                .from(first.toString())
+                .to(next.minusDays(1).toString())
+                .timezone(zone.getId())
+                .days(days)
+                .build();
+    }
+
+    private static InterviewCalendarDto.Event toCalendarEvent(Document event) {
+        return InterviewCalendarDto.Event.builder()
+                .id(event.getObjectId("_id").toHexString())
+                .applicationId(event.getString("applicationId"))
+                .title(event.getString("title"))
+                .type(event.getString("type") != null ? InterviewType.valueOf(event.getString("type")) : null)
+                .mode(event.getString("mode") != null ? InterviewMode.valueOf(event.getString("mode")) : null)
+                .status(event.getString("status") != null ? InterviewStatus.valueOf(event.getString("status")) : null)
+                .startAt(event.getDate("startAt").toInstant())
+                .endAt(event.getDate("endAt") != null ? event.getDate("endAt").toInstant() : null)
+                .timezone(event.getString("timezone"))
+                .build();
+    }
+
+    /**
+     * Version of the user's interview collection, changed by every write (list ETag)
+     */
+    public String getCollectionStamp(String userId) {
+        return generations.stamp(UserGenerations.Scope.INTERVIEWS, userId);
+    }
+
+    /**
+     * Get interview by ID with its notes, feedback and prep lists (detail view)
+     */
+    public Interview getInterviewDetail(String id, String userId) {
+        textFieldMigrationService.ensureInterviewMigrated(id);
+        Interview interview = getInterviewById(id, userId);
+        interviewDetailsRepository.findById(id).ifPresent(details -> applyDetails(interview, details));
+        return interview;
+    }
+
     /**
      * Get interviews for a specific application
      */
     public List<Interview> getInterviewsByApplication(String applicationId, String userId) {
-        Sort sort = Sort.by(Sort.Direction.ASC, "startAt");
-        return interviewRepository.findByUserIdAndApplicationId(userId, applicationId, sort);
+        Query query = new Query(Criteria.where("userId").is(userId).and("applicationId").is(applicationId));
+        query.with(Sort.by(Sort.Direction.ASC, "startAt"));
+        return codecQueryExecutor.find(query, Interview.class);
     }
 
     /**
@@ -77,6 +280,7 @@ public class InterviewService {
                     "La date de fin doit être postérieure à la date de début."
             );
         }
+        validateDuration(dto.getStartAt(), dto.getEndAt());
 
         Interview interview = Interview.builder()
                 .userId(userId)
@@ -98,7 +302,21 @@ public class InterviewService {
                 .updatedAt(Instant.now())
                 .build();
 
-        return interviewRepository.save(interview);
+        Interview saved = interviewRepository.save(interview);
+        if (dto.getNotes() != null || dto.getChecklistItems() != null || dto.getQuestionsToAsk() != null) {
+            interviewDetailsRepository.save(InterviewDetails.builder()
+                    .id(saved.getId())
+                    .userId(userId)
+                    .notes(dto.getNotes())
+                    .checklistItems(dto.getChecklistItems())
+                    .questionsToAsk(dto.getQuestionsToAsk())
+                    .updatedAt(Instant.now())
+                    .build());
+        }
+        invalidationBus.interviewsChanged(userId, List.of(saved.getId()));
+        webhookService.interviewsChanged(userId, WebhookEventType.INTERVIEW_CREATED, List.of(saved));
+        activityService.interviewsChanged(userId, ActivityType.INTERVIEW_CREATED, List.of(saved));
+        return saved;
     }
 
     /**
@@ -108,8 +326,47 @@ public class InterviewService {
     public Interview updateInterview(String id, UpdateInterviewDto dto, String userId) {
         log.info("Updating interview {} for user {}", id, userId);
 
+        // The replacement rewrites the whole document: move legacy text fields out first
+        textFieldMigrationService.ensureInterviewMigrated(id);
         Interview interview = getInterviewById(id, userId);
+        Instant readUpdatedAt = interview.getUpdatedAt();
+        applyUpdate(interview, dto);
+
+        // The copy may come from the entity cache: only replace the document if nobody wrote it
+        // in between, otherwise re-apply the update on a fresh read
+        Interview saved = mongoTemplate.findAndReplace(
+                new Query(Criteria.where("id").is(id).and("userId").is(userId).and("updatedAt").is(readUpdatedAt)),
+                interview,
+                FindAndReplaceOptions.options().returnNew()
+        );
+        if (saved == null) {
+            log.debug("Stale cached copy of interview {}, retrying on a fresh read", id);
+            interview = interviewRepository.findByIdAndUserId(id, userId)
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Entretien introuvable."));
+            applyUpdate(interview, dto);
+            saved = interviewRepository.save(interview);
+        }
+
+        // Write-through of the large text fields to interview_details
+        InterviewDetails details = interviewDetailsRepository.findById(id)
+                .orElseGet(() -> InterviewDetails.builder().id(id).userId(userId).build());
+        if (dto.getNotes() != null || dto.getFeedback() != null
+                || dto.getChecklistItems() != null || dto.getQuestionsToAsk() != null) {
+            if (dto.getNotes() != null) details.setNotes(dto.getNotes());
+            if (dto.getFeedback() != null) details.setFeedback(dto.getFeedback());
+            if (dto.getChecklistItems() != null) details.setChecklistItems(dto.getChecklistItems());
+            if (dto.getQuestionsToAsk() != null) details.setQuestionsToAsk(dto.getQuestionsToAsk());
+            details.setUpdatedAt(Instant.now());
+            details = interviewDetailsRepository.save(details);
+        }
+        applyDetails(saved, details);
+        invalidationBus.interviewsChanged(userId, List.of(id));
+        webhookService.interviewsChanged(userId, WebhookEventType.INTERVIEW_UPDATED, List.of(saved));
+        activityService.interviewsChanged(userId, ActivityType.INTERVIEW_UPDATED, List.of(saved));
+        return saved;
+    }
 
+    private void applyUpdate(Interview interview, UpdateInterviewDto dto) {
         if (dto.getTitle() != null) interview.setTitle(dto.getTitle());
         if (dto.getType() != null) interview.setType(dto.getType());
         if (dto.getStartAt() != null) interview.setStartAt(dto.getStartAt());
@@ -119,10 +376,6 @@ public class InterviewService {
         if (dto.getLocation() != null) interview.setLocation(dto.getLocation());
         if (dto.getMeetingUrl() != null) interview.setMeetingUrl(dto.getMeetingUrl());
         if (dto.getStatus() != null) interview.setStatus(dto.getStatus());
-        if (dto.getNotes() != null) interview.setNotes(dto.getNotes());
-        if (dto.getFeedback() != null) interview.setFeedback(dto.getFeedback());
-        if (dto.getChecklistItems() != null) interview.setChecklistItems(dto.getChecklistItems());
-        if (dto.getQuestionsToAsk() != null) interview.setQuestionsToAsk(dto.getQuestionsToAsk());
         if (dto.getLinks() != null) interview.setLinks(dto.getLinks());
 
         // Validate endAt >= startAt
@@ -133,9 +386,108 @@ public class InterviewService {
                     "La date de fin doit être postérieure à la date de début."
             );
         }
+        if (dto.getStartAt() != null || dto.getEndAt() != null) {
+            validateDuration(interview.getStartAt(), interview.getEndAt());
+        }
 
         interview.setUpdatedAt(Instant.now());
-        return interviewRepository.save(interview);
+    }
+
+    private void validateDuration(Instant startAt, Instant endAt) {
+        if (startAt != null && endAt != null
+                && Duration.between(startAt, endAt).toMinutes() > maxDurationMinutes) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "Un entretien ne peut pas durer plus de " + maxDurationMinutes + " minutes."
+            );
+        }
+    }
+
+    /**
+     * Other scheduled interviews of the user overlapping this one (none if it is not scheduled).
+     * Read from the primary, right after the write
+     */
+    public List<Interview> findConflicts(Interview interview) {
+        if (interview.getStatus() != InterviewStatus.SCHEDULED || interview.getStartAt() == null) {
+            return List.of();
+        }
+        Instant startAt = interview.getStartAt();
+        Instant endAt = endOf(interview);
+        List<Interview> conflicts = new ArrayList<>();
+        for (Interview other : codecQueryExecutor.find(busyQuery(interview.getUserId(), startAt, endAt), Interview.class)) {
+            if (!other.getId().equals(interview.getId()) && endOf(other).isAfter(startAt)) {
+                conflicts.add(other);
+            }
+        }
+        return conflicts;
+    }
+
+    /**
+     * Gaps of at least minMinutes between the user's scheduled interviews within [from, to).
+     * The busy intervals come sorted by startAt from the index and are merged in one pass
+     *
+     * @throws IllegalArgumentException if the range or minMinutes is invalid
+     */
+    public List<TimeSlotDto> getFreeSlots(String userId, Instant from, Instant to, int minMinutes) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("La date de début doit précéder la date de fin.");
+        }
+        if (Duration.between(from, to).toDays() >= MAX_FREE_SLOT_DAYS) {
+            throw new IllegalArgumentException("La période ne peut pas dépasser " + MAX_FREE_SLOT_DAYS + " jours.");
+        }
+        if (minMinutes < 1) {
+            throw new IllegalArgumentException("Le paramètre 'minMinutes' doit être positif.");
+        }
+
+        List<Interview> busy = codecQueryExecutor.find(busyQuery(userId, from, to), Interview.class,
+                readRouting.readPreference(ReadRouting.Workload.LIST, userId));
+
+        List<TimeSlotDto> slots = new ArrayList<>();
+        Instant free = from;
+        for (Interview interview : busy) {
+            if (!free.isBefore(to)) {
+                break;
+            }
+            Instant startAt = interview.getStartAt();
+            if (startAt.isAfter(free)) {
+                addSlot(slots, free, startAt.isBefore(to) ? startAt : to, minMinutes);
+            }
+            Instant endAt = endOf(interview);
+            if (endAt.isAfter(free)) {
+                free = endAt;
+            }
+        }
+        if (free.isBefore(to)) {
+            addSlot(slots, free, to, minMinutes);
+        }
+        return slots;
+    }
+
+    /**
+     * Scheduled interviews that may intersect [startAt, endAt), in startAt order: no interview lasts
+     * more than maxDurationMinutes, so the range on user_status_startAt_idx starts that much earlier
+     */
+    private Query busyQuery(String userId, Instant startAt, Instant endAt) {
+        Query query = new Query(Criteria.where("userId").is(userId)
+                .and("status").is(InterviewStatus.SCHEDULED)
+                .and("startAt").gt(startAt.minus(maxDurationMinutes, ChronoUnit.MINUTES)).lt(endAt))
+                .with(Sort.by(Sort.Order.asc("startAt")));
+        query.fields().include("applicationId").include("title").include("startAt").include("endAt");
+        return query;
+    }
+
+    private Instant endOf(Interview interview) {
+        Instant endAt = interview.getEndAt();
+        return endAt != null && endAt.isAfter(interview.getStartAt())
+                ? endAt
+                : interview.getStartAt().plus(defaultDurationMinutes, ChronoUnit.MINUTES);
+    }
+
+    private static void addSlot(List<TimeSlotDto> slots, Instant startAt, Instant endAt, int minMinutes) {
+        long minutes = Duration.between(startAt, endAt).toMinutes();
+        if (minutes >= minMinutes) {
+            slots.add(TimeSlotDto.builder().startAt(startAt).endAt(endAt).minutes(minutes).build());
+        }
     }
 
     /**
@@ -146,5 +498,96 @@ public class InterviewService {
         log.info("Deleting interview {} for user {}", id, userId);
         Interview interview = getInterviewById(id, userId);
         interviewRepository.delete(interview);
+        interviewDetailsRepository.deleteById(id);
+        invalidationBus.interviewsChanged(userId, List.of(id));
+        webhookService.interviewsDeleted(userId, List.of(id));
+        activityService.interviewsChanged(userId, ActivityType.INTERVIEW_DELETED, List.of(interview));
+    }
+
+    /**
+     * Status change, time shift or deletion of several interviews, each as a single multi-document
+     * write scoped by userId (no read before the write, except the ids of a deletion by application)
+     *
+     * @throws IllegalArgumentException if the selection or the operation is invalid
+     */
+    @Transactional
+    public BatchResultDto batchUpdate(BatchInterviewOperationDto dto, String userId) {
+        List<String> ids = dto.getIds() != null
+                ? dto.getIds().stream().filter(StringUtils::hasText).distinct().toList()
+                : List.of();
+        if (ids.isEmpty() == (dto.getApplicationId() == null)) {
+            throw new IllegalArgumentException("Sélectionner les entretiens soit par 'ids', soit par 'applicationId'.");
+        }
+        Criteria selection = Criteria.where("userId").is(userId);
+        selection = ids.isEmpty() ? selection.and("applicationId").is(dto.getApplicationId()) : selection.and("id").in(ids);
+        Query query = new Query(selection);
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS); // stored with millisecond precision
+        log.info("Batch {} of interviews for user {} ({})", dto.getAction(), userId,
+                ids.isEmpty() ? "application " + dto.getApplicationId() : ids.size() + " ids");
+
+        List<Interview> removed = List.of();
+        BatchResultDto result = switch (dto.getAction()) {
+            case SET_STATUS -> {
+                if (dto.getStatus() == null) {
+                    throw new IllegalArgumentException("Le statut est requis.");
+                }
+                // updatedAt only moves on the interviews whose status actually changes
+                AggregationUpdate update = AggregationUpdate.update()
+                        .set("updatedAt").toValue(ConditionalOperators
+                                .when(ComparisonOperators.valueOf("status").equalToValue(dto.getStatus()))
+                                .thenValueOf("$updatedAt")
+                                .otherwise(now))
+                        .set("status").toValue(dto.getStatus());
+                UpdateResult updated = mongoTemplate.updateMulti(query, update, Interview.class);
+                yield new BatchResultDto(updated.getMatchedCount(), updated.getModifiedCount());
+            }
+            case SHIFT -> {
+                Duration shift = dto.getShift();
+                if (shift == null || shift.isZero() || shift.abs().toDays() > 366) {
+                    throw new IllegalArgumentException("Le décalage doit être une durée non nulle d'au plus un an (ex. \"PT2H\").");
+                }
+                long millis = shift.toMillis();
+                AggregationUpdate update = AggregationUpdate.update()
+                        .set("startAt").toValue(ArithmeticOperators.valueOf("startAt").add(millis))
+                        .set("endAt").toValue(ConditionalOperators
+                                .ifNull(ArithmeticOperators.valueOf("endAt").add(millis))
+                                .then(SystemVariable.REMOVE))
+                        .set("updatedAt").toValue(now);
+                UpdateResult updated = mongoTemplate.updateMulti(query, update, Interview.class);
+                yield new BatchResultDto(updated.getMatchedCount(), updated.getModifiedCount());
+            }
+            case DELETE -> {
+                // The owned interviews, also those of the webhook and activity events
+                query.fields().include("applicationId", "title", "startAt");
+                removed = mongoTemplate.find(query, Interview.class);
+                ids = removed.stream().map(Interview::getId).toList();
+                query = new Query(Criteria.where("userId").is(userId).and("id").in(ids));
+                long deleted = mongoTemplate.remove(query, Interview.class).getDeletedCount();
+                mongoTemplate.remove(new Query(Criteria.where("userId").is(userId).and("id").in(ids)), InterviewDetails.class);
+                yield new BatchResultDto(deleted, deleted);
+            }
+        };
+
+        if (result.getModified() > 0) {
+            invalidationBus.interviewsChanged(userId, dto.getApplicationId() == null ? ids : null);
+            if (dto.getAction() == BatchInterviewOperationDto.Action.DELETE) {
+                webhookService.interviewsDeleted(userId, ids);
+                activityService.interviewsChanged(userId, ActivityType.INTERVIEW_DELETED, removed);
+            } else {
+                // The interviews modified by this write are those carrying its timestamp
+                List<Interview> updated = mongoTemplate.find(new Query(selection).addCriteria(Criteria.where("updatedAt").is(now)),
+                        Interview.class);
+                webhookService.interviewsChanged(userId, WebhookEventType.INTERVIEW_UPDATED, updated);
+                activityService.interviewsChanged(userId, ActivityType.INTERVIEW_UPDATED, updated);
+            }
+        }
+        return result;
+    }
+
+    private void applyDetails(Interview interview, InterviewDetails details) {
+        interview.setNotes(details.getNotes());
+        interview.setFeedback(details.getFeedback());
+        interview.setChecklistItems(details.getChecklistItems());
+        interview.setQuestionsToAsk(details.getQuestionsToAsk());
     }
 }
@@ -0,0 +1,104 @@
+package com.candidex.api.service;
+
+import com.candidex.api.model.JobCheckpoint;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Leases and progress of the batch jobs (job_checkpoints): one node runs a job at a time, and
+ * an interrupted run is resumed from its last saved position by whichever node checks next
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobCheckpoints {
+
+    private static final Duration LEASE = Duration.ofMinutes(5);
+
+    private final MongoTemplate mongoTemplate;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    /**
+     * Take (or create) the run's lease, unless the run is done or another node holds the lease
+     *
+     * @return the checkpoint to resume from, or null
+     */
+    public JobCheckpoint acquire(String jobId) {
+        Instant now = Instant.now();
+        Query query = new Query(Criteria.where("id").is(jobId).and("completedAt").is(null)
+                .orOperator(Criteria.where("leaseUntil").lt(now), Criteria.where("owner").is(nodeId)));
+        Update update = new Update()
+                .set("owner", nodeId)
+                .set("leaseUntil", now.plus(LEASE))
+                .set("updatedAt", now)
+                .setOnInsert("startedAt", now);
+        try {
+            return mongoTemplate.findAndModify(query, update,
+                    FindAndModifyOptions.options().upsert(true).returnNew(true), JobCheckpoint.class);
+        } catch (DuplicateKeyException e) {
+            return null; // exists, and is done or leased
+        }
+    }
+
+    /**
+     * Save the position reached and renew the lease
+     *
+     * @return false if the lease was lost (another node took over): the run must stop
+     */
+    public boolean saveProgress(String jobId, String position, long processed, long changed, long failed) {
+        Instant now = Instant.now();
+        Update update = new Update()
+                .set("position", position)
+                .inc("processed", processed)
+                .inc("changed", changed)
+                .inc("failed", failed)
+                .set("leaseUntil", now.plus(LEASE))
+                .set("updatedAt", now);
+        return mongoTemplate.updateFirst(ownedBy(jobId), update, JobCheckpoint.class).getMatchedCount() > 0;
+    }
+
+    /**
+     * @return the final totals, or null if the lease was lost
+     */
+    public JobCheckpoint complete(String jobId) {
+        Instant now = Instant.now();
+        Update update = new Update().set("completedAt", now).unset("owner").unset("leaseUntil").set("updatedAt", now);
+        return mongoTemplate.findAndModify(ownedBy(jobId), update,
+                FindAndModifyOptions.options().returnNew(true), JobCheckpoint.class);
+    }
+
+    /**
+     * @return true if the run was completed (on any node)
+     */
+    public boolean isComplete(String jobId) {
+        JobCheckpoint checkpoint = mongoTemplate.findById(jobId, JobCheckpoint.class);
+        return checkpoint != null && checkpoint.getCompletedAt() != null;
+    }
+
+    /**
+     * Give the lease up, so that the next check (on any node) resumes the run right away
+     */
+    public void release(String jobId) {
+        try {
+            mongoTemplate.updateFirst(ownedBy(jobId), new Update().set("leaseUntil", Instant.EPOCH), JobCheckpoint.class);
+        } catch (Exception e) {
+            log.debug("Could not release the lease of {}: {}", jobId, e.getMessage());
+        }
+    }
+
+    private Query ownedBy(String jobId) {
+        return new Query(Criteria.where("id").is(jobId).and("owner").is(nodeId));
+    }
+}
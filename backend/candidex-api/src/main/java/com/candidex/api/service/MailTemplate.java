@@ -0,0 +1,149 @@
+package com.candidex.api.service;
+
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Plain text template, parsed once and then rendered without any parsing or reflection.
+ *
+ * Syntax (a small subset of Mustache): {{name}} inserts a value; {{#name}}...{{/name}} renders
+ * its content once per element of a collection of maps (names are looked up in the element,
+ * then outside), once for a non-empty value, and not at all for null, false or empty. A section
+ * tag alone on its line does not leave an empty line.
+ */
+final class MailTemplate {
+
+    private final List<Node> nodes;
+
+    private MailTemplate(List<Node> nodes) {
+        this.nodes = nodes;
+    }
+
+    static MailTemplate load(String classpathLocation) {
+        try (InputStream in = new ClassPathResource(classpathLocation).getInputStream()) {
+            return parse(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read template " + classpathLocation, e);
+        }
+    }
+
+    static MailTemplate parse(String text) {
+        List<List<Node>> stack = new ArrayList<>();
+        List<String> open = new ArrayList<>();
+        List<Node> current = new ArrayList<>();
+        int position = 0;
+        while (position < text.length()) {
+            int start = text.indexOf("{{", position);
+            if (start < 0) {
+                current.add(new Literal(text.substring(position)));
+                break;
+            }
+            int end = text.indexOf("}}", start);
+            if (end < 0) {
+                throw new IllegalArgumentException("Unclosed tag at offset " + start);
+            }
+            String tag = text.substring(start + 2, end).trim();
+            int next = end + 2;
+            boolean section = tag.startsWith("#") || tag.startsWith("/");
+            if (section && standalone(text, start, next)) {
+                // Drop the indentation before the tag and the line break after it
+                start = text.lastIndexOf('\n', start - 1) + 1;
+                next = text.indexOf('\n', next) + 1;
+                if (next == 0) {
+                    next = text.length();
+                }
+            }
+            if (start > position) {
+                current.add(new Literal(text.substring(position, start)));
+            }
+            if (tag.startsWith("#")) {
+                stack.add(current);
+                open.add(tag.substring(1).trim());
+                current = new ArrayList<>();
+            } else if (tag.startsWith("/")) {
+                String name = tag.substring(1).trim();
+                if (open.isEmpty() || !open.get(open.size() - 1).equals(name)) {
+                    throw new IllegalArgumentException("Unexpected {{/" + name + "}}");
+                }
+                Section closed = new Section(open.remove(open.size() - 1), current);
+                current = stack.remove(stack.size() - 1);
+                current.add(closed);
+            } else {
+                current.add(new Variable(tag));
+            }
+            position = next;
+        }
+        if (!open.isEmpty()) {
+            throw new IllegalArgumentException("Unclosed {{#" + open.get(open.size() - 1) + "}}");
+        }
+        return new MailTemplate(current);
+    }
+
+    String render(Map<String, ?> model) {
+        StringBuilder out = new StringBuilder(1024);
+        render(nodes, List.of(model), out);
+        return out.toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void render(List<Node> nodes, List<Map<String, ?>> scopes, StringBuilder out) {
+        for (Node node : nodes) {
+            if (node instanceof Literal literal) {
+                out.append(literal.text());
+            } else if (node instanceof Variable variable) {
+                Object value = lookup(scopes, variable.name());
+                if (value != null) {
+                    out.append(value);
+                }
+            } else if (node instanceof Section section) {
+                Object value = lookup(scopes, section.name());
+                if (value instanceof Collection<?> items) {
+                    for (Object item : items) {
+                        List<Map<String, ?>> inner = new ArrayList<>(scopes.size() + 1);
+                        inner.add((Map<String, ?>) item);
+                        inner.addAll(scopes);
+                        render(section.nodes(), inner, out);
+                    }
+                } else if (value != null && !Boolean.FALSE.equals(value) && !"".equals(value)) {
+                    render(section.nodes(), scopes, out);
+                }
+            }
+        }
+    }
+
+    private static Object lookup(List<Map<String, ?>> scopes, String name) {
+        for (Map<String, ?> scope : scopes) {
+            if (scope.containsKey(name)) {
+                return scope.get(name);
+            }
+        }
+        return null;
+    }
+
+    private static boolean standalone(String text, int start, int next) {
+        int lineStart = text.lastIndexOf('\n', start - 1) + 1;
+        int lineEnd = text.indexOf('\n', next);
+        return text.substring(lineStart, start).isBlank()
+                && text.substring(next, lineEnd < 0 ? text.length() : lineEnd).isBlank();
+    }
+
+    private sealed interface Node permits Literal, Variable, Section {
+    }
+
+    private record Literal(String text) implements Node {
+    }
+
+    private record Variable(String name) implements Node {
+    }
+
+    private record Section(String name, List<Node> nodes) implements Node {
+    }
+}
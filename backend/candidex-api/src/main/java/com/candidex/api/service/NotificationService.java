@@ -0,0 +1,79 @@
+package com.candidex.api.service;
+
+import com.candidex.api.cache.CacheInvalidationBus;
+import com.candidex.api.dto.BatchResultDto;
+import com.candidex.api.model.Notification;
+import com.mongodb.client.result.UpdateResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * In-app notifications of a user
+ * Based on API.md section 8
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationService {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 200;
+
+    private final MongoTemplate mongoTemplate;
+    private final CacheInvalidationBus invalidationBus;
+
+    /**
+     * Store a notification under its deterministic id
+     *
+     * @return false if it already exists (fired by another node, or before a restart)
+     */
+    public boolean create(Notification notification) {
+        try {
+            mongoTemplate.insert(notification);
+        } catch (DuplicateKeyException e) {
+            log.debug("Notification {} already created", notification.getId());
+            return false;
+        }
+        invalidationBus.notificationsChanged(notification.getUserId(), List.of(notification.getId()));
+        return true;
+    }
+
+    /**
+     * Latest notifications first
+     */
+    public List<Notification> getNotifications(String userId, boolean unreadOnly, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Le paramètre 'limit' doit être compris entre 1 et " + MAX_LIMIT + ".");
+        }
+        Criteria criteria = Criteria.where("userId").is(userId);
+        if (unreadOnly) {
+            criteria.and("read").is(false);
+        }
+        Query query = new Query(criteria).with(Sort.by(Sort.Direction.DESC, "createdAt")).limit(limit);
+        return mongoTemplate.find(query, Notification.class);
+    }
+
+    /**
+     * Mark the given notifications (or all of them when ids is null/empty) as read, in one write
+     */
+    public BatchResultDto markRead(String userId, List<String> ids) {
+        Criteria criteria = Criteria.where("userId").is(userId).and("read").is(false);
+        if (ids != null && !ids.isEmpty()) {
+            criteria.and("id").in(ids);
+        }
+        UpdateResult result = mongoTemplate.updateMulti(new Query(criteria), new Update().set("read", true), Notification.class);
+        if (result.getModifiedCount() > 0) {
+            invalidationBus.notificationsChanged(userId, ids != null && !ids.isEmpty() ? ids : null);
+        }
+        return new BatchResultDto(result.getMatchedCount(), result.getModifiedCount());
+    }
+}
@@ -0,0 +1,358 @@
+package com.candidex.api.service;
+
+import com.candidex.api.cache.DataChangedEvent;
+import com.candidex.api.model.Application;
+import com.candidex.api.model.Interview;
+import com.candidex.api.model.NextAction;
+import com.candidex.api.model.Notification;
+import com.candidex.api.model.User;
+import com.candidex.api.model.enums.InterviewStatus;
+import com.candidex.api.model.enums.NotificationType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reminders before interviews and on the day of a next action.
+ *
+ * Only the next horizon-minutes of reminders are held, in a hashed timing wheel; the window is
+ * extended by range queries on status_startAt_idx / next_action_date_idx that only read the newly
+ * covered slice. Writes (DataChangedEvent, local or from another node) reschedule the reminders
+ * of the changed documents only.
+ *
+ * Every replica schedules every reminder. The notification id is derived from the reminder, so
+ * the first node to fire it stores it and the others get a duplicate key: nothing is sent twice.
+ * On startup the last catch-up-minutes are loaded again, so reminders due while a node (or the
+ * only node) was restarting still go out.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReminderScheduler implements ApplicationRunner, DisposableBean {
+
+    private static final long TICK_MILLIS = 1000;
+    private static final int WHEEL_SIZE = 4096; // about 68 minutes per turn
+    private static final String INTERVIEW = "interview:";
+    private static final String NEXT_ACTION = "next-action:";
+    private static final DateTimeFormatter WHEN = DateTimeFormatter.ofPattern("dd/MM 'à' HH:mm", Locale.FRANCE);
+
+    private final MongoTemplate mongoTemplate;
+    private final NotificationService notificationService;
+    private final UserService userService;
+    private final List<ReminderSender> senders;
+
+    @Value("${reminders.enabled:true}")
+    private boolean enabled;
+
+    @Value("${reminders.interview-lead-minutes:60}")
+    private long interviewLeadMinutes;
+
+    // Hour (UTC) of the reminder on the day of a next action
+    @Value("${reminders.next-action-hour:9}")
+    private int nextActionHour;
+
+    @Value("${reminders.horizon-minutes:180}")
+    private long horizonMinutes;
+
+    @Value("${reminders.catch-up-minutes:15}")
+    private long catchUpMinutes;
+
+    // Source ("interview:{id}", "next-action:{applicationId}") -> its scheduled reminder
+    private final Map<String, TimingWheel.Timeout<Reminder>> scheduled = new ConcurrentHashMap<>();
+
+    private TimingWheel<Reminder> wheel;
+    private ScheduledExecutorService loader; // window extensions and refreshes, one at a time
+    private ExecutorService delivery;
+    private Instant loadedUntil; // loader thread only
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        delivery = Executors.newFixedThreadPool(2, daemon("reminder-delivery"));
+        loader = Executors.newSingleThreadScheduledExecutor(daemon("reminder-loader"));
+        wheel = new TimingWheel<>(TICK_MILLIS, WHEEL_SIZE, "reminder-wheel", reminder -> delivery.execute(() -> deliver(reminder)));
+        wheel.start();
+        loader.scheduleWithFixedDelay(this::extend, 0, Math.max(1, horizonMinutes / 3), TimeUnit.MINUTES);
+        log.info("Reminders enabled (horizon {} min, {} extra sender(s))", horizonMinutes, senders.size());
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        if (wheel == null) {
+            return;
+        }
+        wheel.stop();
+        loader.shutdownNow();
+        // Let the reminders being delivered finish; pending ones are fired by the other
+        // replicas, or by this one after its restart (catch-up)
+        delivery.shutdown();
+        delivery.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    @EventListener
+    public void onDataChanged(DataChangedEvent change) {
+        if (loader != null && !loader.isShutdown()) {
+            loader.execute(() -> refresh(change));
+        }
+    }
+
+    /**
+     * Load the reminders of [loadedUntil, now + horizon)
+     */
+    private void extend() {
+        try {
+            Instant from = loadedUntil != null ? loadedUntil : Instant.now().minus(catchUpMinutes, ChronoUnit.MINUTES);
+            Instant to = Instant.now().plus(horizonMinutes, ChronoUnit.MINUTES);
+            int count = loadInterviews(new Criteria(), from, to) + loadNextActions(new Criteria(), from, to);
+            loadedUntil = to;
+            log.debug("Reminders loaded until {}: {} new, {} scheduled", to, count, scheduled.size());
+        } catch (Exception e) {
+            // Retried on the next run, from the same point
+            log.warn("Failed to load reminders: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Reschedule the reminders of the changed documents (or of the user, when ids are unknown).
+     * An interview created or moved to start within the lead time has its reminder time already
+     * past: it is still loaded (startAt >= now) and fired on the next tick. One that was already
+     * reminded for that start gets the same notification id, so it is not sent again.
+     */
+    private void refresh(DataChangedEvent change) {
+        if (loadedUntil == null) {
+            return;
+        }
+        try {
+            Instant now = Instant.now();
+            switch (change.type()) {
+                case INTERVIEWS -> loadInterviews(cancel(INTERVIEW, change.userId(), change.ids()),
+                        now.minus(interviewLeadMinutes, ChronoUnit.MINUTES), loadedUntil);
+                case APPLICATIONS -> loadNextActions(cancel(NEXT_ACTION, change.userId(), change.ids()), now, loadedUntil);
+                default -> {
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Failed to refresh reminders after a {} change: {}", change.type(), e.getMessage());
+        }
+    }
+
+    /**
+     * Cancel the reminders of the changed sources
+     *
+     * @return criteria selecting the documents to reload
+     */
+    private Criteria cancel(String prefix, String userId, Collection<String> ids) {
+        if (ids != null) {
+            ids.forEach(id -> {
+                TimingWheel.Timeout<Reminder> timeout = scheduled.remove(prefix + id);
+                if (timeout != null) {
+                    timeout.cancel();
+                }
+            });
+            return Criteria.where("id").in(ids);
+        }
+        scheduled.entrySet().removeIf(entry -> {
+            boolean match = entry.getKey().startsWith(prefix)
+                    && (userId == null || userId.equals(entry.getValue().task().userId()));
+            if (match) {
+                entry.getValue().cancel();
+            }
+            return match;
+        });
+        return userId != null ? Criteria.where("userId").is(userId) : new Criteria();
+    }
+
+    /**
+     * Scheduled interviews whose reminder (startAt - lead) falls in [from, to)
+     */
+    private int loadInterviews(Criteria scope, Instant from, Instant to) {
+        Query query = new Query(scope.and("status").is(InterviewStatus.SCHEDULED)
+                .and("startAt").gte(from.plus(interviewLeadMinutes, ChronoUnit.MINUTES))
+                .lt(to.plus(interviewLeadMinutes, ChronoUnit.MINUTES)));
+        query.fields().include("userId").include("startAt");
+        List<Interview> interviews = mongoTemplate.find(query, Interview.class);
+        for (Interview interview : interviews) {
+            schedule(new Reminder(INTERVIEW + interview.getId(), NotificationType.INTERVIEW_REMINDER,
+                    interview.getUserId(), interview.getId(), interview.getStartAt(),
+                    interview.getStartAt().minus(interviewLeadMinutes, ChronoUnit.MINUTES)));
+        }
+        return interviews.size();
+    }
+
+    /**
+     * Pending next actions whose reminder (nextActionHour on their day) falls in [from, to)
+     */
+    private int loadNextActions(Criteria scope, Instant from, Instant to) {
+        LocalDate first = from.minus(nextActionHour, ChronoUnit.HOURS).atZone(ZoneOffset.UTC).toLocalDate();
+        LocalDate last = to.minus(nextActionHour, ChronoUnit.HOURS).atZone(ZoneOffset.UTC).toLocalDate();
+        Query query = new Query(scope.and("nextAction.date").gte(first.toString()).lte(last.toString())
+                .and("nextAction.done").ne(true));
+        query.fields().include("userId").include("nextAction");
+        int count = 0;
+        for (Application application : mongoTemplate.find(query, Application.class)) {
+            LocalDate day = parseDate(application.getNextAction().getDate());
+            Instant fireAt = day != null ? day.atTime(nextActionHour, 0).toInstant(ZoneOffset.UTC) : null;
+            if (fireAt != null && !fireAt.isBefore(from) && fireAt.isBefore(to)) {
+                schedule(new Reminder(NEXT_ACTION + application.getId(), NotificationType.NEXT_ACTION_DUE,
+                        application.getUserId(), application.getId(), day.atStartOfDay(ZoneOffset.UTC).toInstant(), fireAt));
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void schedule(Reminder reminder) {
+        TimingWheel.Timeout<Reminder> previous = scheduled.put(reminder.source(), wheel.schedule(reminder, reminder.fireAt()));
+        if (previous != null) {
+            previous.cancel();
+        }
+    }
+
+    /**
+     * Re-checks the document (a missed change must not send a wrong reminder), stores the
+     * notification and, if this node is the first to do so, hands it to the senders
+     */
+    private void deliver(Reminder reminder) {
+        scheduled.computeIfPresent(reminder.source(), (source, timeout) -> timeout.task() == reminder ? null : timeout);
+        try {
+            Notification notification = reminder.type() == NotificationType.INTERVIEW_REMINDER
+                    ? interviewNotification(reminder)
+                    : nextActionNotification(reminder);
+            if (notification == null || !notificationService.create(notification)) {
+                return;
+            }
+            if (!senders.isEmpty()) {
+                User user = userService.findUser(reminder.userId());
+                for (ReminderSender sender : senders) {
+                    try {
+                        sender.send(user, notification);
+                    } catch (Exception e) {
+                        log.warn("{} failed for reminder {}: {}", sender.getClass().getSimpleName(), notification.getId(), e.getMessage());
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Failed to deliver reminder {}: {}", reminder.source(), e.getMessage());
+        }
+    }
+
+    private Notification interviewNotification(Reminder reminder) {
+        Interview interview = mongoTemplate.findById(reminder.targetId(), Interview.class);
+        if (interview == null || interview.getStatus() != InterviewStatus.SCHEDULED
+                || !reminder.dueAt().equals(interview.getStartAt())) {
+            return null;
+        }
+        Application application = findApplication(interview.getApplicationId());
+        String company = application != null ? " (" + application.getCompanyName() + ")" : "";
+        ZoneId zone = zoneOf(interview.getTimezone());
+        String message = "« " + interview.getTitle() + " »" + company + " commence le "
+                + WHEN.format(interview.getStartAt().atZone(zone)) + " (" + zone.getId() + ").";
+        if (interview.getMeetingUrl() != null) {
+            message += "\nLien : " + interview.getMeetingUrl();
+        } else if (interview.getLocation() != null) {
+            message += "\nLieu : " + interview.getLocation();
+        }
+        return Notification.builder()
+                .id(INTERVIEW + interview.getId() + ":" + interview.getStartAt().toEpochMilli())
+                .userId(interview.getUserId())
+                .type(NotificationType.INTERVIEW_REMINDER)
+                .title("Rappel : " + interview.getTitle())
+                .message(message)
+                .applicationId(interview.getApplicationId())
+                .interviewId(interview.getId())
+                .dueAt(interview.getStartAt())
+                .createdAt(Instant.now())
+                .build();
+    }
+
+    private Notification nextActionNotification(Reminder reminder) {
+        Application application = findApplication(reminder.targetId());
+        NextAction action = application != null ? application.getNextAction() : null;
+        LocalDate day = reminder.dueAt().atZone(ZoneOffset.UTC).toLocalDate();
+        if (action == null || Boolean.TRUE.equals(action.getDone()) || !day.equals(parseDate(action.getDate()))) {
+            return null;
+        }
+        String message = action.getNote() != null && !action.getNote().isBlank()
+                ? action.getNote()
+                : "Prochaine action prévue aujourd'hui pour « " + application.getRoleTitle() + " » chez " + application.getCompanyName() + ".";
+        return Notification.builder()
+                .id(NEXT_ACTION + application.getId() + ":" + action.getDate())
+                .userId(application.getUserId())
+                .type(NotificationType.NEXT_ACTION_DUE)
+                .title("Action prévue : " + application.getCompanyName())
+                .message(message)
+                .applicationId(application.getId())
+                .dueAt(reminder.dueAt())
+                .createdAt(Instant.now())
+                .build();
+    }
+
+    private Application findApplication(String id) {
+        if (id == null) {
+            return null;
+        }
+        Query query = new Query(Criteria.where("id").is(id));
+        query.fields().include("userId").include("companyName").include("roleTitle").include("nextAction");
+        return mongoTemplate.findOne(query, Application.class);
+    }
+
+    private static LocalDate parseDate(String date) {
+        try {
+            return date != null ? LocalDate.parse(date) : null;
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static ZoneId zoneOf(String timezone) {
+        try {
+            return timezone != null ? ZoneId.of(timezone) : ZoneOffset.UTC;
+        } catch (DateTimeException e) {
+            return ZoneOffset.UTC;
+        }
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * @param source document the reminder is about (one pending reminder per source)
+     * @param dueAt start of the interview, or day of the next action
+     */
+    private record Reminder(String source, NotificationType type, String userId, String targetId, Instant dueAt, Instant fireAt) {
+    }
+}
@@ -0,0 +1,13 @@
+package com.candidex.api.service;
+
+import com.candidex.api.model.Notification;
+import com.candidex.api.model.User;
+
+/**
+ * Extra delivery channel for reminders, besides the in-app notification.
+ * Every bean implementing it is called once per reminder, on the reminder delivery thread.
+ */
+public interface ReminderSender {
+
+    void send(User user, Notification notification) throws Exception;
+}
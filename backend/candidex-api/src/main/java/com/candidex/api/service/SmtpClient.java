@@ -0,0 +1,147 @@
+package com.candidex.api.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+
+/**
+ * Minimal plain SMTP client (no TLS, no auth), meant for a local relay or a stand-in such as
+ * Mailpit (see docker-compose.dev.yml). A session sends any number of messages over one
+ * connection, so bulk mailings do not pay a connection and handshake per message.
+ */
+@Component
+public class SmtpClient {
+
+    private static final int TIMEOUT_MILLIS = 10_000;
+
+    @Value("${mail.smtp.host:localhost}")
+    private String host;
+
+    @Value("${mail.smtp.port:1025}")
+    private int port;
+
+    @Value("${mail.from:noreply@candidex.local}")
+    private String from;
+
+    public Session open() throws IOException {
+        return new Session();
+    }
+
+    public class Session implements Closeable {
+
+        private final Socket socket = new Socket();
+        private final BufferedReader in;
+        private final Writer out;
+
+        private Session() throws IOException {
+            try {
+                socket.connect(new InetSocketAddress(host, port), TIMEOUT_MILLIS);
+                socket.setSoTimeout(TIMEOUT_MILLIS);
+                in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+                out = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.US_ASCII);
+                expect(220);
+                command("HELO candidex", 250);
+            } catch (IOException e) {
+                socket.close();
+                throw e;
+            }
+        }
+
+        /**
+         * Send one plain text message; on a rejected recipient the session stays usable
+         *
+         * @param messageId unique and stable across resends, so that a resent message can be recognized
+         *                  (the relay does not deduplicate)
+         */
+        public void send(String to, String subject, String body, String messageId) throws IOException {
+            try {
+                command("MAIL FROM:<" + from + ">", 250);
+                command("RCPT TO:<" + to + ">", 250);
+                command("DATA", 354);
+                command(message(to, subject, body, messageId) + "\r\n.", 250);
+            } catch (SmtpException e) {
+                command("RSET", 250);
+                throw e;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                command("QUIT", 221);
+            } finally {
+                socket.close();
+            }
+        }
+
+        private void command(String line, int expected) throws IOException {
+            out.write(line + "\r\n");
+            out.flush();
+            expect(expected);
+        }
+
+        /**
+         * Reads a (possibly multi-line) reply and checks its code
+         */
+        private void expect(int expected) throws IOException {
+            String line;
+            do {
+                line = in.readLine();
+                if (line == null || line.length() < 3) {
+                    throw new IOException("SMTP connection closed");
+                }
+            } while (line.length() > 3 && line.charAt(3) == '-');
+            int code = Integer.parseInt(line.substring(0, 3));
+            if (code != expected && !(expected == 250 && code == 251)) {
+                throw new SmtpException("SMTP error: " + line);
+            }
+        }
+    }
+
+    /**
+     * Headers, then the UTF-8 body (CRLF line breaks) in base64: no dot-stuffing or line length issues
+     */
+    private String message(String to, String subject, String body, String messageId) {
+        String encoded = Base64.getMimeEncoder(76, new byte[]{'\r', '\n'})
+                .encodeToString((body.replace("\r\n", "\n").replace("\n", "\r\n") + "\r\n\r\n-- \r\nCandidex")
+                        .getBytes(StandardCharsets.UTF_8));
+        return "From: Candidex <" + from + ">\r\n"
+                + "To: <" + to + ">\r\n"
+                + "Subject: " + encodedWord(subject) + "\r\n"
+                + "Date: " + DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now()) + "\r\n"
+                + "Message-ID: <" + messageId.replaceAll("[^A-Za-z0-9.-]", ".") + "@candidex>\r\n"
+                + "MIME-Version: 1.0\r\n"
+                + "Content-Type: text/plain; charset=UTF-8\r\n"
+                + "Content-Transfer-Encoding: base64\r\n"
+                + "\r\n"
+                + encoded;
+    }
+
+    /**
+     * RFC 2047 encoded-word, for non-ASCII subjects
+     */
+    private static String encodedWord(String text) {
+        return "=?UTF-8?B?" + Base64.getEncoder().encodeToString(text.getBytes(StandardCharsets.UTF_8)) + "?=";
+    }
+
+    /**
+     * Negative reply from the server (the connection itself is fine)
+     */
+    public static class SmtpException extends IOException {
+        SmtpException(String message) {
+            super(message);
+        }
+    }
+}
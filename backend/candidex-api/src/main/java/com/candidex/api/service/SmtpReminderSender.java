@@ -0,0 +1,33 @@
+package com.candidex.api.service;
+
+import com.candidex.api.model.Notification;
+import com.candidex.api.model.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Reminder e-mails through the SMTP relay. Enabled by reminders.email.enabled.
+ */
+@Component
+@ConditionalOnProperty(name = "reminders.email.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class SmtpReminderSender implements ReminderSender {
+
+    private final SmtpClient smtpClient;
+
+    @Override
+    public void send(User user, Notification notification) throws IOException {
+        if (user.getEmail() == null) {
+            return;
+        }
+        try (SmtpClient.Session session = smtpClient.open()) {
+            session.send(user.getEmail(), notification.getTitle(), notification.getMessage(), notification.getId());
+        }
+        log.debug("Reminder {} e-mailed to user {}", notification.getId(), user.getId());
+    }
+}
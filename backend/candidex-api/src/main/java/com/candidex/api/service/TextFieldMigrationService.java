@@ -0,0 +1,202 @@
+package com.candidex.api.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.Pair;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Online migration moving large text fields out of the hot documents:
+ * - applications.notes -> application_notes
+ * - interviews.notes/feedback/checklistItems/questionsToAsk -> interview_details
+ *
+ * Runs in the background at startup while the API keeps serving, and is retried every
+ * RETRY_MINUTES until it completes. Until then, services call ensure...Migrated(id) before
+ * reading or rewriting a document so that no legacy field is lost by a full-document save;
+ * a document is checked once, then remembered as migrated.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TextFieldMigrationService implements ApplicationRunner, DisposableBean {
+
+    private static final int BATCH_SIZE = 500;
+    private static final long RETRY_MINUTES = 5;
+    private static final List<String> INTERVIEW_FIELDS = List.of("notes", "feedback", "checklistItems", "questionsToAsk");
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${migration.split-text-fields.enabled:true}")
+    private boolean enabled;
+
+    private volatile boolean applicationsMigrated;
+    private volatile boolean interviewsMigrated;
+
+    // Ids checked by ensure...Migrated() while the background migration is pending
+    private final Cache<String, Boolean> migratedApplications = Caffeine.newBuilder().maximumSize(100_000).build();
+    private final Cache<String, Boolean> migratedInterviews = Caffeine.newBuilder().maximumSize(100_000).build();
+
+    private ScheduledExecutorService scheduler;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "text-field-migration");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::migrateIfPending, 0, RETRY_MINUTES, TimeUnit.MINUTES);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdownNow();
+        scheduler.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    private void migrateIfPending() {
+        try {
+            long apps = 0;
+            if (!applicationsMigrated) {
+                apps = migrateApplications(null);
+                applicationsMigrated = true;
+                migratedApplications.invalidateAll();
+            }
+            long interviews = migrateInterviews(null);
+            interviewsMigrated = true;
+            migratedInterviews.invalidateAll();
+            log.info("Text field migration done: {} applications, {} interviews", apps, interviews);
+            scheduler.shutdown();
+        } catch (Exception e) {
+            log.error("Text field migration failed, retrying in {} min", RETRY_MINUTES, e);
+        }
+    }
+
+    /**
+     * @return true once no application carries the legacy notes field any more
+     */
+    public boolean isApplicationsMigrated() {
+        return applicationsMigrated;
+    }
+
+    /**
+     * Migrate a single application now if neither the background migration nor an earlier call did
+     */
+    public void ensureApplicationMigrated(String id) {
+        if (!applicationsMigrated && migratedApplications.getIfPresent(id) == null) {
+            migrateApplications(toObjectId(id));
+            migratedApplications.put(id, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Migrate a single interview now if neither the background migration nor an earlier call did
+     */
+    public void ensureInterviewMigrated(String id) {
+        if (!interviewsMigrated && migratedInterviews.getIfPresent(id) == null) {
+            migrateInterviews(toObjectId(id));
+            migratedInterviews.put(id, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * @param id migrate only this document, or all documents when null
+     */
+    private long migrateApplications(Object id) {
+        Query query = scope(id).addCriteria(Criteria.where("notes").exists(true));
+        query.fields().include("userId").include("notes");
+        return migrate(query, "applications", "application_notes", List.of("notes"));
+    }
+
+    private long migrateInterviews(Object id) {
+        Query query = scope(id).addCriteria(new Criteria().orOperator(
+                INTERVIEW_FIELDS.stream().map(field -> Criteria.where(field).exists(true)).toList()
+        ));
+        query.fields().include("userId");
+        INTERVIEW_FIELDS.forEach(field -> query.fields().include(field));
+        return migrate(query, "interviews", "interview_details", INTERVIEW_FIELDS);
+    }
+
+    private long migrate(Query query, String sourceCollection, String targetCollection, List<String> fields) {
+        long migrated = 0;
+        List<Document> batch = new ArrayList<>(BATCH_SIZE);
+
+        try (Stream<Document> documents = mongoTemplate.stream(query, Document.class, sourceCollection)) {
+            for (Document doc : (Iterable<Document>) documents::iterator) {
+                batch.add(doc);
+                if (batch.size() == BATCH_SIZE) {
+                    migrated += flush(batch, sourceCollection, targetCollection, fields);
+                }
+            }
+        }
+        migrated += flush(batch, sourceCollection, targetCollection, fields);
+        return migrated;
+    }
+
+    private int flush(List<Document> batch, String sourceCollection, String targetCollection, List<String> fields) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        // 1. Copy into the companion collection. $setOnInsert never overwrites a companion
+        //    already written through the API (which is always newer than the legacy field).
+        Instant now = Instant.now();
+        List<Pair<Query, Update>> upserts = new ArrayList<>(batch.size());
+        for (Document doc : batch) {
+            Update update = new Update()
+                    .setOnInsert("userId", doc.get("userId"))
+                    .setOnInsert("updatedAt", now);
+            fields.forEach(field -> update.setOnInsert(field, doc.get(field)));
+            upserts.add(Pair.of(new Query(Criteria.where("_id").is(doc.get("_id"))), update));
+        }
+        mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, targetCollection).upsert(upserts).execute();
+
+        // 2. Drop the legacy fields from the hot documents
+        Update unset = new Update();
+        fields.forEach(unset::unset);
+        mongoTemplate.updateMulti(
+                new Query(Criteria.where("_id").in(batch.stream().map(doc -> doc.get("_id")).toList())),
+                unset,
+                sourceCollection
+        );
+
+        int size = batch.size();
+        batch.clear();
+        return size;
+    }
+
+    private static Query scope(Object id) {
+        return id == null ? new Query() : new Query(Criteria.where("_id").is(id));
+    }
+
+    private static Object toObjectId(String id) {
+        return ObjectId.isValid(id) ? new ObjectId(id) : id;
+    }
+}
@@ -0,0 +1,130 @@
+package com.candidex.api.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timing wheel: O(1) schedule and cancel, one thread advancing the wheel every tick.
+ *
+ * A task lands in slot (deadline tick mod size) with the number of full turns left before it is
+ * due; each tick only visits its own slot. New tasks go through a lock-free queue and are placed
+ * by the tick thread, which is the only one touching the slots. Cancellation just flags the
+ * timeout; it is dropped when its slot comes up.
+ */
+final class TimingWheel<T> {
+
+    private final long tickMillis;
+    private final int mask;
+    private final List<Timeout<T>>[] slots;
+    private final Queue<Timeout<T>> added = new ConcurrentLinkedQueue<>();
+    private final Consumer<T> onExpire;
+    private final ScheduledExecutorService ticker;
+    private final long startMillis = System.currentTimeMillis();
+    private long tick;
+
+    /**
+     * @param size number of slots, a power of two
+     * @param onExpire called on the tick thread: must hand long work off to another executor
+     */
+    @SuppressWarnings("unchecked")
+    TimingWheel(long tickMillis, int size, String threadName, Consumer<T> onExpire) {
+        if (Integer.bitCount(size) != 1) {
+            throw new IllegalArgumentException("size must be a power of two");
+        }
+        this.tickMillis = tickMillis;
+        this.mask = size - 1;
+        this.slots = new List[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = new ArrayList<>();
+        }
+        this.onExpire = onExpire;
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    void start() {
+        ticker.scheduleAtFixedRate(this::advance, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    void stop() {
+        ticker.shutdownNow();
+    }
+
+    /**
+     * Run task at deadline (on the next tick if the deadline is already past)
+     */
+    Timeout<T> schedule(T task, Instant deadline) {
+        Timeout<T> timeout = new Timeout<>(task, Math.max(0, (deadline.toEpochMilli() - startMillis) / tickMillis));
+        added.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Processes every tick up to the current time, so a late run catches up
+     */
+    private void advance() {
+        long target = (System.currentTimeMillis() - startMillis) / tickMillis;
+        while (tick <= target) {
+            placeAdded();
+            expire(slots[(int) (tick & mask)]);
+            tick++;
+        }
+    }
+
+    private void placeAdded() {
+        Timeout<T> timeout;
+        while ((timeout = added.poll()) != null) {
+            if (timeout.cancelled) {
+                continue;
+            }
+            long due = Math.max(timeout.deadlineTick, tick);
+            timeout.remainingRounds = (due - tick) / slots.length;
+            slots[(int) (due & mask)].add(timeout);
+        }
+    }
+
+    private void expire(List<Timeout<T>> slot) {
+        for (Iterator<Timeout<T>> iterator = slot.iterator(); iterator.hasNext(); ) {
+            Timeout<T> timeout = iterator.next();
+            if (timeout.cancelled) {
+                iterator.remove();
+            } else if (timeout.remainingRounds <= 0) {
+                iterator.remove();
+                onExpire.accept(timeout.task);
+            } else {
+                timeout.remainingRounds--;
+            }
+        }
+    }
+
+    static final class Timeout<T> {
+        private final T task;
+        private final long deadlineTick;
+        private long remainingRounds;
+        private volatile boolean cancelled;
+
+        private Timeout(T task, long deadlineTick) {
+            this.task = task;
+            this.deadlineTick = deadlineTick;
+        }
+
+        T task() {
+            return task;
+        }
+
+        void cancel() {
+            cancelled = true;
+        }
+    }
+}
@@ -1,31 +1,49 @@
 package com.candidex.api.service;
 
+import com.candidex.api.cache.CacheInvalidationBus;
+import com.candidex.api.cache.EntityCache;
 import com.candidex.api.dto.UpdateProfileDto;
 import com.candidex.api.dto.UserProfileDto;
 import com.candidex.api.model.User;
 import com.candidex.api.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.security.SecureRandom;
+import java.util.Base64;
+
 /**
  * Service for user profile management
  */
 @Service
 @RequiredArgsConstructor
 public class UserService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
     
     private final UserRepository userRepository;
+    private final EntityCache entityCache;
+    private final CacheInvalidationBus invalidationBus;
+
+    @Value("${ghosting.default-days:30}")
+    private int defaultGhostingDays;
     
     /**
      * Get user profile by ID
      */
     public UserProfileDto getProfile(String userId) {
-        User user = userRepository.findById(userId)
+        return mapToDto(findUser(userId));
+    }
+    
+    /**
+     * Read-only lookup served from the entity cache (writes always re-read from Mongo)
+     */
+    public User findUser(String userId) {
+        return entityCache.getUser(userId, userRepository::findById)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Utilisateur introuvable."));
-        
-        return mapToDto(user);
     }
     
     /**
@@ -60,8 +78,16 @@ public class UserService {
         if (dto.getPortfolioUrl() != null) {
             user.setPortfolioUrl(dto.getPortfolioUrl());
         }
+        if (dto.getGhostingDays() != null) {
+            if (dto.getGhostingDays() > 0 && dto.getGhostingDays() < GhostingService.MIN_DAYS) {
+                throw new IllegalArgumentException("Le délai avant « sans réponse » doit être 0 (désactivé) ou d'au moins "
+                        + GhostingService.MIN_DAYS + " jours.");
+            }
+            user.setGhostingDays(dto.getGhostingDays());
+        }
         
         User updated = userRepository.save(user);
+        invalidationBus.userChanged(userId);
         return mapToDto(updated);
     }
     
@@ -82,6 +108,8 @@ public class UserService {
                 .portfolioUrl(user.getPortfolioUrl())
                 .cvFilename(user.getCvFilename())
                 .cvOriginalFilename(user.getCvOriginalFilename())
+                .calendarToken(user.getCalendarToken())
+                .ghostingDays(user.getGhostingDays() != null ? user.getGhostingDays() : defaultGhostingDays)
                 .createdAt(user.getCreatedAt() != null ? user.getCreatedAt().toString() : null)
                 .updatedAt(user.getUpdatedAt() != null ? user.getUpdatedAt().toString() : null)
                 .build();
@@ -95,6 +123,7 @@ public class UserService {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Utilisateur introuvable."));
         user.setCvFilename(filename);
         userRepository.save(user);
+        invalidationBus.userChanged(userId);
     }
     
     /**
@@ -106,15 +135,48 @@ public class UserService {
         user.setCvFilename(filename);
         user.setCvOriginalFilename(originalFilename);
         userRepository.save(user);
+        invalidationBus.userChanged(userId);
     }
     
     /**
-     * Get CV filename for user
+     * New secret for the interviews iCalendar feed; the previous URL stops working
      */
-    public String getCvFilename(String userId) {
+    public String rotateCalendarToken(String userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Utilisateur introuvable."));
+        byte[] secret = new byte[32];
+        RANDOM.nextBytes(secret);
+        user.setCalendarToken(Base64.getUrlEncoder().withoutPadding().encodeToString(secret));
+        userRepository.save(user);
+        invalidationBus.userChanged(userId);
+        return user.getCalendarToken();
+    }
+
+    /**
+     * Disable the interviews iCalendar feed
+     */
+    public void revokeCalendarToken(String userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Utilisateur introuvable."));
-        return user.getCvFilename();
+        user.setCalendarToken(null);
+        userRepository.save(user);
+        invalidationBus.userChanged(userId);
+    }
+
+    /**
+     * Owner of an iCalendar feed token
+     */
+    public String findUserIdByCalendarToken(String token) {
+        return userRepository.findByCalendarToken(token)
+                .map(User::getId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Calendrier introuvable."));
+    }
+
+    /**
+     * Get CV filename for user
+     */
+    public String getCvFilename(String userId) {
+        return findUser(userId).getCvFilename();
     }
     
     /**
@@ -126,5 +188,6 @@ public class UserService {
         user.setCvFilename(null);
         user.setCvOriginalFilename(null);
         userRepository.save(user);
+        invalidationBus.userChanged(userId);
     }
 }
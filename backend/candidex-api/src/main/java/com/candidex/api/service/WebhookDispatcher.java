@@ -0,0 +1,469 @@
+package com.candidex.api.service;
+
+import com.candidex.api.model.WebhookEndpoint;
+import com.candidex.api.model.WebhookOutboxEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Delivery of the webhook outbox.
+ *
+ * One node at a time (lease "webhooks" in job_checkpoints) reads the pending outbox events and
+ * fans them out to a bounded queue per endpoint. Each endpoint has at most one request in flight,
+ * carrying up to batch-size events, sent with the non-blocking HttpClient. A failed batch is
+ * retried with exponential backoff (same deliveryId) up to max-attempts; after
+ * circuit.failure-threshold consecutive failures the endpoint's circuit opens for
+ * circuit.open-seconds, then a single batch probes it. Events are marked delivered in the outbox
+ * once every endpoint is done with them, so a new leader re-sends what was in flight
+ * (at-least-once: receivers dedupe on the event id).
+ * Unless private hosts are allowed, the endpoint's host is resolved and checked again before
+ * each request: the name may point elsewhere since its registration (DNS rebinding). The
+ * HttpClient resolves through the same JVM address cache, so it connects to what was checked.
+ *
+ * All the state is confined to the dispatcher thread; HTTP completions are handed back to it.
+ * Based on API.md section 9
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class WebhookDispatcher implements ApplicationRunner, DisposableBean {
+
+    private static final String JOB_ID = "webhooks";
+    private static final long TICK_MILLIS = 100;
+    private static final long LEASE_CHECK_MILLIS = 60_000;
+    private static final long IDLE_CHANNEL_MILLIS = 10 * 60_000;
+    private static final long MAX_BACKOFF_MILLIS = 5 * 60_000;
+    private static final int POLL_LIMIT = 500;
+    private static final int MAX_IN_FLIGHT_EVENTS = 10_000;
+    // ObjectIds from different nodes are only ordered to the second (and clocks drift): a sweep
+    // looks that far back before the last polled id for events written late
+    private static final int POLL_LOOKBACK_SECONDS = 5;
+    private static final long SWEEP_MILLIS = 10_000;
+
+    private final MongoTemplate mongoTemplate;
+    private final JobCheckpoints checkpoints;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${webhooks.enabled:true}")
+    private boolean enabled;
+
+    @Value("${webhooks.poll-millis:1000}")
+    private long pollMillis;
+
+    @Value("${webhooks.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${webhooks.batch-size:20}")
+    private int batchSize;
+
+    @Value("${webhooks.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${webhooks.timeout-seconds:10}")
+    private long timeoutSeconds;
+
+    @Value("${webhooks.circuit.failure-threshold:5}")
+    private int failureThreshold;
+
+    @Value("${webhooks.circuit.open-seconds:60}")
+    private long openSeconds;
+
+    @Value("${webhooks.allow-private-hosts:false}")
+    private boolean allowPrivateHosts;
+
+    private final Map<String, Channel> channels = new HashMap<>();
+    private final Map<String, Tracking> inFlight = new HashMap<>(); // outbox event id -> deliveries left
+    private final List<String> delivered = new ArrayList<>(); // to mark in the outbox
+    private final Queue<Runnable> completions = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private HttpClient httpClient;
+    private ScheduledExecutorService dispatcher;
+    private boolean leader;
+    private long leaseCheckedAt;
+    private long polledAt;
+    private long sweptAt;
+    private long cleanedAt;
+    private ObjectId lastPolledId;
+    private Counter deliveredCounter;
+    private Counter failedCounter;
+    private Counter droppedCounter;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+        deliveredCounter = meterRegistry.counter("webhooks.delivered");
+        failedCounter = meterRegistry.counter("webhooks.failed");
+        droppedCounter = meterRegistry.counter("webhooks.dropped");
+        meterRegistry.gauge("webhooks.queued", queued);
+        dispatcher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "webhook-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        dispatcher.scheduleWithFixedDelay(this::tick, 1000, TICK_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        if (dispatcher == null) {
+            return;
+        }
+        dispatcher.shutdownNow();
+        dispatcher.awaitTermination(5, TimeUnit.SECONDS);
+        if (leader) {
+            // Another node takes over at its next lease check and re-sends what was in flight
+            checkpoints.release(JOB_ID);
+        }
+    }
+
+    private void tick() {
+        try {
+            Runnable completion;
+            while ((completion = completions.poll()) != null) {
+                completion.run();
+            }
+            long now = System.currentTimeMillis();
+            if (now - leaseCheckedAt >= LEASE_CHECK_MILLIS) {
+                checkLease();
+                leaseCheckedAt = now;
+            }
+            if (!leader) {
+                return;
+            }
+            markDelivered();
+            if (now - polledAt >= pollMillis) {
+                poll();
+                polledAt = now;
+            }
+            if (now - sweptAt >= SWEEP_MILLIS) {
+                sweep();
+                sweptAt = now;
+            }
+            int total = 0;
+            for (Channel channel : channels.values()) {
+                channel.dispatch(now);
+                total += channel.queue.size();
+            }
+            queued.set(total);
+            if (now - cleanedAt >= IDLE_CHANNEL_MILLIS) {
+                channels.values().removeIf(channel -> channel.idleSince(now - IDLE_CHANNEL_MILLIS));
+                cleanedAt = now;
+            }
+        } catch (Exception e) {
+            log.warn("Webhook dispatch failed: {}", e.getMessage());
+        }
+    }
+
+    private void checkLease() {
+        boolean wasLeader = leader;
+        leader = checkpoints.acquire(JOB_ID) != null;
+        if (leader && !wasLeader) {
+            log.info("Delivering webhooks from this node");
+            lastPolledId = null; // everything still pending, including what the previous leader had in flight
+        } else if (!leader && wasLeader) {
+            log.warn("Webhook delivery lease lost");
+            channels.clear();
+            inFlight.clear();
+            delivered.clear();
+        }
+    }
+
+    /**
+     * Fan the pending outbox events written since the last poll out to their endpoints' queues
+     */
+    private void poll() {
+        if (inFlight.size() >= MAX_IN_FLIGHT_EVENTS) {
+            return;
+        }
+        Criteria criteria = Criteria.where("pending").is(true);
+        if (lastPolledId != null) {
+            criteria.and("id").gt(lastPolledId);
+        }
+        List<WebhookOutboxEvent> events = findPending(criteria);
+        if (events.isEmpty()) {
+            return;
+        }
+        lastPolledId = new ObjectId(events.get(events.size() - 1).getId());
+        enqueue(events.stream().filter(event -> !inFlight.containsKey(event.getId())).toList());
+    }
+
+    /**
+     * Pending events with an id just below the last polled one, written by another node after the
+     * poll. Paged by id, so events in flight are skipped without holding the sweep back.
+     */
+    private void sweep() {
+        if (lastPolledId == null) {
+            return;
+        }
+        markDelivered(); // events finished during the poll are still pending in the outbox
+        ObjectId after = null;
+        List<WebhookOutboxEvent> page;
+        do {
+            if (inFlight.size() >= MAX_IN_FLIGHT_EVENTS) {
+                return;
+            }
+            Criteria criteria = Criteria.where("pending").is(true);
+            if (after == null) {
+                criteria.and("id").gte(new ObjectId(lastPolledId.getTimestamp() - POLL_LOOKBACK_SECONDS, 0)).lt(lastPolledId);
+            } else {
+                criteria.and("id").gt(after).lt(lastPolledId);
+            }
+            page = findPending(criteria);
+            if (page.isEmpty()) {
+                return;
+            }
+            after = new ObjectId(page.get(page.size() - 1).getId());
+            enqueue(page.stream().filter(event -> !inFlight.containsKey(event.getId())).toList());
+        } while (page.size() == POLL_LIMIT);
+    }
+
+    private List<WebhookOutboxEvent> findPending(Criteria criteria) {
+        Query query = new Query(criteria).with(Sort.by(Sort.Order.asc("id"))).limit(POLL_LIMIT);
+        return mongoTemplate.find(query, WebhookOutboxEvent.class);
+    }
+
+    private void enqueue(List<WebhookOutboxEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        Query endpointsQuery = new Query(Criteria.where("userId").in(events.stream().map(WebhookOutboxEvent::getUserId).collect(Collectors.toSet())));
+        Map<String, List<WebhookEndpoint>> endpointsByUser = mongoTemplate.find(endpointsQuery, WebhookEndpoint.class).stream()
+                .collect(Collectors.groupingBy(WebhookEndpoint::getUserId));
+
+        for (WebhookOutboxEvent event : events) {
+            List<WebhookEndpoint> targets = endpointsByUser.getOrDefault(event.getUserId(), List.of()).stream()
+                    .filter(endpoint -> endpoint.getEvents() != null && endpoint.getEvents().contains(event.getType()))
+                    .toList();
+            if (targets.isEmpty()) {
+                delivered.add(event.getId()); // endpoint deleted since
+                continue;
+            }
+            Tracking tracking = new Tracking(event.getId(), targets.size());
+            inFlight.put(event.getId(), tracking);
+            for (WebhookEndpoint endpoint : targets) {
+                Channel channel = channels.computeIfAbsent(endpoint.getId(), id -> new Channel());
+                channel.url = endpoint.getUrl();
+                channel.secret = endpoint.getSecret();
+                if (channel.queue.size() >= queueCapacity) {
+                    // Receiver far behind (or its circuit open for long): drop rather than grow
+                    droppedCounter.increment();
+                    tracking.finish();
+                } else {
+                    channel.queue.add(new Delivery(event, tracking));
+                }
+            }
+        }
+    }
+
+    private void markDelivered() {
+        if (delivered.isEmpty()) {
+            return;
+        }
+        mongoTemplate.updateMulti(new Query(Criteria.where("id").in(delivered)),
+                new Update().unset("pending").set("deliveredAt", Instant.now()), WebhookOutboxEvent.class);
+        delivered.clear();
+    }
+
+    private byte[] body(String deliveryId, List<Delivery> batch) throws JsonProcessingException {
+        List<Map<String, Object>> events = new ArrayList<>(batch.size());
+        for (Delivery delivery : batch) {
+            Map<String, Object> event = new LinkedHashMap<>();
+            event.put("id", delivery.event().getId());
+            event.put("type", delivery.event().getType());
+            event.put("createdAt", delivery.event().getCreatedAt());
+            event.put("data", delivery.event().getData());
+            events.add(event);
+        }
+        return objectMapper.writeValueAsBytes(Map.of("deliveryId", deliveryId, "events", events));
+    }
+
+    private static String sign(String secret, byte[] body) throws GeneralSecurityException {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        return "sha256=" + HexFormat.of().formatHex(mac.doFinal(body));
+    }
+
+    private record Delivery(WebhookOutboxEvent event, Tracking tracking) {
+    }
+
+    /**
+     * Endpoints an outbox event still has to be delivered to (or given up on)
+     */
+    private final class Tracking {
+        private final String eventId;
+        private int remaining;
+
+        private Tracking(String eventId, int remaining) {
+            this.eventId = eventId;
+            this.remaining = remaining;
+        }
+
+        private void finish() {
+            if (--remaining == 0) {
+                inFlight.remove(eventId);
+                delivered.add(eventId);
+            }
+        }
+    }
+
+    /**
+     * Queue, current batch and circuit of one endpoint
+     */
+    private final class Channel {
+        private final Queue<Delivery> queue = new ArrayDeque<>();
+        private String url;
+        private String secret;
+        private List<Delivery> batch;
+        private String deliveryId;
+        private int attempts;
+        private boolean sending;
+        private long nextAttemptAt;
+        private int consecutiveFailures;
+        private long openUntil;
+        private long lastActiveAt = System.currentTimeMillis();
+
+        private void dispatch(long now) {
+            if (sending || now < nextAttemptAt || now < openUntil) {
+                return;
+            }
+            if (batch == null) {
+                if (queue.isEmpty()) {
+                    return;
+                }
+                batch = new ArrayList<>(batchSize);
+                while (batch.size() < batchSize && !queue.isEmpty()) {
+                    batch.add(queue.poll());
+                }
+                deliveryId = UUID.randomUUID().toString();
+                attempts = 0;
+            }
+            send();
+        }
+
+        private void send() {
+            URI uri = URI.create(url);
+            if (!allowPrivateHosts) {
+                try {
+                    WebhookService.checkPublicHost(uri.getHost());
+                } catch (UnknownHostException e) {
+                    onResult(0, e); // retried like a network error
+                    return;
+                } catch (IllegalArgumentException e) {
+                    log.warn("Webhook delivery {} to {} refused: the host now resolves to a private address", deliveryId, url);
+                    giveUp();
+                    return;
+                }
+            }
+            HttpRequest request;
+            try {
+                byte[] body = body(deliveryId, batch);
+                request = HttpRequest.newBuilder(uri)
+                        .timeout(Duration.ofSeconds(timeoutSeconds))
+                        .header("Content-Type", "application/json")
+                        .header("User-Agent", "Candidex-Webhooks/1.0")
+                        .header("X-Candidex-Delivery", deliveryId)
+                        .header("X-Candidex-Signature", sign(secret, body))
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                        .build();
+            } catch (Exception e) {
+                log.warn("Cannot build webhook request for {}: {}", url, e.getMessage());
+                giveUp();
+                return;
+            }
+            sending = true;
+            httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> completions.add(() ->
+                            onResult(response != null ? response.statusCode() : 0, error)));
+        }
+
+        private void onResult(int status, Throwable error) {
+            long now = System.currentTimeMillis();
+            sending = false;
+            lastActiveAt = now;
+            if (error == null && status >= 200 && status < 300) {
+                deliveredCounter.increment(batch.size());
+                consecutiveFailures = 0;
+                batch.forEach(delivery -> delivery.tracking().finish());
+                batch = null;
+                return;
+            }
+
+            failedCounter.increment();
+            if (++consecutiveFailures >= failureThreshold) {
+                if (consecutiveFailures == failureThreshold) {
+                    log.warn("Webhook circuit opened for {} ({} consecutive failures)", url, consecutiveFailures);
+                }
+                openUntil = now + openSeconds * 1000;
+            }
+            boolean retryable = error != null || status == 408 || status == 429 || status >= 500;
+            if (!retryable || ++attempts >= maxAttempts) {
+                log.warn("Webhook delivery {} to {} given up after {} attempt(s) (status {}, {})", deliveryId, url,
+                        attempts, status, error != null ? error.getClass().getSimpleName() : "no error");
+                giveUp();
+                return;
+            }
+            long backoff = Math.min(MAX_BACKOFF_MILLIS, 1000L << Math.min(attempts - 1, 20));
+            nextAttemptAt = now + backoff + ThreadLocalRandom.current().nextLong(backoff / 4 + 1);
+        }
+
+        private void giveUp() {
+            droppedCounter.increment(batch.size());
+            batch.forEach(delivery -> delivery.tracking().finish());
+            batch = null;
+        }
+
+        private boolean idleSince(long time) {
+            return queue.isEmpty() && batch == null && !sending && lastActiveAt < time;
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package com.candidex.api.service;
+
+import com.candidex.api.cache.CacheInvalidationBus;
+import com.candidex.api.cache.DataChangedEvent;
+import com.candidex.api.dto.CreateWebhookDto;
+import com.candidex.api.dto.WebhookEndpointDto;
+import com.candidex.api.model.Application;
+import com.candidex.api.model.Interview;
+import com.candidex.api.model.WebhookEndpoint;
+import com.candidex.api.model.WebhookOutboxEvent;
+import com.candidex.api.model.enums.ApplicationStatus;
+import com.candidex.api.model.enums.WebhookEventType;
+import com.candidex.api.repository.WebhookEndpointRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.UnknownHostException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Webhook endpoints of a user, and the outbox events written on the API write paths.
+ *
+ * Writing an event costs one insert, and nothing at all for users without an endpoint for it
+ * (subscriptions are cached per user, evicted on every node when endpoints change): delivery
+ * happens later in WebhookDispatcher, so a slow receiver never slows down a write.
+ * Based on API.md section 9
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class WebhookService {
+
+    public static final int MAX_ENDPOINTS = 5;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final WebhookEndpointRepository endpointRepository;
+    private final MongoTemplate mongoTemplate;
+    private final CacheInvalidationBus invalidationBus;
+
+    // Endpoints on private networks (localhost, 10.x...), e.g. a local stub receiver in development
+    @Value("${webhooks.allow-private-hosts:false}")
+    private boolean allowPrivateHosts;
+
+    private Cache<String, Set<WebhookEventType>> subscriptions;
+
+    @PostConstruct
+    void init() {
+        subscriptions = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(Duration.ofMinutes(10))
+                .build();
+    }
+
+    public List<WebhookEndpointDto> getEndpoints(String userId) {
+        return endpointRepository.findByUserId(userId).stream().map(endpoint -> toDto(endpoint, false)).toList();
+    }
+
+    /**
+     * @return the endpoint, with its signing secret (only shown here)
+     */
+    public WebhookEndpointDto createEndpoint(String userId, CreateWebhookDto dto) {
+        String url = validateUrl(dto.getUrl().trim());
+        if (endpointRepository.countByUserId(userId) >= MAX_ENDPOINTS) {
+            throw new IllegalArgumentException("Nombre maximal de webhooks atteint (" + MAX_ENDPOINTS + ").");
+        }
+        byte[] secret = new byte[24];
+        RANDOM.nextBytes(secret);
+        WebhookEndpoint endpoint = endpointRepository.save(WebhookEndpoint.builder()
+                .userId(userId)
+                .url(url)
+                .secret(HexFormat.of().formatHex(secret))
+                .events(EnumSet.copyOf(dto.getEvents()))
+                .createdAt(Instant.now())
+                .build());
+        invalidationBus.userChanged(userId);
+        log.info("Webhook {} created for user {}", endpoint.getId(), userId);
+        return toDto(endpoint, true);
+    }
+
+    public void deleteEndpoint(String userId, String id) {
+        if (endpointRepository.deleteByIdAndUserId(id, userId) == 0) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Webhook introuvable.");
+        }
+        invalidationBus.userChanged(userId);
+    }
+
+    /**
+     * Whether the user has an endpoint for this event (lets callers skip building payloads)
+     */
+    public boolean isSubscribed(String userId, WebhookEventType type) {
+        return subscriptions.get(userId, this::loadSubscriptions).contains(type);
+    }
+
+    public void applicationStatusChanged(String userId, Application application, ApplicationStatus previousStatus) {
+        applicationStatusesChanged(userId, List.of(application), Collections.singletonMap(application.getId(), previousStatus));
+    }
+
+    /**
+     * @param previousStatuses status of each application before the write
+     */
+    public void applicationStatusesChanged(String userId, Collection<Application> applications,
+                                           Map<String, ApplicationStatus> previousStatuses) {
+        if (applications.isEmpty() || !isSubscribed(userId, WebhookEventType.APPLICATION_STATUS_CHANGED)) {
+            return;
+        }
+        write(userId, WebhookEventType.APPLICATION_STATUS_CHANGED, applications.stream().map(application -> {
+            Map<String, Object> data = new LinkedHashMap<>();
+            data.put("applicationId", application.getId());
+            data.put("companyName", application.getCompanyName());
+            data.put("roleTitle", application.getRoleTitle());
+            data.put("previousStatus", previousStatuses.get(application.getId()));
+            data.put("status", application.getStatus());
+            return data;
+        }).toList());
+    }
+
+    /**
+     * @param type INTERVIEW_CREATED or INTERVIEW_UPDATED
+     */
+    public void interviewsChanged(String userId, WebhookEventType type, Collection<Interview> interviews) {
+        if (interviews.isEmpty() || !isSubscribed(userId, type)) {
+            return;
+        }
+        write(userId, type, interviews.stream().map(interview -> {
+            Map<String, Object> data = new LinkedHashMap<>();
+            data.put("interviewId", interview.getId());
+            data.put("applicationId", interview.getApplicationId());
+            data.put("title", interview.getTitle());
+            data.put("type", interview.getType());
+            data.put("status", interview.getStatus());
+            data.put("startAt", interview.getStartAt());
+            data.put("endAt", interview.getEndAt());
+            data.put("timezone", interview.getTimezone());
+            data.put("mode", interview.getMode());
+            data.put("location", interview.getLocation());
+            data.put("meetingUrl", interview.getMeetingUrl());
+            return data;
+        }).toList());
+    }
+
+    public void interviewsDeleted(String userId, Collection<String> interviewIds) {
+        if (interviewIds.isEmpty() || !isSubscribed(userId, WebhookEventType.INTERVIEW_DELETED)) {
+            return;
+        }
+        write(userId, WebhookEventType.INTERVIEW_DELETED, interviewIds.stream()
+                .map(id -> Map.<String, Object>of("interviewId", id))
+                .toList());
+    }
+
+    @EventListener
+    public void onDataChanged(DataChangedEvent event) {
+        if (event.type() == CacheInvalidationBus.Type.USER) {
+            if (event.userId() != null) {
+                subscriptions.invalidate(event.userId());
+            } else {
+                subscriptions.invalidateAll();
+            }
+        }
+    }
+
+    private void write(String userId, WebhookEventType type, List<Map<String, Object>> payloads) {
+        Instant now = Instant.now();
+        List<WebhookOutboxEvent> events = payloads.stream().map(data -> {
+            Map<String, Object> present = new LinkedHashMap<>();
+            data.forEach((key, value) -> {
+                if (value != null) {
+                    present.put(key, value);
+                }
+            });
+            return WebhookOutboxEvent.builder()
+                    .userId(userId)
+                    .type(type)
+                    .data(present)
+                    .pending(true)
+                    .createdAt(now)
+                    .build();
+        }).toList();
+        mongoTemplate.insert(events, WebhookOutboxEvent.class);
+    }
+
+    private Set<WebhookEventType> loadSubscriptions(String userId) {
+        Set<WebhookEventType> types = EnumSet.noneOf(WebhookEventType.class);
+        endpointRepository.findByUserId(userId).forEach(endpoint -> types.addAll(endpoint.getEvents()));
+        return types;
+    }
+
+    /**
+     * http(s) only and, unless allowed, no host on a loopback/private/link-local address
+     */
+    private String validateUrl(String url) {
+        URI uri;
+        try {
+            uri = new URI(url);
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException("URL de webhook invalide.");
+        }
+        if (uri.getHost() == null || !("https".equalsIgnoreCase(uri.getScheme()) || "http".equalsIgnoreCase(uri.getScheme()))) {
+            throw new IllegalArgumentException("L'URL du webhook doit commencer par http:// ou https://.");
+        }
+        if (!allowPrivateHosts) {
+            try {
+                checkPublicHost(uri.getHost());
+            } catch (UnknownHostException e) {
+                throw new IllegalArgumentException("Hôte du webhook introuvable.");
+            }
+        }
+        return uri.toString();
+    }
+
+    /**
+     * Every address of the host must be public. Checked at registration, and again by
+     * WebhookDispatcher before each request since the name may resolve elsewhere later.
+     *
+     * @throws IllegalArgumentException if one of them is local or private
+     */
+    static void checkPublicHost(String host) throws UnknownHostException {
+        for (InetAddress address : InetAddress.getAllByName(host)) {
+            if (address.isLoopbackAddress() || address.isSiteLocalAddress() || address.isLinkLocalAddress()
+                    || address.isAnyLocalAddress() || isUniqueLocal(address)) {
+                throw new IllegalArgumentException("L'URL du webhook doit être publique.");
+            }
+        }
+    }
+
+    /**
+     * IPv6 unique local address (fc00::/7), which isSiteLocalAddress() (fec0::/10) doesn't cover
+     */
+    private static boolean isUniqueLocal(InetAddress address) {
+        return address instanceof Inet6Address && (address.getAddress()[0] & 0xfe) == 0xfc;
+    }
+
+    private static WebhookEndpointDto toDto(WebhookEndpoint endpoint, boolean withSecret) {
+        return WebhookEndpointDto.builder()
+                .id(endpoint.getId())
+                .url(endpoint.getUrl())
+                .events(endpoint.getEvents())
+                .createdAt(endpoint.getCreatedAt())
+                .secret(withSecret ? endpoint.getSecret() : null)
+                .build();
+    }
+}
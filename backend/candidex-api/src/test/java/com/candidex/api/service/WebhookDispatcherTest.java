@@ -0,0 +1,300 @@
+package com.candidex.api.service;
+
+import com.candidex.api.model.JobCheckpoint;
+import com.candidex.api.model.WebhookEndpoint;
+import com.candidex.api.model.WebhookOutboxEvent;
+import com.candidex.api.model.enums.WebhookEventType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * WebhookDispatcher against a stub HTTP receiver, with the outbox kept in memory
+ */
+class WebhookDispatcherTest {
+
+    private static final String USER_ID = "65f000000000000000000001";
+    private static final String SECRET = "0123456789abcdef";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final List<WebhookOutboxEvent> outbox = new CopyOnWriteArrayList<>();
+    private final List<Received> received = new CopyOnWriteArrayList<>();
+    private final Queue<Integer> statuses = new ConcurrentLinkedQueue<>();
+    private int defaultStatus = 200;
+
+    private HttpServer server;
+    private MongoTemplate mongoTemplate;
+    private WebhookDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/hook", this::receive);
+        server.createContext("/interviews", this::receive);
+        server.start();
+
+        mongoTemplate = mock(MongoTemplate.class);
+        when(mongoTemplate.find(any(Query.class), eq(WebhookOutboxEvent.class)))
+                .thenAnswer(invocation -> findPending(invocation.getArgument(0)));
+        when(mongoTemplate.find(any(Query.class), eq(WebhookEndpoint.class))).thenReturn(List.of(
+                endpoint("endpoint-1", "/hook", WebhookEventType.APPLICATION_STATUS_CHANGED),
+                endpoint("endpoint-2", "/interviews", WebhookEventType.INTERVIEW_CREATED)));
+        when(mongoTemplate.updateMulti(any(Query.class), any(UpdateDefinition.class), eq(WebhookOutboxEvent.class)))
+                .thenAnswer(invocation -> {
+                    markDelivered(invocation.getArgument(0));
+                    return null;
+                });
+        JobCheckpoints checkpoints = mock(JobCheckpoints.class);
+        when(checkpoints.acquire("webhooks")).thenReturn(new JobCheckpoint());
+
+        dispatcher = new WebhookDispatcher(mongoTemplate, checkpoints, objectMapper, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(dispatcher, "enabled", true);
+        ReflectionTestUtils.setField(dispatcher, "pollMillis", 50L);
+        ReflectionTestUtils.setField(dispatcher, "queueCapacity", 1000);
+        ReflectionTestUtils.setField(dispatcher, "batchSize", 20);
+        ReflectionTestUtils.setField(dispatcher, "maxAttempts", 8);
+        ReflectionTestUtils.setField(dispatcher, "timeoutSeconds", 5L);
+        ReflectionTestUtils.setField(dispatcher, "failureThreshold", 5);
+        ReflectionTestUtils.setField(dispatcher, "openSeconds", 60L);
+        ReflectionTestUtils.setField(dispatcher, "allowPrivateHosts", true);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        dispatcher.destroy();
+        server.stop(0);
+    }
+
+    @Test
+    void sendsBatchesOfUpToBatchSizeEvents() {
+        ReflectionTestUtils.setField(dispatcher, "batchSize", 3);
+        List<String> ids = addEvents(7);
+
+        dispatcher.run(null);
+
+        await().atMost(Duration.ofSeconds(10)).until(() -> received.size() == 3);
+        assertThat(received).extracting(request -> request.eventIds().size()).containsExactly(3, 3, 1);
+        assertThat(received).flatExtracting(Received::eventIds).containsExactlyElementsOf(ids);
+    }
+
+    @Test
+    void signsTheBodyWithTheEndpointSecret() throws Exception {
+        addEvents(1);
+
+        dispatcher.run(null);
+
+        await().atMost(Duration.ofSeconds(10)).until(() -> received.size() == 1);
+        Received request = received.get(0);
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        assertThat(request.signature()).isEqualTo("sha256=" + HexFormat.of().formatHex(mac.doFinal(request.body())));
+        assertThat(request.deliveryId()).isEqualTo(objectMapper.readTree(request.body()).get("deliveryId").asText());
+    }
+
+    @Test
+    void retriesServerErrorsAndTooManyRequestsWithBackoff() {
+        statuses.addAll(List.of(503, 429));
+        addEvents(1);
+
+        dispatcher.run(null);
+
+        await().atMost(Duration.ofSeconds(15)).until(() -> received.size() == 3);
+        assertThat(received).extracting(Received::deliveryId).containsOnly(received.get(0).deliveryId());
+        // 1 s, then 2 s (plus jitter)
+        assertThat(Duration.between(received.get(0).at(), received.get(1).at())).isGreaterThanOrEqualTo(Duration.ofMillis(1000));
+        assertThat(Duration.between(received.get(1).at(), received.get(2).at())).isGreaterThanOrEqualTo(Duration.ofMillis(2000));
+        await().atMost(Duration.ofSeconds(5)).until(this::nothingPending);
+    }
+
+    @Test
+    void givesUpOnClientErrors() throws InterruptedException {
+        defaultStatus = 400;
+        addEvents(1);
+
+        dispatcher.run(null);
+
+        await().atMost(Duration.ofSeconds(10)).until(this::nothingPending);
+        Thread.sleep(1500); // past the first backoff
+        assertThat(received).hasSize(1);
+    }
+
+    @Test
+    void opensTheCircuitAfterFailureThresholdConsecutiveFailures() throws InterruptedException {
+        defaultStatus = 500;
+        ReflectionTestUtils.setField(dispatcher, "batchSize", 1);
+        ReflectionTestUtils.setField(dispatcher, "maxAttempts", 1);
+        ReflectionTestUtils.setField(dispatcher, "failureThreshold", 2);
+        addEvents(4);
+
+        dispatcher.run(null);
+
+        await().atMost(Duration.ofSeconds(10)).until(() -> received.size() == 2);
+        Thread.sleep(1500);
+        assertThat(received).hasSize(2);
+        assertThat(outbox).filteredOn(event -> Boolean.TRUE.equals(event.getPending())).hasSize(2);
+    }
+
+    @Test
+    void clearsThePendingFlagOnceDelivered() {
+        addEvents(2);
+
+        dispatcher.run(null);
+
+        await().atMost(Duration.ofSeconds(10)).until(this::nothingPending);
+        assertThat(received).hasSize(1);
+        assertThat(outbox).allSatisfy(event -> assertThat(event.getDeliveredAt()).isNotNull());
+    }
+
+    @Test
+    void pollsNewEventsWhileMoreThanAPollOfEventsIsInFlight() {
+        defaultStatus = 503; // endpoint-1 keeps its events in flight, retrying
+        addEvents(600);
+
+        dispatcher.run(null);
+
+        await().atMost(Duration.ofSeconds(10)).until(() -> !received.isEmpty());
+        String interviewEvent = addEvent(WebhookEventType.INTERVIEW_CREATED, 0);
+        await().atMost(Duration.ofSeconds(10)).until(() -> received.stream()
+                .anyMatch(request -> request.eventIds().contains(interviewEvent)));
+    }
+
+    @Test
+    void refusesHostsResolvingToPrivateAddressesAtSendTime() throws InterruptedException {
+        ReflectionTestUtils.setField(dispatcher, "allowPrivateHosts", false);
+        addEvents(1);
+
+        dispatcher.run(null);
+
+        await().atMost(Duration.ofSeconds(10)).until(this::nothingPending);
+        Thread.sleep(500);
+        assertThat(received).isEmpty();
+    }
+
+    private List<String> addEvents(int count) {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ids.add(addEvent(WebhookEventType.APPLICATION_STATUS_CHANGED, i));
+        }
+        return ids;
+    }
+
+    private String addEvent(WebhookEventType type, int index) {
+        WebhookOutboxEvent event = WebhookOutboxEvent.builder()
+                .id(new ObjectId().toHexString())
+                .userId(USER_ID)
+                .type(type)
+                .data(Map.of("applicationId", "app-" + index))
+                .pending(true)
+                .createdAt(Instant.now())
+                .build();
+        outbox.add(event);
+        return event.getId();
+    }
+
+    private WebhookEndpoint endpoint(String id, String path, WebhookEventType type) {
+        return WebhookEndpoint.builder()
+                .id(id)
+                .userId(USER_ID)
+                .url("http://127.0.0.1:" + server.getAddress().getPort() + path)
+                .secret(SECRET)
+                .events(Set.of(type))
+                .build();
+    }
+
+    private boolean nothingPending() {
+        return outbox.stream().noneMatch(event -> Boolean.TRUE.equals(event.getPending()));
+    }
+
+    /**
+     * The outbox query: pending, within the id bounds, by id, limited
+     */
+    private List<WebhookOutboxEvent> findPending(Query query) {
+        Document bounds = (Document) query.getQueryObject().get("id");
+        return outbox.stream()
+                .filter(event -> Boolean.TRUE.equals(event.getPending()))
+                .filter(event -> bounds == null || withinBounds(new ObjectId(event.getId()), bounds))
+                .sorted(Comparator.comparing(WebhookOutboxEvent::getId))
+                .limit(query.getLimit() > 0 ? query.getLimit() : Long.MAX_VALUE)
+                .toList();
+    }
+
+    private static boolean withinBounds(ObjectId id, Document bounds) {
+        for (Map.Entry<String, Object> bound : bounds.entrySet()) {
+            int comparison = id.compareTo((ObjectId) bound.getValue());
+            boolean ok = switch (bound.getKey()) {
+                case "$gt" -> comparison > 0;
+                case "$gte" -> comparison >= 0;
+                case "$lt" -> comparison < 0;
+                case "$lte" -> comparison <= 0;
+                default -> throw new IllegalArgumentException("Unexpected operator " + bound.getKey());
+            };
+            if (!ok) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void markDelivered(Query query) {
+        Collection<?> ids = (Collection<?>) ((Document) query.getQueryObject().get("id")).get("$in");
+        for (WebhookOutboxEvent event : outbox) {
+            if (ids.contains(event.getId())) {
+                event.setPending(null);
+                event.setDeliveredAt(Instant.now());
+            }
+        }
+    }
+
+    private void receive(HttpExchange exchange) throws IOException {
+        byte[] body = exchange.getRequestBody().readAllBytes();
+        List<String> eventIds = new ArrayList<>();
+        for (JsonNode event : objectMapper.readTree(body).get("events")) {
+            eventIds.add(event.get("id").asText());
+        }
+        received.add(new Received(Instant.now(), exchange.getRequestHeaders().getFirst("X-Candidex-Delivery"),
+                exchange.getRequestHeaders().getFirst("X-Candidex-Signature"), body, eventIds));
+        Integer status = exchange.getRequestURI().getPath().equals("/hook") ? statuses.poll() : Integer.valueOf(200);
+        exchange.sendResponseHeaders(status != null ? status : defaultStatus, -1);
+        exchange.close();
+    }
+
+    private record Received(Instant at, String deliveryId, String signature, byte[] body, List<String> eventIds) {
+    }
+}
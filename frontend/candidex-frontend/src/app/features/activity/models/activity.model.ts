@@ -0,0 +1,44 @@
+import { ApplicationStatus, NextAction } from '../../applications/models';
+import { InterviewStatus } from '../../interviews/models';
+
+export type ActivityType =
+  | 'APPLICATION_CREATED'
+  | 'APPLICATION_STATUS_CHANGED'
+  | 'NEXT_ACTION_CHANGED'
+  | 'INTERVIEW_CREATED'
+  | 'INTERVIEW_UPDATED'
+  | 'INTERVIEW_DELETED';
+
+/**
+ * Entry of the activity feed
+ * Based on API.md section 10.1
+ */
+export interface ActivityEvent {
+  type: ActivityType;
+  at: string; // ISO instant
+  applicationId?: string;
+  companyName?: string;
+  roleTitle?: string;
+
+  // Interviews
+  interviewId?: string;
+  title?: string;
+  startAt?: string;
+
+  // APPLICATION_STATUS_CHANGED (status also on APPLICATION_CREATED and interview events)
+  previousStatus?: ApplicationStatus;
+  status?: ApplicationStatus | InterviewStatus;
+
+  // NEXT_ACTION_CHANGED (absent: removed)
+  nextAction?: NextAction;
+}
+
+export interface ActivityPage {
+  items: ActivityEvent[];
+  nextCursor?: string; // absent on the last page
+}
+
+export interface ActivityParams {
+  cursor?: string;
+  limit?: number; // default 50, max 200
+}
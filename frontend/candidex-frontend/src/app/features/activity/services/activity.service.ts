@@ -0,0 +1,26 @@
+import { Injectable } from '@angular/core';
+import { HttpClient, HttpParams } from '@angular/common/http';
+import { Observable } from 'rxjs';
+import { ActivityPage, ActivityParams } from '../models';
+import { environment } from '../../../../environments/environment';
+
+/**
+ * Activity feed, newest first
+ * Based on API.md section 10.1
+ */
+@Injectable({
+  providedIn: 'root'
+})
+export class ActivityService {
+
+  private readonly API_URL = `${environment.apiUrl}/activity`;
+
+  constructor(private http: HttpClient) {}
+
+  getPage(params?: ActivityParams): Observable<ActivityPage> {
+    let httpParams = new HttpParams();
+    if (params?.cursor) httpParams = httpParams.set('cursor', params.cursor);
+    if (params?.limit) httpParams = httpParams.set('limit', params.limit.toString());
+    return this.http.get<ActivityPage>(this.API_URL, { params: httpParams });
+  }
+}
@@ -0,0 +1,43 @@
+import { ApplicationStatus } from '../../applications/models';
+import { InterviewMode, InterviewStatus, InterviewType } from '../../interviews/models';
+
+/**
+ * Agenda entry: an application's next action or an interview
+ * Based on API.md section 6.1
+ */
+export interface AgendaItem {
+  kind: 'NEXT_ACTION' | 'INTERVIEW';
+  applicationId: string;
+  companyName?: string;
+  companyDomain?: string;
+  roleTitle?: string;
+  applicationStatus?: ApplicationStatus;
+  overdue: boolean;
+
+  // NEXT_ACTION
+  date?: string; // ISO date
+  note?: string;
+  done?: boolean;
+
+  // INTERVIEW
+  interviewId?: string;
+  title?: string;
+  type?: InterviewType;
+  mode?: InterviewMode;
+  status?: InterviewStatus;
+  startAt?: string;
+  endAt?: string;
+}
+
+export interface AgendaPage {
+  items: AgendaItem[];
+  nextCursor?: string; // absent on the last page
+}
+
+export interface AgendaParams {
+  from?: string; // ISO date
+  to?: string; // ISO date
+  includeDone?: boolean;
+  cursor?: string;
+  limit?: number; // default 50, max 200
+}
@@ -0,0 +1,29 @@
+import { Injectable } from '@angular/core';
+import { HttpClient, HttpParams } from '@angular/common/http';
+import { Observable } from 'rxjs';
+import { AgendaPage, AgendaParams } from '../models';
+import { environment } from '../../../../environments/environment';
+
+/**
+ * Next actions and interviews in date order
+ * Based on API.md section 6.1
+ */
+@Injectable({
+  providedIn: 'root'
+})
+export class AgendaService {
+
+  private readonly API_URL = `${environment.apiUrl}/agenda`;
+
+  constructor(private http: HttpClient) {}
+
+  getPage(params?: AgendaParams): Observable<AgendaPage> {
+    let httpParams = new HttpParams();
+    if (params?.from) httpParams = httpParams.set('from', params.from);
+    if (params?.to) httpParams = httpParams.set('to', params.to);
+    if (params?.includeDone) httpParams = httpParams.set('includeDone', 'true');
+    if (params?.cursor) httpParams = httpParams.set('cursor', params.cursor);
+    if (params?.limit) httpParams = httpParams.set('limit', params.limit.toString());
+    return this.http.get<AgendaPage>(this.API_URL, { params: httpParams });
+  }
+}
@@ -0,0 +1,36 @@
+import { ApplicationSource, ApplicationStatus } from '../../applications/models';
+
+/**
+ * Stage of the funnel
+ * Based on API.md section 3.3
+ */
+export interface FunnelStage {
+  status: ApplicationStatus;
+  reached: number; // applications that got to this stage or a later one
+  conversion: number | null; // ratio to the previous stage (null for APPLIED)
+  medianDays: number | null; // null: no application left the stage yet
+  exits: number;
+}
+
+/**
+ * Conversion of the applications of a source or of a week
+ */
+export interface FunnelSegment {
+  source: ApplicationSource | null; // bySource
+  weekStart: string | null; // byWeek, ISO date of the Monday
+  applications: number;
+  responses: number; // interview or rejection
+  interviews: number;
+  offers: number;
+  responseRate: number;
+  interviewRate: number;
+  offerRate: number;
+}
+
+export interface Funnel {
+  totalApplications: number;
+  stages: FunnelStage[];
+  bySource: FunnelSegment[];
+  byWeek: FunnelSegment[]; // latest weeks first
+  computedAt: string;
+}
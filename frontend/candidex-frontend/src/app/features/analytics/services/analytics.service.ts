@@ -0,0 +1,23 @@
+import { Injectable } from '@angular/core';
+import { HttpClient } from '@angular/common/http';
+import { Observable } from 'rxjs';
+import { Funnel } from '../models';
+import { environment } from '../../../../environments/environment';
+
+/**
+ * Funnel and time in stage, computed server-side
+ * Based on API.md section 3.3
+ */
+@Injectable({
+  providedIn: 'root'
+})
+export class AnalyticsService {
+
+  private readonly API_URL = `${environment.apiUrl}/analytics`;
+
+  constructor(private http: HttpClient) {}
+
+  getFunnel(): Observable<Funnel> {
+    return this.http.get<Funnel>(`${this.API_URL}/funnel`);
+  }
+}
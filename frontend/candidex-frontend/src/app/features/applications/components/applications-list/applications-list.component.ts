@@ -224,7 +224,6 @@ export class ApplicationsListComponent implements OnInit, OnDestroy {
   }
 
   private applyLocalSafetyFilters(items: Application[]): Application[] {
-    const searchTerm = (this.searchControl.value || '').trim().toLowerCase();
     const locationTerm = (this.locationFilterControl.value || '').trim().toLowerCase();
     const statusFilter = this.statusFilterControl.value;
     const sourceFilter = this.sourceFilterControl.value;
@@ -238,12 +237,7 @@ export class ApplicationsListComponent implements OnInit, OnDestroy {
         return false;
       }
 
-      if (searchTerm.length >= 2) {
-        const searchable = `${app.companyName} ${app.roleTitle} ${app.notes || ''}`.toLowerCase();
-        if (!searchable.includes(searchTerm)) {
-          return false;
-        }
-      }
+      // Free-text search stays server-side (q): it also matches notes, which list items do not carry.
 
       if (locationTerm.length >= 2) {
         const searchableLocation = `${app.city || ''} ${app.country || ''}`.toLowerCase();
@@ -514,19 +508,31 @@ export class ApplicationsListComponent implements OnInit, OnDestroy {
    * Handle edit action - Opens edit dialog
    */
   onEdit(application: Application): void {
-    const dialogRef = this.dialog.open(ApplicationFormComponent, {
-      width: '600px',
-      autoFocus: false,
-      disableClose: false,
-      data: { application } // Edit mode - pass existing application
-    });
+    // List items do not carry notes: load the full application so the form does not overwrite them.
+    this.applicationsService.getById(application.id).subscribe({
+      next: (detail) => {
+        const dialogRef = this.dialog.open(ApplicationFormComponent, {
+          width: '600px',
+          autoFocus: false,
+          disableClose: false,
+          data: { application: detail } // Edit mode - pass existing application
+        });
 
-    dialogRef.afterClosed().subscribe(result => {
-      if (result) {
-        // Application updated, reload list
-        this.notificationService.success('Candidature mise à jour avec succès !');
-        this.loadApplications();
-      }
+        dialogRef.afterClosed().subscribe(result => {
+          if (result) {
+            // Application updated, reload list
+            this.notificationService.success('Candidature mise à jour avec succès !');
+            this.loadApplications();
+          }
+        });
+      },
+      error: (error) => this.notificationService.error(
+        this.httpErrorService.getActionMessage(
+          error,
+          'le chargement de la candidature',
+          'Impossible de charger la candidature.'
+        )
+      )
     });
   }
 
@@ -283,12 +283,14 @@ export class InterviewsPageComponent implements OnInit {
   }
 
   editInterview(interview: Interview): void {
-    const dialogRef = this.dialog.open(InterviewFormDialogComponent, {
-      width: '600px',
-      data: { interview }
-    });
-    dialogRef.afterClosed().subscribe(result => {
-      if (result) this.loadInterviews();
+    this.loadDetail(interview, detail => {
+      const dialogRef = this.dialog.open(InterviewFormDialogComponent, {
+        width: '600px',
+        data: { interview: detail }
+      });
+      dialogRef.afterClosed().subscribe(result => {
+        if (result) this.loadInterviews();
+      });
     });
   }
 
@@ -325,30 +327,46 @@ export class InterviewsPageComponent implements OnInit {
 
   openPrepPack(interview: Interview): void {
     if (this.isPast(interview)) return;
-    const dialogRef = this.dialog.open(PrepPackDialogComponent, {
-      width: '580px',
-      maxHeight: '85vh',
-      data: { interview }
-    });
-    dialogRef.afterClosed().subscribe(result => {
-      if (!result) return;
-      const dto: UpdateInterviewDto = { notes: result.notes, feedback: result.feedback };
-      this.interviewsService.update(interview.id, dto).subscribe({
-        next: () => {
-          this.notificationService.success('Notes sauvegardées');
-          this.loadInterviews();
-        },
-        error: (error) => this.notificationService.error(
-          this.httpErrorService.getActionMessage(
-            error,
-            'la sauvegarde des notes',
-            'Échec de la sauvegarde des notes.'
+    this.loadDetail(interview, detail => {
+      const dialogRef = this.dialog.open(PrepPackDialogComponent, {
+        width: '580px',
+        maxHeight: '85vh',
+        data: { interview: detail }
+      });
+      dialogRef.afterClosed().subscribe(result => {
+        if (!result) return;
+        const dto: UpdateInterviewDto = { notes: result.notes, feedback: result.feedback };
+        this.interviewsService.update(interview.id, dto).subscribe({
+          next: () => {
+            this.notificationService.success('Notes sauvegardées');
+            this.loadInterviews();
+          },
+          error: (error) => this.notificationService.error(
+            this.httpErrorService.getActionMessage(
+              error,
+              'la sauvegarde des notes',
+              'Échec de la sauvegarde des notes.'
+            )
           )
-        )
+        });
       });
     });
   }
 
+  /** List items do not carry notes/prep lists: load the full interview before opening a dialog. */
+  private loadDetail(interview: Interview, open: (detail: Interview) => void): void {
+    this.interviewsService.getById(interview.id).subscribe({
+      next: detail => open(detail),
+      error: (error) => this.notificationService.error(
+        this.httpErrorService.getActionMessage(
+          error,
+          'le chargement de l\'entretien',
+          'Impossible de charger l\'entretien.'
+        )
+      )
+    });
+  }
+
   /** A past interview (or one already done/canceled) can no longer be prepared. */
   isPast(interview: Interview): boolean {
     const startOfToday = this.getStartOfDay(new Date());
@@ -1,6 +1,6 @@
 import { Injectable } from '@angular/core';
 import { HttpClient, HttpParams } from '@angular/common/http';
-import { Observable } from 'rxjs';
+import { EMPTY, Observable, expand, reduce } from 'rxjs';
 import {
   Interview,
   InterviewStatus,
@@ -23,14 +23,25 @@ export class InterviewsService {
   constructor(private http: HttpClient) {}
 
   /**
-   * Get all interviews with optional filters
+   * Get all interviews with optional filters (follows the X-Next-Cursor pages)
    */
   getAll(from?: string, to?: string, status?: InterviewStatus): Observable<Interview[]> {
     let params = new HttpParams();
     if (from) params = params.set('from', from);
     if (to) params = params.set('to', to);
     if (status) params = params.set('status', status);
-    return this.http.get<Interview[]>(this.API_URL, { params });
+
+    const page = (cursor?: string) => this.http.get<Interview[]>(this.API_URL, {
+      params: cursor ? params.set('cursor', cursor) : params,
+      observe: 'response'
+    });
+    return page().pipe(
+      expand(response => {
+        const next = response.headers.get('X-Next-Cursor');
+        return next ? page(next) : EMPTY;
+      }),
+      reduce((all, response) => all.concat(response.body ?? []), [] as Interview[])
+    );
   }
 
   /**
@@ -172,18 +172,30 @@ export class ApplicationsKanbanComponent implements OnInit {
       event.stopPropagation();
     }
     
-    const dialogRef = this.dialog.open(ApplicationFormComponent, {
-      width: '600px',
-      autoFocus: false,
-      disableClose: false,
-      data: { application }
-    });
+    // Board cards do not carry notes: load the full application so the form does not overwrite them.
+    this.applicationsService.getById(application.id).subscribe({
+      next: (detail) => {
+        const dialogRef = this.dialog.open(ApplicationFormComponent, {
+          width: '600px',
+          autoFocus: false,
+          disableClose: false,
+          data: { application: detail }
+        });
 
-    dialogRef.afterClosed().subscribe(result => {
-      if (result) {
-        this.notificationService.success('Candidature mise à jour avec succès !');
-        this.loadApplications();
-      }
+        dialogRef.afterClosed().subscribe(result => {
+          if (result) {
+            this.notificationService.success('Candidature mise à jour avec succès !');
+            this.loadApplications();
+          }
+        });
+      },
+      error: (error) => this.notificationService.error(
+        this.httpErrorService.getActionMessage(
+          error,
+          'le chargement de la candidature',
+          'Impossible de charger la candidature.'
+        )
+      )
     });
   }
   
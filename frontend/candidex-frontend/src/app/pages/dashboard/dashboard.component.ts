@@ -7,9 +7,16 @@ import { MatButtonModule } from '@angular/material/button';
 import { MatChipsModule } from '@angular/material/chips';
 import { MatProgressSpinnerModule } from '@angular/material/progress-spinner';
 import { MatTooltipModule } from '@angular/material/tooltip';
+import { forkJoin } from 'rxjs';
 
 import { ApplicationsService } from '../../features/applications/services/applications.service';
 import { CompanySuggestionService } from '../../features/applications/services/company-suggestion.service';
+import { AgendaService } from '../../features/agenda/services/agenda.service';
+import { AgendaItem } from '../../features/agenda/models';
+import { ActivityService } from '../../features/activity/services/activity.service';
+import { ActivityEvent } from '../../features/activity/models';
+import { AnalyticsService } from '../../features/analytics/services/analytics.service';
+import { Funnel } from '../../features/analytics/models';
 import { Application, ApplicationStatus, ApplicationStatusLabels } from '../../features/applications/models';
 import { HttpErrorService } from '../../core/services/http-error.service';
 import { NotificationService } from '../../core/services/notification.service';
@@ -34,8 +41,9 @@ interface DashboardStats {
 }
 
 interface TimelineEvent {
-  id: string;
-  type: 'application' | 'interview' | 'offer' | 'offerAccepted' | 'offerDeclined' | 'rejection';
+  applicationId?: string;
+  type: 'application' | 'statusChange' | 'interview' | 'interviewUpdated' | 'interviewDeleted' | 'nextAction'
+    | 'offer' | 'offerAccepted' | 'offerDeclined' | 'rejection';
   companyName: string;
   roleTitle: string;
   date: Date;
@@ -105,6 +113,9 @@ export class DashboardComponent implements OnInit {
   
   constructor(
     private applicationsService: ApplicationsService,
+    private agendaService: AgendaService,
+    private activityService: ActivityService,
+    private analyticsService: AnalyticsService,
     private companySuggestionService: CompanySuggestionService,
     private router: Router,
     private httpErrorService: HttpErrorService,
@@ -117,14 +128,23 @@ export class DashboardComponent implements OnInit {
   
   loadDashboardData(): void {
     this.loading = true;
-    this.applicationsService.getAll({ size: 100 }).subscribe({
-      next: (response) => {
+    // Explicit next actions come from the agenda (all applications, not only the first 100)
+    const horizon = new Date();
+    horizon.setDate(horizon.getDate() + 7);
+    forkJoin({
+      response: this.applicationsService.getAll({ size: 100 }),
+      agenda: this.agendaService.getPage({ to: this.toIsoDate(horizon), limit: 200 }),
+      activity: this.activityService.getPage({ limit: 10 }),
+      funnel: this.analyticsService.getFunnel()
+    }).subscribe({
+      next: ({ response, agenda, activity, funnel }) => {
         this.calculateStats(response.items);
-        this.generateNextActionItems(response.items);
+        this.stats.responseRate = this.responseRate(funnel);
+        this.generateNextActionItems(response.items, agenda.items);
         this.recentApplications = response.items
           .sort((a, b) => new Date(b.updatedAt).getTime() - new Date(a.updatedAt).getTime())
           .slice(0, 5);
-        this.generateTimelineEvents(response.items);
+        this.generateTimelineEvents(activity.items);
         this.generateWeeklyData(response.items);
         this.loading = false;
       },
@@ -141,6 +161,14 @@ export class DashboardComponent implements OnInit {
     });
   }
   
+  /**
+   * Applications that got an interview or a rejection, over all of them (from their status history)
+   */
+  private responseRate(funnel: Funnel): number {
+    const responses = funnel.bySource.reduce((sum, segment) => sum + segment.responses, 0);
+    return funnel.totalApplications > 0 ? Math.round((responses / funnel.totalApplications) * 100) : 0;
+  }
+
   calculateStats(applications: Application[]): void {
     this.stats.total = applications.length;
     
@@ -163,13 +191,6 @@ export class DashboardComponent implements OnInit {
       (statusCounts.get(ApplicationStatus.REJECTED) || 0) +
       (statusCounts.get(ApplicationStatus.GHOSTED) || 0);
     
-    // Response rate: (interviews + offers) / (total - ghosted)
-    const ghosted = statusCounts.get(ApplicationStatus.GHOSTED) || 0;
-    const denominator = this.stats.total - ghosted;
-    this.stats.responseRate = denominator > 0 
-      ? Math.round(((this.stats.interviewing + this.stats.offers) / denominator) * 100)
-      : 0;
-    
     // Status distribution
     this.statusStats = [
       { status: ApplicationStatus.APPLIED, label: ApplicationStatusLabels[ApplicationStatus.APPLIED], count: statusCounts.get(ApplicationStatus.APPLIED) || 0, color: '#3b82f6', percentage: 0 },
@@ -252,63 +273,95 @@ export class DashboardComponent implements OnInit {
     return `tone-${tone}`;
   }
   
-  private generateTimelineEvents(applications: Application[]): void {
-    this.timelineEvents = [...applications]
-      .sort((a, b) => new Date(b.updatedAt).getTime() - new Date(a.updatedAt).getTime())
-      .slice(0, 10)
-      .map(app => {
-        let type: TimelineEvent['type'] = 'application';
-        let icon = 'send';
-        let color = '#3b82f6';
-        
-        switch (app.status) {
-          case ApplicationStatus.HR_INTERVIEW:
-          case ApplicationStatus.TECH_INTERVIEW:
-            type = 'interview';
-            icon = 'event';
-            color = '#f59e0b';
-            break;
-          case ApplicationStatus.OFFER:
-            type = 'offer';
-            icon = 'local_offer';
-            color = '#22c55e';
-            break;
-          case ApplicationStatus.OFFER_ACCEPTED:
-            type = 'offerAccepted';
-            icon = 'verified';
-            color = '#15803d';
-            break;
-          case ApplicationStatus.OFFER_DECLINED:
-            type = 'offerDeclined';
-            icon = 'do_not_disturb_on';
-            color = '#f97316';
-            break;
-          case ApplicationStatus.REJECTED:
-          case ApplicationStatus.GHOSTED:
-            type = 'rejection';
-            icon = 'cancel';
-            color = '#ef4444';
-            break;
-        }
-        
-        return {
-          id: app.id,
-          type,
-          companyName: app.companyName,
-          roleTitle: app.roleTitle,
-          date: new Date(app.updatedAt),
-          icon,
-          color
-        };
-      });
+  private generateTimelineEvents(events: ActivityEvent[]): void {
+    this.timelineEvents = events.map(event => {
+      let type: TimelineEvent['type'] = 'application';
+      let icon = 'send';
+      let color = '#3b82f6';
+
+      switch (event.type) {
+        case 'APPLICATION_STATUS_CHANGED':
+          switch (event.status) {
+            case ApplicationStatus.HR_INTERVIEW:
+            case ApplicationStatus.TECH_INTERVIEW:
+              type = 'interview';
+              icon = 'event';
+              color = '#f59e0b';
+              break;
+            case ApplicationStatus.OFFER:
+              type = 'offer';
+              icon = 'local_offer';
+              color = '#22c55e';
+              break;
+            case ApplicationStatus.OFFER_ACCEPTED:
+              type = 'offerAccepted';
+              icon = 'verified';
+              color = '#15803d';
+              break;
+            case ApplicationStatus.OFFER_DECLINED:
+              type = 'offerDeclined';
+              icon = 'do_not_disturb_on';
+              color = '#f97316';
+              break;
+            case ApplicationStatus.REJECTED:
+            case ApplicationStatus.GHOSTED:
+              type = 'rejection';
+              icon = 'cancel';
+              color = '#ef4444';
+              break;
+            default:
+              type = 'statusChange';
+              icon = 'swap_horiz';
+              color = '#64748b';
+          }
+          break;
+        case 'NEXT_ACTION_CHANGED':
+          type = 'nextAction';
+          icon = 'flag';
+          color = '#8b5cf6';
+          break;
+        case 'INTERVIEW_CREATED':
+          type = 'interview';
+          icon = 'event';
+          color = '#f59e0b';
+          break;
+        case 'INTERVIEW_UPDATED':
+          type = 'interviewUpdated';
+          icon = 'edit_calendar';
+          color = '#f59e0b';
+          break;
+        case 'INTERVIEW_DELETED':
+          type = 'interviewDeleted';
+          icon = 'event_busy';
+          color = '#94a3b8';
+          break;
+      }
+
+      return {
+        applicationId: event.applicationId,
+        type,
+        // Interview entries carry the interview title instead of the company
+        companyName: event.companyName ?? event.title ?? '',
+        roleTitle: event.roleTitle ?? '',
+        date: new Date(event.at),
+        icon,
+        color
+      };
+    });
   }
 
-  private generateNextActionItems(applications: Application[]): void {
+  private generateNextActionItems(applications: Application[], agendaItems: AgendaItem[]): void {
     const today = new Date();
     today.setHours(0, 0, 0, 0);
 
-    const prioritizedItems = applications
-      .map(app => this.toNextActionItem(app, today))
+    const explicitItems = agendaItems
+      .filter(item => item.kind === 'NEXT_ACTION')
+      .map(item => this.toExplicitActionItem(item, today));
+    const suggestedItems = applications
+      .filter(app => !app.nextAction || app.nextAction.done)
+      .map(app => this.toSuggestedActionItem(app, today));
+
+    const prioritizedItems = [...explicitItems, ...suggestedItems]
       .filter((item): item is NextActionItem => item !== null)
       .sort((left, right) => left.priority - right.priority || left.sortDate - right.sortDate || left.companyName.localeCompare(right.companyName, 'fr'));
 
@@ -318,66 +371,69 @@ export class DashboardComponent implements OnInit {
     this.todayActionCount = prioritizedItems.filter(item => item.tone === 'today').length;
   }
 
-  private toNextActionItem(app: Application, today: Date): NextActionItem | null {
-    const base = { id: app.id, companyName: app.companyName, companyDomain: app.companyDomain, roleTitle: app.roleTitle, status: app.status };
-
-    if (app.nextAction && !app.nextAction.done) {
-      const actionDate = new Date(app.nextAction.date);
-      const hasValidDate = !Number.isNaN(actionDate.getTime());
-
-      if (!hasValidDate) {
-        return null;
-      }
+  private toExplicitActionItem(item: AgendaItem, today: Date): NextActionItem | null {
+    const status = item.applicationStatus ?? ApplicationStatus.APPLIED;
+    const base = { id: item.applicationId, companyName: item.companyName ?? '', companyDomain: item.companyDomain, roleTitle: item.roleTitle ?? '', status };
 
-      actionDate.setHours(0, 0, 0, 0);
-      const dayDelta = this.getDayDelta(today, actionDate);
-      const note = app.nextAction.note?.trim() || undefined;
-      const statusPriorityOffset = this.getExplicitActionPriorityOffset(app.status);
+    const actionDate = new Date(item.date ?? '');
+    const hasValidDate = !Number.isNaN(actionDate.getTime());
 
-      if (dayDelta < 0) {
-        return {
-          ...base,
-          label: note || 'Action en retard',
-          helperText: `Prévue le ${actionDate.toLocaleDateString('fr-FR')} • retard de ${Math.abs(dayDelta)} jour${Math.abs(dayDelta) > 1 ? 's' : ''}`,
-          icon: 'notification_important',
-          tone: 'overdue',
-          priority: statusPriorityOffset,
-          note,
-          sortDate: actionDate.getTime()
-        };
-      }
+    if (!hasValidDate) {
+      return null;
+    }
 
-      if (dayDelta === 0) {
-        return {
-          ...base,
-          label: note || 'Action prévue aujourd’hui',
-          helperText: 'À traiter aujourd’hui',
-          icon: 'today',
-          tone: 'today',
-          priority: 10 + statusPriorityOffset,
-          note,
-          sortDate: actionDate.getTime()
-        };
-      }
+    actionDate.setHours(0, 0, 0, 0);
+    const dayDelta = this.getDayDelta(today, actionDate);
+    const note = item.note?.trim() || undefined;
+    const statusPriorityOffset = this.getExplicitActionPriorityOffset(status);
 
-      if (dayDelta > 7) {
-        return null;
-      }
+    if (dayDelta < 0) {
+      return {
+        ...base,
+        label: note || 'Action en retard',
+        helperText: `Prévue le ${actionDate.toLocaleDateString('fr-FR')} • retard de ${Math.abs(dayDelta)} jour${Math.abs(dayDelta) > 1 ? 's' : ''}`,
+        icon: 'notification_important',
+        tone: 'overdue',
+        priority: statusPriorityOffset,
+        note,
+        sortDate: actionDate.getTime()
+      };
+    }
 
+    if (dayDelta === 0) {
       return {
         ...base,
-        label: note || 'Action planifiée',
-        helperText: dayDelta === 1
-          ? 'Prévue demain'
-          : `Prévue dans ${dayDelta} jours`,
-        icon: 'schedule',
-        tone: 'upcoming',
-        priority: 20 + statusPriorityOffset + dayDelta,
+        label: note || 'Action prévue aujourd’hui',
+        helperText: 'À traiter aujourd’hui',
+        icon: 'today',
+        tone: 'today',
+        priority: 10 + statusPriorityOffset,
         note,
         sortDate: actionDate.getTime()
       };
     }
 
+    if (dayDelta > 7) {
+      return null;
+    }
+
+    return {
+      ...base,
+      label: note || 'Action planifiée',
+      helperText: dayDelta === 1
+        ? 'Prévue demain'
+        : `Prévue dans ${dayDelta} jours`,
+      icon: 'schedule',
+      tone: 'upcoming',
+      priority: 20 + statusPriorityOffset + dayDelta,
+      note,
+      sortDate: actionDate.getTime()
+    };
+  }
+
+  private toSuggestedActionItem(app: Application, today: Date): NextActionItem | null {
+    const base = { id: app.id, companyName: app.companyName, companyDomain: app.companyDomain, roleTitle: app.roleTitle, status: app.status };
+
     const suggestion = this.getSuggestedAction(app, today);
     if (!suggestion) {
       return null;
@@ -468,6 +524,12 @@ export class DashboardComponent implements OnInit {
     return Math.round(diffMs / 86400000);
   }
 
+  private toIsoDate(date: Date): string {
+    const month = String(date.getMonth() + 1).padStart(2, '0');
+    const day = String(date.getDate()).padStart(2, '0');
+    return `${date.getFullYear()}-${month}-${day}`;
+  }
+
   private toStartOfDay(date: Date): Date {
     const normalized = new Date(date);
     normalized.setHours(0, 0, 0, 0);
@@ -546,7 +608,11 @@ export class DashboardComponent implements OnInit {
   getEventTypeLabel(type: TimelineEvent['type']): string {
     const labels = {
       'application': 'Candidature envoyée',
+      'statusChange': 'Statut modifié',
       'interview': 'Entretien programmé',
+      'interviewUpdated': 'Entretien modifié',
+      'interviewDeleted': 'Entretien supprimé',
+      'nextAction': 'Prochaine action',
       'offer': 'Offre reçue',
       'offerAccepted': 'Offre acceptée',
       'offerDeclined': 'Offre déclinée',